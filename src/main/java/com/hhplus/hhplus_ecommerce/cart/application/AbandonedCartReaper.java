@@ -0,0 +1,80 @@
+package com.hhplus.hhplus_ecommerce.cart.application;
+
+import com.hhplus.hhplus_ecommerce.cart.domain.CartEvictionResult;
+import com.hhplus.hhplus_ecommerce.cart.infrastructure.InMemoryCartItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 방치된 장바구니 정리
+ * - 마지막 변경 후 cart.idle-ttl이 지난 장바구니를 오래된 순으로 통째로 제거
+ * - 메모리 사용량 추정치가 cart.memory-budget을 넘으면 가장 오래 변경되지 않은 장바구니부터 통째로 제거 (LRU)
+ * - 한 번 실행할 때 각각 최대 cart.reaper.slice-size개만 처리하고, 남은 장바구니는 다음 실행에서 이어서 처리
+ * - 제거된 장바구니의 보기도 같은 사용자 변경과 직렬화하여 읽기 모델에서 버림
+ *   (보기는 항목이 남은 장바구니에만 보관되므로 장바구니 수를 제한하면 보기 수도 함께 제한됨)
+ */
+@Slf4j
+@Component
+public class AbandonedCartReaper {
+
+    private final InMemoryCartItemRepository cartItemRepository;
+    private final CartReadModel cartReadModel;
+    private final Duration idleTtl;
+    private final long memoryBudgetBytes;
+    private final int sliceSize;
+
+    // 누적 정리 결과 (모니터링용)
+    private final AtomicLong evictedCarts = new AtomicLong();
+    private final AtomicLong reclaimedBytes = new AtomicLong();
+
+    public AbandonedCartReaper(InMemoryCartItemRepository cartItemRepository,
+                               CartReadModel cartReadModel,
+                               @Value("${cart.idle-ttl:7d}") Duration idleTtl,
+                               @Value("${cart.memory-budget:64MB}") DataSize memoryBudget,
+                               @Value("${cart.reaper.slice-size:1000}") int sliceSize) {
+        this.cartItemRepository = cartItemRepository;
+        this.cartReadModel = cartReadModel;
+        this.idleTtl = idleTtl;
+        this.memoryBudgetBytes = memoryBudget.toBytes();
+        this.sliceSize = sliceSize;
+    }
+
+    @Scheduled(fixedDelayString = "${cart.reaper.interval:10s}")
+    public CartEvictionResult reap() {
+        return reap(System.currentTimeMillis());
+    }
+
+    // nowMillis 기준으로 방치된 장바구니와 예산 초과분을 한 조각씩 정리하고 이번 실행의 결과 반환
+    public CartEvictionResult reap(long nowMillis) {
+        // 장바구니마다 제거와 보기 무효화를 읽기 모델의 사용자 compute 안에서 함께 수행
+        CartEvictionResult idle = cartItemRepository.evictIdleCarts(
+                nowMillis - idleTtl.toMillis(), sliceSize, cartReadModel::applyEviction);
+        CartEvictionResult overBudget = cartItemRepository.evictOverBudget(
+                memoryBudgetBytes, sliceSize, cartReadModel::applyEviction);
+        CartEvictionResult result = idle.plus(overBudget);
+        if (result.getEvictedCarts() == 0) {
+            return result;
+        }
+
+        evictedCarts.addAndGet(result.getEvictedCarts());
+        reclaimedBytes.addAndGet(result.getReclaimedBytes());
+        log.info("Evicted carts: idle={}, overBudget={}, reclaimedBytes={}, usedBytes={}",
+                idle.getEvictedCarts(), overBudget.getEvictedCarts(), result.getReclaimedBytes(),
+                cartItemRepository.getUsedBytes());
+        return result;
+    }
+
+    public long getEvictedCarts() {
+        return evictedCarts.get();
+    }
+
+    public long getReclaimedBytes() {
+        return reclaimedBytes.get();
+    }
+}
@@ -0,0 +1,190 @@
+package com.hhplus.hhplus_ecommerce.cart.application;
+
+import com.hhplus.hhplus_ecommerce.cart.domain.CartItem;
+import com.hhplus.hhplus_ecommerce.cart.domain.CartLine;
+import com.hhplus.hhplus_ecommerce.cart.domain.CartView;
+import com.hhplus.hhplus_ecommerce.cart.repository.CartItemRepository;
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductPriceChangedEvent;
+import com.hhplus.hhplus_ecommerce.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 장바구니 읽기 모델
+ * - 처음 조회할 때 장바구니 항목과 상품 정보를 한 번의 일괄 조회로 합쳐 보기(CartView)를 만들고 사용자별로 보관
+ * - 추가/삭제/수량 감소는 바뀐 줄만 고치고 총 금액을 소계 차이만큼 조정 (다시 합치지 않음)
+ * - 상품 가격이 바뀌면 그 상품이 담긴 보기를 무효화하여 다음 조회 때 다시 합침
+ * - 장바구니 변경은 사용자 보기의 compute 안에서 수행하여 보기 생성/갱신과 순서가 섞이지 않도록 직렬화
+ *   (장바구니 항목은 이 클래스를 거쳐서만 변경해야 보기와 어긋나지 않음)
+ * - 빈 보기는 보관하지 않으므로 보관된 보기는 항목이 남아 있는 장바구니에만 있고,
+ *   장바구니가 비워지거나 방치된 장바구니 정리로 제거될 때 함께 버려짐 (보기 수는 저장소의 장바구니 수를 넘지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class CartReadModel {
+
+    private final CartItemRepository cartItemRepository;
+    private final ProductRepository productRepository;
+
+    // 사용자ID -> 장바구니 보기
+    private final Map<Long, CartView> views = new ConcurrentHashMap<>();
+    // 상품ID -> 보기에 그 상품이 담긴 사용자ID (가격 변경 시 무효화 대상, 남은 항목이 있어도 불필요한 무효화만 생김)
+    private final Map<Long, Set<Long>> cartsByProduct = new ConcurrentHashMap<>();
+
+    public CartView getCartView(Long userId) {
+        CartView cached = views.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        CartView[] result = new CartView[1];
+        views.compute(userId, (key, view) -> {
+            result[0] = view != null ? view : load(userId);
+            return retained(result[0]);
+        });
+        return result[0];
+    }
+
+    /**
+     * 장바구니 항목 변경을 수행하고 보기에 반영
+     * - change는 변경 후 항목(삭제되었으면 null)을 반환
+     * - 보기가 없으면 변경만 수행 (다음 조회 때 만듦)
+     */
+    public CartItem applyChange(Long userId, Long productId, Supplier<CartItem> change) {
+        CartItem[] result = new CartItem[1];
+        views.compute(userId, (key, view) -> {
+            result[0] = change.get();
+            return view != null ? retained(applyLine(view, userId, productId, result[0])) : null;
+        });
+        return result[0];
+    }
+
+    // 장바구니 전체 삭제를 수행하고 보기를 버림 (다음 조회 때 빈 보기를 보관하지 않고 반환)
+    public void applyClear(Long userId, Runnable clear) {
+        views.compute(userId, (key, view) -> {
+            clear.run();
+            if (view != null) {
+                view.getLines().forEach(line -> unregister(line.getProductId(), userId));
+            }
+            return null;
+        });
+    }
+
+    @EventListener
+    public void onProductPriceChanged(ProductPriceChangedEvent event) {
+        invalidateProduct(event.getProductId());
+    }
+
+    // 상품이 담긴 보기를 모두 무효화 (다음 조회 때 바뀐 상품 정보로 다시 합침)
+    public void invalidateProduct(Long productId) {
+        Set<Long> userIds = cartsByProduct.remove(productId);
+        if (userIds != null) {
+            userIds.forEach(views::remove);
+        }
+    }
+
+    /**
+     * 장바구니 통째 정리를 수행하고 정리되었으면 보기를 버림
+     * - evict는 회수한 메모리(추정치)를 반환하고, 0이면 그 사이 변경되어 남겨 둔 것이므로 보기를 유지
+     * - 다른 장바구니 변경과 같은 compute 안에서 수행하여 정리 직후 이전 보기가 반환되지 않음
+     */
+    public long applyEviction(Long userId, LongSupplier evict) {
+        long[] freed = {0};
+        views.compute(userId, (key, view) -> {
+            freed[0] = evict.getAsLong();
+            if (freed[0] == 0) {
+                return view;
+            }
+            if (view != null) {
+                view.getLines().forEach(line -> unregister(line.getProductId(), userId));
+            }
+            return null;
+        });
+        return freed[0];
+    }
+
+    public void clear() {
+        views.clear();
+        cartsByProduct.clear();
+    }
+
+    // 보관 중인 보기 수 (모니터링용)
+    public int getViewCount() {
+        return views.size();
+    }
+
+    // 보관할 보기 (비었거나 없으면 null로 보관하지 않음)
+    private static CartView retained(CartView view) {
+        return view != null && !view.getLines().isEmpty() ? view : null;
+    }
+
+    // 장바구니 항목과 상품 정보를 합쳐 보기 생성 (상품 조회는 한 번에, 없는 상품의 항목은 제외)
+    private CartView load(Long userId) {
+        List<CartItem> items = cartItemRepository.findByUserId(userId);
+        Set<Long> productIds = new LinkedHashSet<>();
+        for (CartItem item : items) {
+            productIds.add(item.getProductId());
+        }
+        // 상품 조회 전에 등록해야 조회 도중의 가격 변경도 이 보기를 무효화함
+        productIds.forEach(productId -> register(productId, userId));
+        Map<Long, Product> products = productRepository.findAllById(productIds);
+
+        List<CartLine> lines = new ArrayList<>(items.size());
+        for (CartItem item : items) {
+            Product product = products.get(item.getProductId());
+            if (product != null) {
+                lines.add(CartLine.of(item, product.getName(), product.getPrice()));
+            } else {
+                unregister(item.getProductId(), userId);
+            }
+        }
+        return CartView.of(userId, lines);
+    }
+
+    // 바뀐 항목 하나를 보기에 반영 (보기에 없던 상품이면 그 상품만 조회, 상품이 없으면 보기를 버림)
+    private CartView applyLine(CartView view, Long userId, Long productId, CartItem item) {
+        if (item == null) {
+            unregister(productId, userId);
+            return view.withoutLine(productId);
+        }
+        CartLine line = view.findLine(productId);
+        if (line != null) {
+            return view.withLine(line.withQuantity(item));
+        }
+        register(productId, userId);
+        Optional<Product> product = productRepository.findById(productId);
+        if (product.isEmpty()) {
+            view.getLines().forEach(existing -> unregister(existing.getProductId(), userId));
+            unregister(productId, userId);
+            return null;
+        }
+        return view.withLine(CartLine.of(item, product.get().getName(), product.get().getPrice()));
+    }
+
+    // 무효화(remove)와 겹쳐 이미 빠진 집합에 등록되지 않도록 추가도 compute 안에서 수행
+    private void register(Long productId, Long userId) {
+        cartsByProduct.compute(productId, (k, userIds) -> {
+            Set<Long> target = userIds != null ? userIds : ConcurrentHashMap.newKeySet();
+            target.add(userId);
+            return target;
+        });
+    }
+
+    private void unregister(Long productId, Long userId) {
+        cartsByProduct.computeIfPresent(productId, (k, userIds) -> {
+            userIds.remove(userId);
+            return userIds.isEmpty() ? null : userIds;
+        });
+    }
+}
@@ -1,45 +1,38 @@
 package com.hhplus.hhplus_ecommerce.cart.application;
 
 import com.hhplus.hhplus_ecommerce.cart.domain.CartItem;
+import com.hhplus.hhplus_ecommerce.cart.domain.CartView;
 import com.hhplus.hhplus_ecommerce.cart.repository.CartItemRepository;
 import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
 import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
-import com.hhplus.hhplus_ecommerce.product.domain.Product;
 import com.hhplus.hhplus_ecommerce.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class CartService {
     private final CartItemRepository cartItemRepository;
     private final ProductRepository productRepository;
+    private final CartReadModel cartReadModel;
 
     // 장바구니 추가
     public CartItem addCartItem(Long userId, Long productId, Integer quantity) {
-        // 1. 상품 조회
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+        // 1. 상품 재고 조회 (상품은 변경마다 새 버전으로 교체되므로 Lock 없이 읽어도 재고 쓰기를 기다리지 않음)
+        int stock = productRepository.findById(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND))
+                .getStock();
 
         // 2. 재고 확인
-        if (product.getStock() < quantity) {
+        if (stock < quantity) {
             throw new BusinessException(ErrorCode.PRODUCT_INSUFFICIENT_STOCK);
         }
 
-        // 3. 이미 장바구니에 있는지 확인 (있으면 수량 증가, 없으면 새로 생성)
-        Optional<CartItem> existingItem = cartItemRepository.findByUserIdAndProductId(userId, productId);
-
-        if (existingItem.isPresent()) {
-            CartItem cartItem = existingItem.get();
-            cartItem.increaseQuantity(quantity);
-            return cartItemRepository.save(cartItem);
-        } else {
-            CartItem newCartItem = CartItem.create(userId, productId, quantity);
-            return cartItemRepository.save(newCartItem);
-        }
+        // 3. 장바구니에 있으면 수량 증가, 없으면 새로 생성 (저장소에서 원자적으로 처리)
+        return cartReadModel.applyChange(userId, productId,
+                () -> cartItemRepository.upsertQuantity(userId, productId, quantity));
     }
 
     //장바구니 조회
@@ -47,6 +40,11 @@ public class CartService {
         return cartItemRepository.findByUserId(userId);
     }
 
+    // 장바구니 보기 조회: 상품명/단가/소계/총 금액이 합쳐진 결과 (읽기 모델에 보관된 보기 재사용)
+    public CartView getCartView(Long userId) {
+        return cartReadModel.getCartView(userId);
+    }
+
     //장바구니 삭제 1. 특정 항목 완전 삭제 (userId 검증 추가)
     public void removeCartItem(Long userId, Long cartItemId) {
         CartItem cartItem = cartItemRepository.findById(cartItemId)
@@ -57,7 +55,10 @@ public class CartService {
             throw new BusinessException(ErrorCode.CART_ITEM_ACCESS_DENIED);
         }
 
-        cartItemRepository.delete(cartItemId);
+        cartReadModel.applyChange(userId, cartItem.getProductId(), () -> {
+            cartItemRepository.delete(cartItemId);
+            return null;
+        });
     }
 
     //장바구니 삭제 2. 수량만 감소 (수량 1개씩 빼기)
@@ -69,23 +70,14 @@ public class CartService {
             throw new BusinessException(ErrorCode.CART_ITEM_ACCESS_DENIED);
         }
 
-        // 수량 감소
-        int newQuantity = cartItem.getQuantity() - quantity;
-
-        if (newQuantity <= 0) {
-            // 수량이 0 이하면 삭제
-            cartItemRepository.delete(cartItemId);
-            return null;
-        } else {
-            // 수량 업데이트
-            cartItem.updateQuantity(newQuantity);
-            return cartItemRepository.save(cartItem);
-        }
+        // 수량 감소: 현재 수량 기준 계산과 저장을 저장소에서 원자적으로 처리 (0 이하가 되면 삭제하고 null 반환)
+        return cartReadModel.applyChange(userId, cartItem.getProductId(),
+                () -> cartItemRepository.upsertQuantity(userId, cartItem.getProductId(), -quantity));
     }
 
 
     //장바구니 전체 삭제
     public void clearCart(Long userId) {
-        cartItemRepository.deleteAllByUserId(userId);
+        cartReadModel.applyClear(userId, () -> cartItemRepository.deleteAllByUserId(userId));
     }
 }
@@ -1,24 +1,31 @@
 package com.hhplus.hhplus_ecommerce.cart.controller;
 
+import com.hhplus.hhplus_ecommerce.cart.application.CartService;
+import com.hhplus.hhplus_ecommerce.cart.domain.CartView;
 import com.hhplus.hhplus_ecommerce.cart.dto.request.AddCartItemRequest;
 import com.hhplus.hhplus_ecommerce.cart.dto.response.*;
 import com.hhplus.hhplus_ecommerce.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 장바구니 API 구현체
  * - CartApi 인터페이스를 구현
- * - 실제 장바구니 로직 처리 (현재는 Mock 데이터)
+ * - 장바구니 조회는 읽기 모델(CartReadModel)의 보기 사용, 나머지는 Mock 데이터
  */
 @RestController
 @RequestMapping("/api/cart")
+@RequiredArgsConstructor
 public class CartController implements CartApi {
 
+    private final CartService cartService;
+
     @Override
     public ResponseEntity<ApiResponse<CartItemResponse>> addCartItem(AddCartItemRequest request) {
         // Mock 데이터
@@ -44,14 +51,20 @@ public class CartController implements CartApi {
 
     @Override
     public ResponseEntity<ApiResponse<CartListResponse>> getCartItems(Long userId) {
-        // Mock 데이터
-        List<CartDto> cartItems = List.of(
-                new CartDto(1L, 1L, "Macbook Pro", 2, 2000000, 4000000),
-                new CartDto(2L, 2L, "iPhone 12", 1, 1200000, 1200000)
-        );
+        CartView cartView = cartService.getCartView(userId);
+
+        List<CartDto> cartItems = cartView.getLines().stream()
+                .map(line -> new CartDto(
+                        line.getCartItemId(),
+                        line.getProductId(),
+                        line.getProductName(),
+                        line.getQuantity(),
+                        line.getUnitPrice(),
+                        line.getSubtotal()))
+                .collect(Collectors.toList());
 
-        CartListResponse response = new CartListResponse(cartItems, 5200000);
+        CartListResponse response = new CartListResponse(cartItems, cartView.getTotalAmount());
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package com.hhplus.hhplus_ecommerce.cart.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장바구니 정리 결과: 통째로 제거된 장바구니의 사용자ID와 회수한 메모리(추정치)
+ */
+@Getter
+@AllArgsConstructor
+public class CartEvictionResult {
+    private final List<Long> userIds;
+    private final long reclaimedBytes;
+
+    public static CartEvictionResult empty() {
+        return new CartEvictionResult(List.of(), 0);
+    }
+
+    public int getEvictedCarts() {
+        return userIds.size();
+    }
+
+    public CartEvictionResult plus(CartEvictionResult other) {
+        List<Long> merged = new ArrayList<>(userIds);
+        merged.addAll(other.userIds);
+        return new CartEvictionResult(merged, reclaimedBytes + other.reclaimedBytes);
+    }
+}
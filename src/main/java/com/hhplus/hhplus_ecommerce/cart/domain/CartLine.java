@@ -0,0 +1,30 @@
+package com.hhplus.hhplus_ecommerce.cart.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 장바구니 보기의 한 줄 (장바구니 항목 + 상품 정보)
+ */
+@Getter
+@AllArgsConstructor
+public class CartLine {
+    private final Long cartItemId;
+    private final Long productId;
+    private final String productName;
+    private final Integer quantity;
+    private final Integer unitPrice;
+
+    public static CartLine of(CartItem cartItem, String productName, Integer unitPrice) {
+        return new CartLine(cartItem.getId(), cartItem.getProductId(), productName, cartItem.getQuantity(), unitPrice);
+    }
+
+    public Integer getSubtotal() {
+        return unitPrice * quantity;
+    }
+
+    // 수량만 바뀐 줄 (상품 정보는 그대로)
+    public CartLine withQuantity(CartItem cartItem) {
+        return new CartLine(cartItem.getId(), productId, productName, cartItem.getQuantity(), unitPrice);
+    }
+}
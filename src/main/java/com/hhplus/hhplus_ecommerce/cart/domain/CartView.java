@@ -0,0 +1,75 @@
+package com.hhplus.hhplus_ecommerce.cart.domain;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 장바구니 보기: 상품 정보가 합쳐진 줄 목록과 총 금액
+ * - 변경할 때마다 새 보기를 만들며, 총 금액은 바뀐 줄의 소계 차이만큼만 다시 계산
+ */
+@Getter
+public class CartView {
+    private final Long userId;
+    private final List<CartLine> lines;
+    private final Integer totalAmount;
+
+    private CartView(Long userId, List<CartLine> lines, Integer totalAmount) {
+        this.userId = userId;
+        this.lines = Collections.unmodifiableList(lines);
+        this.totalAmount = totalAmount;
+    }
+
+    public static CartView of(Long userId, List<CartLine> lines) {
+        int totalAmount = 0;
+        for (CartLine line : lines) {
+            totalAmount += line.getSubtotal();
+        }
+        return new CartView(userId, new ArrayList<>(lines), totalAmount);
+    }
+
+    public CartLine findLine(Long productId) {
+        for (CartLine line : lines) {
+            if (line.getProductId().equals(productId)) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    // 상품의 줄을 바꾸거나(없으면 추가) 총 금액을 소계 차이만큼 조정
+    public CartView withLine(CartLine line) {
+        List<CartLine> changed = new ArrayList<>(lines.size() + 1);
+        int totalChange = line.getSubtotal();
+        boolean replaced = false;
+        for (CartLine current : lines) {
+            if (current.getProductId().equals(line.getProductId())) {
+                changed.add(line);
+                totalChange -= current.getSubtotal();
+                replaced = true;
+            } else {
+                changed.add(current);
+            }
+        }
+        if (!replaced) {
+            changed.add(line);
+        }
+        return new CartView(userId, changed, totalAmount + totalChange);
+    }
+
+    // 상품의 줄을 빼고 총 금액에서 그 소계를 차감
+    public CartView withoutLine(Long productId) {
+        List<CartLine> changed = new ArrayList<>(lines.size());
+        int totalChange = 0;
+        for (CartLine current : lines) {
+            if (current.getProductId().equals(productId)) {
+                totalChange -= current.getSubtotal();
+            } else {
+                changed.add(current);
+            }
+        }
+        return new CartView(userId, changed, totalAmount + totalChange);
+    }
+}
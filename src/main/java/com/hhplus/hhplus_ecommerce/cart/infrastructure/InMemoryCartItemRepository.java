@@ -1,38 +1,77 @@
 package com.hhplus.hhplus_ecommerce.cart.infrastructure;
 
+import com.hhplus.hhplus_ecommerce.cart.domain.CartEvictionResult;
 import com.hhplus.hhplus_ecommerce.cart.domain.CartItem;
 import com.hhplus.hhplus_ecommerce.cart.repository.CartItemRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
 
+/**
+ * 장바구니 항목 저장소
+ * - 항목ID 기준 저장소와 사용자별 색인(사용자ID -> 상품ID -> 항목)을 함께 유지
+ * - 사용자 기준 조회/삭제는 해당 사용자의 장바구니 항목 수에만 비례 (전체 장바구니를 훑지 않음)
+ * - 한 사용자의 변경은 색인의 compute 안에서 수행하여 저장소와 색인이 어긋나지 않도록 직렬화
+ * - 사용자/상품 조합마다 항목은 하나 (같은 조합의 새 항목을 저장하면 이전 항목을 대체)
+ * - 장바구니별 마지막 변경 시각을 (시각, 사용자ID) 순으로 정렬해 두고, 정리는 가장 오래된 장바구니부터 꺼내 처리
+ *   (방치된 장바구니 정리와 메모리 예산 초과 시 LRU 정리 모두 전체를 훑지 않고 필요한 만큼만 확인)
+ */
 @Repository
 public class InMemoryCartItemRepository implements CartItemRepository {
 
+    // 메모리 사용량 추정치 (항목: CartItem과 박싱된 필드, 두 맵의 엔트리 / 장바구니: 사용자별 맵과 정렬 키)
+    public static final long ITEM_BYTES = 320;
+    public static final long CART_BYTES = 320;
+
     private final Map<Long, CartItem> store = new ConcurrentHashMap<>();
+    // 사용자ID -> 장바구니 (상품ID -> 장바구니 항목)
+    private final Map<Long, Cart> userIndex = new ConcurrentHashMap<>();
+    // 마지막 변경 시각순 장바구니 (장바구니마다 키 하나, 변경은 사용자 색인의 compute 안에서 수행)
+    private final NavigableSet<TouchKey> touchIndex = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong(TouchKey::getTouchedMillis).thenComparingLong(TouchKey::getUserId));
+    private final AtomicLong usedBytes = new AtomicLong();
     private final AtomicLong idGenerator = new AtomicLong(1);
 
     @Override
     public CartItem save(CartItem cartItem) {
+        CartItem target = cartItem;
         if (cartItem.getId() == null) {
-            CartItem newItem = CartItem.builder()
+            target = CartItem.builder()
                     .id(idGenerator.getAndIncrement())
                     .userId(cartItem.getUserId())
                     .productId(cartItem.getProductId())
                     .quantity(cartItem.getQuantity())
                     .createdAt(cartItem.getCreatedAt())
                     .build();
-            store.put(newItem.getId(), newItem);
-            return newItem;
-        } else {
-            store.put(cartItem.getId(), cartItem);
-            return cartItem;
         }
+        CartItem saved = target;
+        userIndex.compute(saved.getUserId(), (userId, current) -> {
+            Cart cart = current != null ? current : new Cart();
+            CartItem previous = store.put(saved.getId(), saved);
+            // 같은 항목의 상품이 바뀐 경우 이전 상품 자리를 비움
+            if (previous != null && !previous.getProductId().equals(saved.getProductId())) {
+                removeItem(cart, previous);
+            }
+            // 같은 사용자/상품의 다른 항목이 있으면 대체 (동시 추가로 생긴 중복 항목이 저장소에 남지 않도록)
+            CartItem displaced = putItem(cart, saved);
+            if (displaced != null && !displaced.getId().equals(saved.getId())) {
+                store.remove(displaced.getId(), displaced);
+            }
+            return settle(userId, cart);
+        });
+        return saved;
     }
 
     @Override
@@ -40,37 +79,248 @@ public class InMemoryCartItemRepository implements CartItemRepository {
         return Optional.ofNullable(store.get(id));
     }
 
+    // 사용자의 장바구니 항목 (담은 순서 = 항목ID순)
     @Override
     public List<CartItem> findByUserId(Long userId) {
-        return store.values().stream()
-                .filter(item -> userId.equals(item.getUserId()))
-                .collect(Collectors.toList());
+        Cart cart = userIndex.get(userId);
+        if (cart == null) {
+            return new ArrayList<>();
+        }
+        List<CartItem> items = new ArrayList<>(cart.items.values());
+        items.sort(Comparator.comparing(CartItem::getId));
+        return items;
     }
 
     @Override
     public Optional<CartItem> findByUserIdAndProductId(Long userId, Long productId) {
-        return store.values().stream()
-                .filter(item -> userId.equals(item.getUserId()) && productId.equals(item.getProductId()))
-                .findFirst();
+        Cart cart = userIndex.get(userId);
+        return cart != null ? Optional.ofNullable(cart.items.get(productId)) : Optional.empty();
+    }
+
+    /**
+     * 사용자/상품 항목의 수량 변경 또는 생성
+     * - 조회, 수량 계산, 저장을 사용자 색인의 compute 한 번으로 수행하므로 동시 호출에도 변경이 유실되지 않음
+     * - 조회 중인 스레드가 수정 중인 항목을 보지 않도록 항목을 고치지 않고 새 항목으로 교체
+     */
+    @Override
+    public CartItem upsertQuantity(Long userId, Long productId, int delta) {
+        CartItem[] result = new CartItem[1];
+        userIndex.compute(userId, (key, current) -> {
+            Cart cart = current != null ? current : new Cart();
+            CartItem existing = cart.items.get(productId);
+            int quantity = (existing != null ? existing.getQuantity() : 0) + delta;
+            if (quantity <= 0) {
+                if (existing != null) {
+                    removeItem(cart, existing);
+                    store.remove(existing.getId());
+                }
+                return settle(userId, cart);
+            }
+            LocalDateTime now = LocalDateTime.now();
+            CartItem updated = CartItem.builder()
+                    .id(existing != null ? existing.getId() : idGenerator.getAndIncrement())
+                    .userId(userId)
+                    .productId(productId)
+                    .quantity(quantity)
+                    .createdAt(existing != null ? existing.getCreatedAt() : now)
+                    .build();
+            putItem(cart, updated);
+            store.put(updated.getId(), updated);
+            result[0] = updated;
+            return settle(userId, cart);
+        });
+        return result[0];
     }
 
     @Override
     public void delete(Long id) {
-        store.remove(id);
+        CartItem item = store.get(id);
+        if (item == null) {
+            return;
+        }
+        userIndex.computeIfPresent(item.getUserId(), (userId, cart) -> {
+            CartItem removed = store.remove(id);
+            if (removed != null) {
+                removeItem(cart, removed);
+            }
+            return settle(userId, cart);
+        });
     }
 
     @Override
     public void deleteAllByUserId(Long userId) {
-        List<Long> toDelete = store.values().stream()
-                .filter(item -> userId.equals(item.getUserId()))
-                .map(CartItem::getId)
-                .collect(Collectors.toList());
+        userIndex.computeIfPresent(userId, (key, cart) -> {
+            evictCart(userId, cart);
+            return null;
+        });
+    }
+
+    /**
+     * 마지막 변경 시각이 idleBeforeMillis 이전인 장바구니를 오래된 순으로 최대 maxCarts개 통째로 제거
+     * - 정렬된 시각 색인의 앞쪽만 확인하므로 비용은 제거한 장바구니 수에 비례
+     */
+    public CartEvictionResult evictIdleCarts(long idleBeforeMillis, int maxCarts) {
+        return evictIdleCarts(idleBeforeMillis, maxCarts, EvictionScope.DIRECT);
+    }
+
+    // 장바구니 하나의 제거를 scope 안에서 실행 (읽기 모델 보기 무효화를 같은 사용자 변경과 직렬화할 때 사용)
+    public CartEvictionResult evictIdleCarts(long idleBeforeMillis, int maxCarts, EvictionScope scope) {
+        return evictOldest(maxCarts, touchedMillis -> touchedMillis < idleBeforeMillis, scope);
+    }
+
+    // 메모리 사용량 추정치가 예산을 넘는 동안 가장 오래 변경되지 않은 장바구니부터 최대 maxCarts개 통째로 제거 (LRU)
+    public CartEvictionResult evictOverBudget(long budgetBytes, int maxCarts) {
+        return evictOverBudget(budgetBytes, maxCarts, EvictionScope.DIRECT);
+    }
+
+    public CartEvictionResult evictOverBudget(long budgetBytes, int maxCarts, EvictionScope scope) {
+        return evictOldest(maxCarts, touchedMillis -> usedBytes.get() > budgetBytes, scope);
+    }
 
-        toDelete.forEach(store::remove);
+    // 장바구니 메모리 사용량 추정치
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    public int getCartCount() {
+        return userIndex.size();
     }
 
     public void clear() {
         store.clear();
+        userIndex.clear();
+        touchIndex.clear();
+        usedBytes.set(0);
         idGenerator.set(1);
     }
-}
\ No newline at end of file
+
+    private CartEvictionResult evictOldest(int maxCarts, LongPredicate shouldEvict, EvictionScope scope) {
+        List<Long> userIds = new ArrayList<>();
+        long reclaimed = 0;
+        while (userIds.size() < maxCarts) {
+            Iterator<TouchKey> oldestFirst = touchIndex.iterator();
+            if (!oldestFirst.hasNext()) {
+                break;
+            }
+            TouchKey oldest = oldestFirst.next();
+            if (!shouldEvict.test(oldest.touchedMillis)) {
+                break;
+            }
+            long freed = scope.evict(oldest.userId, () -> evictIfUntouched(oldest));
+            // 교체되어 남은 키가 다시 꺼내지지 않도록 제거
+            touchIndex.remove(oldest);
+            if (freed > 0) {
+                userIds.add(oldest.userId);
+                reclaimed += freed;
+            }
+        }
+        return new CartEvictionResult(userIds, reclaimed);
+    }
+
+    // 키를 꺼낸 뒤 변경되지 않은 장바구니만 제거하고 회수한 메모리(추정치) 반환 (제거하지 않았으면 0)
+    private long evictIfUntouched(TouchKey oldest) {
+        long[] freed = {0};
+        userIndex.computeIfPresent(oldest.userId, (userId, cart) -> {
+            // 그 사이 변경되었으면 이 키는 이미 교체되었으므로 장바구니는 그대로 둠
+            if (cart.touchedMillis != oldest.touchedMillis) {
+                return cart;
+            }
+            freed[0] = evictCart(userId, cart);
+            return null;
+        });
+        return freed[0];
+    }
+
+    // 장바구니의 항목과 정렬 키를 모두 제거하고 회수한 메모리(추정치) 반환 (사용자 색인의 compute 안에서 호출)
+    private long evictCart(Long userId, Cart cart) {
+        cart.items.values().forEach(item -> store.remove(item.getId()));
+        long freed = cart.items.size() * ITEM_BYTES + (cart.isIndexed() ? CART_BYTES : 0);
+        if (cart.isIndexed()) {
+            touchIndex.remove(new TouchKey(cart.touchedMillis, userId));
+        }
+        usedBytes.addAndGet(-freed);
+        return freed;
+    }
+
+    private CartItem putItem(Cart cart, CartItem item) {
+        CartItem previous = cart.items.put(item.getProductId(), item);
+        if (previous == null) {
+            usedBytes.addAndGet(ITEM_BYTES);
+        }
+        return previous;
+    }
+
+    private void removeItem(Cart cart, CartItem item) {
+        if (cart.items.remove(item.getProductId(), item)) {
+            usedBytes.addAndGet(-ITEM_BYTES);
+        }
+    }
+
+    /**
+     * 변경을 마친 장바구니 정리 (사용자 색인의 compute 안에서 호출)
+     * - 비었으면 정렬 키를 지우고 null (색인에서 제거)
+     * - 아니면 마지막 변경 시각을 지금으로 바꿔 정렬 키 교체
+     */
+    private Cart settle(Long userId, Cart cart) {
+        if (cart.items.isEmpty()) {
+            if (cart.isIndexed()) {
+                touchIndex.remove(new TouchKey(cart.touchedMillis, userId));
+                usedBytes.addAndGet(-CART_BYTES);
+            }
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (cart.touchedMillis != now) {
+            if (cart.isIndexed()) {
+                touchIndex.remove(new TouchKey(cart.touchedMillis, userId));
+            } else {
+                usedBytes.addAndGet(CART_BYTES);
+            }
+            cart.touchedMillis = now;
+            touchIndex.add(new TouchKey(now, userId));
+        }
+        return cart;
+    }
+
+    /**
+     * 장바구니 하나의 제거를 감싸 실행하는 범위
+     * - eviction은 제거했으면 회수한 메모리(추정치), 그 사이 변경되어 남겨 두었으면 0을 반환
+     * - 구현은 eviction을 한 번 실행하고 그 결과를 그대로 반환해야 함
+     */
+    @FunctionalInterface
+    public interface EvictionScope {
+        EvictionScope DIRECT = (userId, eviction) -> eviction.getAsLong();
+
+        long evict(Long userId, LongSupplier eviction);
+    }
+
+    // 한 사용자의 장바구니 (touchedMillis는 사용자 색인의 compute 안에서만 읽고 씀)
+    private static final class Cart {
+        private static final long NOT_INDEXED = -1;
+
+        private final Map<Long, CartItem> items = new ConcurrentHashMap<>();
+        private long touchedMillis = NOT_INDEXED;
+
+        private boolean isIndexed() {
+            return touchedMillis != NOT_INDEXED;
+        }
+    }
+
+    private static final class TouchKey {
+        private final long touchedMillis;
+        private final long userId;
+
+        private TouchKey(long touchedMillis, long userId) {
+            this.touchedMillis = touchedMillis;
+            this.userId = userId;
+        }
+
+        private long getTouchedMillis() {
+            return touchedMillis;
+        }
+
+        private long getUserId() {
+            return userId;
+        }
+    }
+}
@@ -11,6 +11,9 @@ public interface CartItemRepository {
     Optional<CartItem> findById(Long id);
     List<CartItem> findByUserId(Long userId);
     Optional<CartItem> findByUserIdAndProductId(Long userId, Long productId);
+
+    // 사용자/상품 항목의 수량을 원자적으로 delta만큼 변경 (없으면 새로 생성, 수량이 0 이하가 되면 삭제하고 null 반환)
+    CartItem upsertQuantity(Long userId, Long productId, int delta);
     void delete(Long id);
     void deleteAllByUserId(Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.hhplus.hhplus_ecommerce.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시 지표 스냅샷 (조회 시점 기준 누적값)
+ * - admissionRejections: 새 항목이 기존 항목보다 덜 쓰여 들어오지 못하고 제거된 횟수 (evictions에 포함)
+ * - staleLoads: 조회 도중 쓰기가 겹쳐 캐시에 넣지 않은 원본 조회 횟수
+ */
+@Getter
+@AllArgsConstructor
+public class CacheStats {
+    private final long maximumSize;
+    private final long size;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long admissionRejections;
+    private final long invalidations;
+    private final long staleLoads;
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
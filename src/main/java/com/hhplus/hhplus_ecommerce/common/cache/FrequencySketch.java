@@ -0,0 +1,70 @@
+package com.hhplus.hhplus_ecommerce.common.cache;
+
+/**
+ * 접근 빈도 추정용 Count-Min Sketch (TinyLFU)
+ * - 키마다 4개 행의 카운터를 올리고, 조회 시 가장 작은 값을 빈도로 사용 (실제 빈도 이상으로만 추정됨)
+ * - 카운터는 15에서 멈추고, 기록이 sampleSize만큼 쌓이면 전체를 절반으로 줄여 오래된 인기를 잊음
+ * - 스레드 안전하지 않음 (호출자가 직렬화)
+ */
+class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x97cb3127, 0x2f3b9c85, 0x61c88647, 0x7fe4b3a1};
+
+    private final int[][] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int width = Integer.highestOneBit(Math.max(16, maximumSize - 1)) << 1;
+        this.table = new int[DEPTH][width];
+        this.mask = width - 1;
+        this.sampleSize = Math.max(10, maximumSize * 10);
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = indexOf(hash, row);
+            if (table[row][index] < MAX_COUNT) {
+                table[row][index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row++) {
+            frequency = Math.min(frequency, table[row][indexOf(hash, row)]);
+        }
+        return frequency;
+    }
+
+    // 모든 카운터를 절반으로 (빈도 순서는 대체로 유지하면서 최근 접근에 가중치)
+    private void reset() {
+        for (int[] row : table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>>= 1;
+            }
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * 0x9e3779b9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x45d9f3b;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,328 @@
+package com.hhplus.hhplus_ecommerce.common.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * 크기 제한 캐시 (W-TinyLFU 교체 정책 + 쓰기 버전 검사)
+ * - 새 항목은 작은 window LRU(전체의 1%)에 들어가고, window에서 밀려난 항목은 main 영역에서 가장 오래 안 쓰인 항목과
+ *   접근 빈도(FrequencySketch)를 비교하여 더 자주 쓰인 쪽만 남김 → 한 번 훑고 지나가는 조회가 인기 항목을 밀어내지 않음
+ * - main 영역은 probation(20%) / protected(80%) 구간의 SLRU: probation에서 다시 조회되면 protected로 승격
+ * - 조회 시 교체 정책 갱신은 Lock을 바로 얻을 수 있을 때만 수행 (경합 시 일부 접근 기록을 버려 조회가 막히지 않음)
+ * - 원본 쓰기는 beginWrite / endWrite로 감싸고, 원본 조회 결과는 startLoad의 stamp와 함께 putIfUnchanged로 넣음
+ *   (조회 도중 같은 키 구간에 쓰기가 있었으면 넣지 않으므로 쓰기 이전 값이 캐시에 남지 않음)
+ */
+public class WTinyLfuCache<K, V> {
+
+    // 쓰기 버전 구간 수 (같은 구간의 다른 키 쓰기와 겹치면 캐시에 넣지 않을 뿐 정확성에는 영향 없음)
+    private static final int WRITE_STRIPES = 1024;
+    private static final long NO_STAMP = -1;
+
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+
+    private final Map<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final AtomicLongArray writesStarted = new AtomicLongArray(WRITE_STRIPES);
+    private final AtomicLongArray writesCompleted = new AtomicLongArray(WRITE_STRIPES);
+
+    // 교체 정책 (policyLock 안에서만 변경)
+    private final ReentrantLock policyLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final AccessOrder<K, V> window = new AccessOrder<>(Segment.WINDOW);
+    private final AccessOrder<K, V> probation = new AccessOrder<>(Segment.PROBATION);
+    private final AccessOrder<K, V> protectedSegment = new AccessOrder<>(Segment.PROTECTED);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder admissionRejections = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder staleLoads = new LongAdder();
+
+    public WTinyLfuCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (int) ((maximumSize - windowMaximum) * 0.8);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    // 캐시된 값 (없으면 null)
+    public V getIfPresent(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            if (policyLock.tryLock()) {
+                try {
+                    sketch.increment(key);
+                } finally {
+                    policyLock.unlock();
+                }
+            }
+            return null;
+        }
+        hits.increment();
+        if (policyLock.tryLock()) {
+            try {
+                sketch.increment(key);
+                onAccess(node);
+            } finally {
+                policyLock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    // 원본 조회 직전에 호출: 같은 키 구간에 진행 중인 쓰기가 있으면 캐시에 넣을 수 없는 stamp 반환
+    public long startLoad(K key) {
+        int stripe = stripe(key);
+        // 완료 수를 먼저 읽어야 시작 수와 같을 때 진행 중인 쓰기가 없음이 보장됨
+        long completed = writesCompleted.get(stripe);
+        long started = writesStarted.get(stripe);
+        return started == completed ? started : NO_STAMP;
+    }
+
+    // 원본 조회 결과 저장: startLoad 이후 같은 키 구간에 쓰기가 시작되었으면 버림
+    public void putIfUnchanged(K key, V value, long stamp) {
+        int stripe = stripe(key);
+        if (stamp == NO_STAMP || writesStarted.get(stripe) != stamp) {
+            staleLoads.increment();
+            return;
+        }
+        Node<K, V> candidate = new Node<>(key, value);
+        Node<K, V> current = data.compute(key, (k, existing) -> {
+            // 쓰기의 endWrite도 같은 키의 compute 안에서 반영되므로 검사와 저장 사이에 끼어들지 못함
+            if (writesStarted.get(stripe) != stamp) {
+                staleLoads.increment();
+                return existing;
+            }
+            if (existing != null) {
+                existing.value = value;
+                return existing;
+            }
+            return candidate;
+        });
+        if (current == candidate) {
+            policyLock.lock();
+            try {
+                onAdd(candidate);
+            } finally {
+                policyLock.unlock();
+            }
+        }
+    }
+
+    // 원본 쓰기 직전에 호출 (이후 endWrite를 반드시 호출해야 함)
+    public void beginWrite(K key) {
+        writesStarted.incrementAndGet(stripe(key));
+    }
+
+    // 원본 쓰기 완료: update가 있으면 캐시된 값에 적용, null이면 항목 제거
+    public void endWrite(K key, UnaryOperator<V> update) {
+        try {
+            if (update != null) {
+                data.computeIfPresent(key, (k, node) -> {
+                    node.value = update.apply(node.value);
+                    return node;
+                });
+            } else {
+                invalidate(key);
+            }
+        } finally {
+            writesCompleted.incrementAndGet(stripe(key));
+        }
+    }
+
+    public void invalidate(K key) {
+        Node<K, V> node = data.remove(key);
+        if (node == null) {
+            return;
+        }
+        node.removed = true;
+        invalidations.increment();
+        policyLock.lock();
+        try {
+            unlink(node);
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public long size() {
+        return data.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(
+                maximumSize,
+                data.size(),
+                hits.sum(),
+                misses.sum(),
+                evictions.sum(),
+                admissionRejections.sum(),
+                invalidations.sum(),
+                staleLoads.sum()
+        );
+    }
+
+    private void onAdd(Node<K, V> node) {
+        // 저장 직후 무효화된 항목은 연결하지 않음
+        if (node.removed) {
+            return;
+        }
+        sketch.increment(node.key);
+        window.addLast(node);
+        evict();
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.segment == null) {
+            return;
+        }
+        switch (node.segment) {
+            case WINDOW:
+                window.moveToLast(node);
+                break;
+            case PROBATION:
+                // 다시 조회된 항목은 protected로 승격, 넘치면 가장 오래된 protected 항목을 probation으로 내림
+                probation.remove(node);
+                protectedSegment.addLast(node);
+                while (protectedSegment.size > protectedMaximum) {
+                    probation.addLast(protectedSegment.removeFirst());
+                }
+                break;
+            default:
+                protectedSegment.moveToLast(node);
+        }
+    }
+
+    // window에서 밀려난 후보와 main 영역의 희생 후보 중 접근 빈도가 낮은 쪽을 제거
+    private void evict() {
+        while (window.size > windowMaximum) {
+            Node<K, V> candidate = window.removeFirst();
+            probation.addLast(candidate);
+            if (window.size + probation.size + protectedSegment.size <= maximumSize) {
+                continue;
+            }
+            Node<K, V> victim = probation.first();
+            if (victim == candidate) {
+                victim = protectedSegment.first();
+            }
+            if (victim != null && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evict(victim);
+            } else {
+                evict(candidate);
+                admissionRejections.increment();
+            }
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        unlink(node);
+        node.removed = true;
+        if (data.remove(node.key, node)) {
+            evictions.increment();
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.segment == Segment.WINDOW) {
+            window.remove(node);
+        } else if (node.segment == Segment.PROBATION) {
+            probation.remove(node);
+        } else if (node.segment == Segment.PROTECTED) {
+            protectedSegment.remove(node);
+        }
+    }
+
+    private static int stripe(Object key) {
+        int h = key.hashCode() * 0x9e3779b9;
+        return (h ^ (h >>> 16)) & (WRITE_STRIPES - 1);
+    }
+
+    private enum Segment {
+        WINDOW, PROBATION, PROTECTED
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private volatile V value;
+        private volatile boolean removed;
+
+        // 접근 순서 목록 (policyLock 안에서만 변경)
+        private Segment segment;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    // 오래된 순서의 이중 연결 리스트 (맨 앞이 가장 오래 전에 접근된 항목)
+    private static final class AccessOrder<K, V> {
+        private final Segment segment;
+        private Node<K, V> head;
+        private Node<K, V> tail;
+        private int size;
+
+        private AccessOrder(Segment segment) {
+            this.segment = segment;
+        }
+
+        private Node<K, V> first() {
+            return head;
+        }
+
+        private void addLast(Node<K, V> node) {
+            node.segment = segment;
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        private Node<K, V> removeFirst() {
+            Node<K, V> node = head;
+            remove(node);
+            return node;
+        }
+
+        private void moveToLast(Node<K, V> node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        private void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.segment = null;
+            size--;
+        }
+    }
+}
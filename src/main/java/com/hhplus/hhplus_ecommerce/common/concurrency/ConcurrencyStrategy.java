@@ -0,0 +1,50 @@
+package com.hhplus.hhplus_ecommerce.common.concurrency;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * 키 단위 동시성 제어 전략
+ * - 배타적 전략은 같은 키에 대한 작업이 서로 겹치지 않고 하나씩 실행됨을 보장
+ * - 구현체: Lock 기반(LockConcurrencyStrategy), 키별 단일 작업자 기반(MailboxConcurrencyStrategy),
+ *   여러 노드 간 Lease 기반(LeaseConcurrencyStrategy), 상호 배제 없이 바로 실행(LockFreeConcurrencyStrategy)
+ */
+public interface ConcurrencyStrategy {
+
+    <T> T execute(String key, Supplier<T> action);
+
+    default void execute(String key, Runnable action) {
+        execute(key, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 여러 키의 작업을 모두 배타적으로 보유한 상태에서 실행
+     * - 기본 구현은 키를 정렬된 순서(사전순)로 하나씩 중첩 실행하므로 호출 순서가 달라도 교착 상태가 발생하지 않음
+     * - 중복 키는 한 번만 보유
+     */
+    default <T> T executeAll(Collection<String> keys, Supplier<T> action) {
+        List<String> sortedKeys = new ArrayList<>(new TreeSet<>(keys));
+        return executeFrom(sortedKeys, 0, action);
+    }
+
+    private <T> T executeFrom(List<String> sortedKeys, int index, Supplier<T> action) {
+        if (index == sortedKeys.size()) {
+            return action.get();
+        }
+        return execute(sortedKeys.get(index), () -> executeFrom(sortedKeys, index + 1, action));
+    }
+
+    /**
+     * 같은 키의 작업을 서로 배제하는지 여부
+     * - false면 작업을 바로 실행하므로, 호출자는 원자 연산(CAS 등)만으로 정합성을 지켜야 함
+     */
+    default boolean isExclusive() {
+        return true;
+    }
+}
@@ -0,0 +1,32 @@
+package com.hhplus.hhplus_ecommerce.common.concurrency;
+
+import com.hhplus.hhplus_ecommerce.common.lock.LeaseContext;
+import com.hhplus.hhplus_ecommerce.common.lock.LockProvider;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Lease 기반 동시성 제어 전략 (여러 애플리케이션 노드 간 상호 배제)
+ * - 작업 실행 동안 LockProvider의 Lease를 보유하고, LeaseContext에 등록하여 저장 시 펜싱 토큰을 사용할 수 있게 함
+ */
+@RequiredArgsConstructor
+public class LeaseConcurrencyStrategy implements ConcurrencyStrategy {
+
+    private final LockProvider lockProvider;
+    private final Duration ttl;
+    private final Duration maxWait;
+
+    @Override
+    public <T> T execute(String key, Supplier<T> action) {
+        return lockProvider.executeWithLease(key, ttl, maxWait, lease -> {
+            LeaseContext.bind(lease);
+            try {
+                return action.get();
+            } finally {
+                LeaseContext.unbind(lease);
+            }
+        });
+    }
+}
@@ -0,0 +1,27 @@
+package com.hhplus.hhplus_ecommerce.common.concurrency;
+
+import com.hhplus.hhplus_ecommerce.common.lock.LockManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Lock 기반 동시성 제어 전략
+ * - 호출 스레드가 직접 키의 Lock을 획득하고 작업 실행 (LockManager 위임)
+ */
+@RequiredArgsConstructor
+public class LockConcurrencyStrategy implements ConcurrencyStrategy {
+
+    private final LockManager lockManager;
+
+    @Override
+    public <T> T execute(String key, Supplier<T> action) {
+        return lockManager.executeWithLock(key, action);
+    }
+
+    @Override
+    public <T> T executeAll(Collection<String> keys, Supplier<T> action) {
+        return lockManager.executeWithLocks(keys, action);
+    }
+}
@@ -0,0 +1,27 @@
+package com.hhplus.hhplus_ecommerce.common.concurrency;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 상호 배제 없는 동시성 제어 전략 (단일 노드 전용)
+ * - 작업을 호출 스레드에서 바로 실행하고, 정합성은 호출자의 원자 연산(재고 CAS, 쿠폰 발급 슬롯)에 맡김
+ * - 같은 데이터를 여러 노드가 변경하면 사용할 수 없음 (lease 전략 사용)
+ */
+public class LockFreeConcurrencyStrategy implements ConcurrencyStrategy {
+
+    @Override
+    public <T> T execute(String key, Supplier<T> action) {
+        return action.get();
+    }
+
+    @Override
+    public <T> T executeAll(Collection<String> keys, Supplier<T> action) {
+        return action.get();
+    }
+
+    @Override
+    public boolean isExclusive() {
+        return false;
+    }
+}
@@ -0,0 +1,165 @@
+package com.hhplus.hhplus_ecommerce.common.concurrency;
+
+import com.hhplus.hhplus_ecommerce.common.lock.LockManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 키별 단일 작업자(Mailbox) 기반 동시성 제어 전략
+ * - 같은 키의 작업은 키별 우편함(큐)에 쌓이고, 작업자 스레드 하나가 묶음(batch) 단위로 꺼내 순서대로 실행
+ * - 호출 스레드는 Lock을 두고 경쟁하지 않고 결과(Future)만 기다림
+ * - 작업자는 묶음마다 LockManager의 키 Lock을 한 번만 획득하므로, Lock을 직접 사용하는 다른 코드와도 상호 배제가 유지됨
+ * - 처리할 작업이 없는 우편함은 제거되어 키가 많아져도 메모리가 늘지 않음
+ */
+public class MailboxConcurrencyStrategy implements ConcurrencyStrategy {
+
+    private final LockManager lockManager;
+    private final ExecutorService workers;
+    private final int batchSize;
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public MailboxConcurrencyStrategy(LockManager lockManager, int workerCount, int batchSize) {
+        this.lockManager = lockManager;
+        this.batchSize = batchSize;
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "mailbox-worker-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public <T> T execute(String key, Supplier<T> action) {
+        Mailbox mailbox = mailboxes.computeIfAbsent(key, Mailbox::new);
+
+        // 작업자 스레드 안에서 같은 키로 다시 호출한 경우: 큐에 넣으면 자기 자신을 기다리게 되므로 바로 실행
+        if (mailbox.owner == Thread.currentThread()) {
+            return action.get();
+        }
+
+        Command<T> command = new Command<>(action);
+        mailbox.queue.offer(command);
+        schedule(mailbox);
+        return command.await();
+    }
+
+    // 여러 키의 작업은 우편함을 거치지 않고 호출 스레드가 키 Lock을 모두 획득 (작업자가 묶음마다 같은 키 Lock을 잡으므로 상호 배제 유지)
+    @Override
+    public <T> T executeAll(Collection<String> keys, Supplier<T> action) {
+        return lockManager.executeWithLocks(keys, action);
+    }
+
+    // 작업자에게 우편함 처리를 한 번만 예약
+    private void schedule(Mailbox mailbox) {
+        if (mailbox.scheduled.compareAndSet(false, true)) {
+            workers.execute(() -> drain(mailbox));
+        }
+    }
+
+    // 한 묶음 처리: 키 Lock을 한 번 획득한 상태에서 최대 batchSize개 작업을 순서대로 실행
+    private void drain(Mailbox mailbox) {
+        try {
+            lockManager.executeWithLock(mailbox.key, () -> {
+                mailbox.owner = Thread.currentThread();
+                try {
+                    for (int i = 0; i < batchSize; i++) {
+                        Command<?> command = mailbox.queue.poll();
+                        if (command == null) {
+                            break;
+                        }
+                        command.run();
+                    }
+                } finally {
+                    mailbox.owner = null;
+                }
+            });
+        } catch (RuntimeException e) {
+            // Lock 획득 실패(대기 시간 초과 등): 이번 묶음의 작업을 같은 예외로 실패 처리
+            for (int i = 0; i < batchSize; i++) {
+                Command<?> command = mailbox.queue.poll();
+                if (command == null) {
+                    break;
+                }
+                command.fail(e);
+            }
+        } finally {
+            mailbox.scheduled.set(false);
+            if (mailbox.queue.isEmpty()) {
+                mailboxes.remove(mailbox.key, mailbox);
+            }
+            // 제거 직전에 들어온 작업이 있으면 다시 예약 (다른 작업자와 겹쳐도 키 Lock이 상호 배제를 보장)
+            if (!mailbox.queue.isEmpty()) {
+                schedule(mailbox);
+            }
+        }
+    }
+
+    // 처리 중인 우편함 수 (모니터링용)
+    public int getMailboxCount() {
+        return mailboxes.size();
+    }
+
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private static final class Mailbox {
+        private final String key;
+        private final Queue<Command<?>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private volatile Thread owner;
+
+        private Mailbox(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Command<T> {
+        private final Supplier<T> action;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private Command(Supplier<T> action) {
+            this.action = action;
+        }
+
+        private void run() {
+            try {
+                result.complete(action.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private void fail(Throwable e) {
+            result.completeExceptionally(e);
+        }
+
+        // 작업에서 발생한 예외(BusinessException 등)는 호출 스레드에서 그대로 다시 던짐
+        private T await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
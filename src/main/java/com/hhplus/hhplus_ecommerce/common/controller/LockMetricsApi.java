@@ -0,0 +1,71 @@
+package com.hhplus.hhplus_ecommerce.common.controller;
+
+import com.hhplus.hhplus_ecommerce.common.dto.ApiResponse;
+import com.hhplus.hhplus_ecommerce.common.lock.LockMetricsSnapshot;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * Lock 모니터링 API 명세 (내부용)
+ */
+@Tag(name = "내부 모니터링 API", description = "Lock 경합 지표 조회 API")
+public interface LockMetricsApi {
+
+    /**
+     * Lock 경합 지표 조회
+     */
+    @GetMapping("/metrics")
+    @Operation(summary = "Lock 경합 지표 조회", description = "키 접두사별 대기/점유 시간, 대기열 길이와 경합이 많은 상위 키를 조회합니다")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                {
+                                  "code": 200,
+                                  "data": {
+                                    "prefixes": [
+                                      {
+                                        "prefix": "product:",
+                                        "acquisitions": 1000,
+                                        "contendedAcquisitions": 850,
+                                        "timeouts": 3,
+                                        "currentWaiting": 12,
+                                        "maxWaiting": 97,
+                                        "waitTime": { "count": 1003, "avgMicros": 820, "p50Micros": 512, "p99Micros": 8192, "maxMicros": 3000000 },
+                                        "holdTime": { "count": 1000, "avgMicros": 15, "p50Micros": 16, "p99Micros": 64, "maxMicros": 210 }
+                                      }
+                                    ],
+                                    "hotKeys": [
+                                      { "key": "product:1", "contendedAcquisitions": 850, "timeouts": 3, "totalWaitMicros": 822000, "maxQueueLength": 97 }
+                                    ]
+                                  }
+                                }
+                                """))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 조회 개수",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                {
+                                  "success": false,
+                                  "code": 400,
+                                  "message": "입력값이 올바르지 않습니다"
+                                }
+                                """))
+            )
+    })
+    ResponseEntity<ApiResponse<LockMetricsSnapshot>> getLockMetrics(
+            @Parameter(description = "조회할 상위 경합 키 개수 (0 이상)", example = "10")
+            @RequestParam(defaultValue = "10") Integer top
+    );
+}
@@ -0,0 +1,22 @@
+package com.hhplus.hhplus_ecommerce.common.controller;
+
+import com.hhplus.hhplus_ecommerce.common.dto.ApiResponse;
+import com.hhplus.hhplus_ecommerce.common.lock.LockManager;
+import com.hhplus.hhplus_ecommerce.common.lock.LockMetricsSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/internal/locks")
+@RequiredArgsConstructor
+public class LockMetricsController implements LockMetricsApi {
+
+    private final LockManager lockManager;
+
+    @Override
+    public ResponseEntity<ApiResponse<LockMetricsSnapshot>> getLockMetrics(Integer top) {
+        return ResponseEntity.ok(ApiResponse.success(lockManager.getMetrics(top)));
+    }
+}
@@ -8,6 +8,9 @@ public enum ErrorCode {
     // 공통
     INVALID_INPUT_VALUE("INVALID_INPUT_VALUE", 400, "입력값이 올바르지 않습니다"),
     INTERNAL_SERVER_ERROR("INTERNAL_SERVER_ERROR", 500, "서버 오류가 발생했습니다"),
+    LOCK_ACQUISITION_TIMEOUT("LOCK_ACQUISITION_TIMEOUT", 503, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요"),
+    LOCK_LEASE_EXPIRED("LOCK_LEASE_EXPIRED", 409, "Lock 점유 시간이 만료되었습니다. 다시 시도해주세요"),
+    STALE_FENCING_TOKEN("STALE_FENCING_TOKEN", 409, "이미 다른 요청이 변경한 데이터입니다. 다시 시도해주세요"),
 
     // 포인트
     POINT_INSUFFICIENT_BALANCE("POINT_INSUFFICIENT_BALANCE", 400, "포인트 잔액이 부족합니다"),
@@ -23,6 +26,8 @@ public enum ErrorCode {
     PRODUCT_INVALID_STOCK("PRODUCT_INVALID_STOCK", 400, "재고는 0 이상이어야 합니다"),
     PRODUCT_INVALID_PRICE("PRODUCT_INVALID_PRICE", 400, "가격은 0 이상이어야 합니다"),
     PRODUCT_INVALID_NAME("PRODUCT_INVALID_NAME", 400, "이름은 필수로 기재해야 합니다"),
+    STOCK_RESERVATION_NOT_FOUND("STOCK_RESERVATION_NOT_FOUND", 404, "재고 예약을 찾을 수 없습니다"),
+    STOCK_RESERVATION_EXPIRED("STOCK_RESERVATION_EXPIRED", 409, "재고 예약 시간이 만료되었습니다. 다시 주문해주세요"),
 
     // 쿠폰
     COUPON_NOT_FOUND("COUPON_NOT_FOUND", 404, "쿠폰을 찾을 수 없습니다"),
@@ -0,0 +1,202 @@
+package com.hhplus.hhplus_ecommerce.common.lock;
+
+import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 공유 파일 기반 LockProvider (같은 호스트의 여러 JVM 간 상호 배제)
+ * - 모든 Lease 상태(키별 소유자, 펜싱 토큰, 만료 시각)와 마지막 발급 토큰을 하나의 상태 파일에 기록
+ * - 상태 파일을 읽고 쓰는 동안 OS 파일 Lock(FileChannel.lock)을 잡아 JVM 간 원자성을 보장
+ * - 같은 JVM 안에서는 파일 Lock이 중복 획득을 허용하지 않으므로 경로별 모니터로 먼저 직렬화
+ * - 만료 시각은 벽시계(Clock) 기준이므로 같은 호스트 내 노드 간에만 사용
+ */
+public class FileLockProvider implements LockProvider {
+
+    // 획득 대기 중 상태 파일 재확인 간격
+    private static final long POLL_INTERVAL_MILLIS = 5;
+
+    // JVM 내 경로별 모니터 (파일 Lock은 프로세스 단위라 같은 JVM의 스레드끼리는 구분하지 못함)
+    private static final Map<Path, Object> MONITORS = new ConcurrentHashMap<>();
+
+    private final Path stateFile;
+    private final Object monitor;
+    private final Clock clock;
+    private final String nodeId;
+    private final AtomicLong leaseSequence = new AtomicLong();
+
+    public FileLockProvider(Path stateFile) {
+        this(stateFile, Clock.systemUTC());
+    }
+
+    public FileLockProvider(Path stateFile, Clock clock) {
+        this.stateFile = stateFile.toAbsolutePath().normalize();
+        this.monitor = MONITORS.computeIfAbsent(this.stateFile, path -> new Object());
+        this.clock = clock;
+        this.nodeId = ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Override
+    public Lease acquire(String key, Duration ttl, Duration maxWait) {
+        String owner = nodeId + "-" + leaseSequence.incrementAndGet();
+        long deadline = System.nanoTime() + maxWait.toNanos();
+
+        while (true) {
+            Lease lease = update(state -> {
+                Instant now = clock.instant();
+                Lease current = state.leases.get(key);
+                if (current != null && !current.isExpired(now)) {
+                    return null;
+                }
+                Lease granted = new Lease(key, owner, ++state.lastToken, now.plus(ttl));
+                state.leases.put(key, granted);
+                return granted;
+            });
+            if (lease != null) {
+                return lease;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw new BusinessException(ErrorCode.LOCK_ACQUISITION_TIMEOUT);
+            }
+            pause();
+        }
+    }
+
+    @Override
+    public Lease renew(Lease lease, Duration ttl) {
+        Lease renewed = update(state -> {
+            Instant now = clock.instant();
+            if (!isCurrent(state.leases.get(lease.getKey()), lease, now)) {
+                return null;
+            }
+            Lease extended = new Lease(lease.getKey(), lease.getOwner(), lease.getFencingToken(), now.plus(ttl));
+            state.leases.put(lease.getKey(), extended);
+            return extended;
+        });
+        if (renewed == null) {
+            throw new BusinessException(ErrorCode.LOCK_LEASE_EXPIRED);
+        }
+        return renewed;
+    }
+
+    @Override
+    public boolean release(Lease lease) {
+        return update(state -> {
+            if (!isCurrent(state.leases.get(lease.getKey()), lease, clock.instant())) {
+                return false;
+            }
+            state.leases.remove(lease.getKey());
+            return true;
+        });
+    }
+
+    // 같은 소유자·토큰의 Lease가 아직 유효한지 확인 (만료 시각은 연장될 수 있으므로 비교하지 않음)
+    private boolean isCurrent(Lease current, Lease lease, Instant now) {
+        return current != null
+                && current.getOwner().equals(lease.getOwner())
+                && current.getFencingToken() == lease.getFencingToken()
+                && !current.isExpired(now);
+    }
+
+    // 상태 파일을 Lock을 잡은 채로 읽고, 변경 함수 실행 후 다시 기록
+    private <T> T update(Function<State, T> mutation) {
+        synchronized (monitor) {
+            try (RandomAccessFile file = new RandomAccessFile(stateFile.toFile(), "rw");
+                 FileChannel channel = file.getChannel()) {
+                // 파일 Lock은 채널을 닫을 때 함께 해제됨
+                channel.lock();
+                State state = State.read(channel);
+                T result = mutation.apply(state);
+                state.write(channel, clock.instant());
+                return result;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Lock 상태 파일을 처리하지 못했습니다: " + stateFile, e);
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS + ThreadLocalRandom.current().nextLong(POLL_INTERVAL_MILLIS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.LOCK_ACQUISITION_TIMEOUT);
+        }
+    }
+
+    /**
+     * 상태 파일 내용
+     * - 첫 줄: 마지막으로 발급한 펜싱 토큰
+     * - 이후 줄: 키 \t 소유자 \t 펜싱 토큰 \t 만료 시각(epoch millis)
+     */
+    private static final class State {
+        private long lastToken;
+        private final Map<String, Lease> leases = new HashMap<>();
+
+        private static State read(FileChannel channel) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, buffer.position()) < 0) {
+                    break;
+                }
+            }
+            String content = new String(buffer.array(), StandardCharsets.UTF_8);
+
+            State state = new State();
+            String[] lines = content.split("\n");
+            if (!lines[0].isBlank()) {
+                state.lastToken = Long.parseLong(lines[0].trim());
+            }
+            for (int i = 1; i < lines.length; i++) {
+                String[] fields = lines[i].split("\t");
+                if (fields.length == 4) {
+                    state.leases.put(fields[0], new Lease(fields[0], fields[1], Long.parseLong(fields[2]),
+                            Instant.ofEpochMilli(Long.parseLong(fields[3]))));
+                }
+            }
+            return state;
+        }
+
+        /**
+         * 만료된 Lease는 기록하지 않으므로 상태 파일이 계속 커지지 않음 (마지막 토큰은 항상 유지)
+         * - 파일을 먼저 비우지 않고 처음부터 덮어쓴 뒤 남는 뒷부분만 잘라내고 디스크에 반영
+         *   (비운 직후 중단되어 마지막 토큰이 사라지고 토큰이 0부터 다시 발급되는 일이 없음)
+         */
+        private void write(FileChannel channel, Instant now) throws IOException {
+            StringBuilder content = new StringBuilder().append(lastToken).append('\n');
+            for (Lease lease : leases.values()) {
+                if (lease.isExpired(now)) {
+                    continue;
+                }
+                content.append(lease.getKey()).append('\t')
+                        .append(lease.getOwner()).append('\t')
+                        .append(lease.getFencingToken()).append('\t')
+                        .append(lease.getExpiresAt().toEpochMilli()).append('\n');
+            }
+            byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, buffer.position());
+            }
+            channel.truncate(bytes.length);
+            channel.force(true);
+        }
+    }
+}
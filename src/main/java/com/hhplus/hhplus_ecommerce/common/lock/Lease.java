@@ -0,0 +1,25 @@
+package com.hhplus.hhplus_ecommerce.common.lock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * LockProvider가 발급한 Lease (만료 시각이 있는 Lock 소유권)
+ * - fencingToken: 발급 순서대로 단조 증가하는 번호, 저장소는 더 작은 토큰의 쓰기를 거부하여
+ *   Lease가 만료된 뒤에도 작업을 계속한 이전 소유자의 쓰기를 차단할 수 있음
+ */
+@Getter
+@AllArgsConstructor
+public final class Lease {
+
+    private final String key;
+    private final String owner;
+    private final long fencingToken;
+    private final Instant expiresAt;
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,42 @@
+package com.hhplus.hhplus_ecommerce.common.lock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 현재 스레드가 보유한 Lease 보관소
+ * - Lease 기반 동시성 전략이 작업 실행 동안 Lease를 등록하고, 서비스는 저장 시 펜싱 토큰을 꺼내 저장소에 전달
+ */
+public final class LeaseContext {
+
+    private static final ThreadLocal<Map<String, Lease>> LEASES = ThreadLocal.withInitial(HashMap::new);
+
+    private LeaseContext() {
+    }
+
+    public static void bind(Lease lease) {
+        LEASES.get().put(lease.getKey(), lease);
+    }
+
+    public static void unbind(Lease lease) {
+        Map<String, Lease> leases = LEASES.get();
+        leases.remove(lease.getKey(), lease);
+        if (leases.isEmpty()) {
+            LEASES.remove();
+        }
+    }
+
+    // 현재 스레드가 key의 Lease를 보유하고 있으면 펜싱 토큰 반환
+    public static OptionalLong fencingToken(String key) {
+        Map<String, Lease> leases = LEASES.get();
+        Lease lease = leases.get(key);
+        if (lease == null) {
+            if (leases.isEmpty()) {
+                LEASES.remove();
+            }
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(lease.getFencingToken());
+    }
+}
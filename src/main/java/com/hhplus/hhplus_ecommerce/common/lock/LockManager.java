@@ -1,38 +1,193 @@
 package com.hhplus.hhplus_ecommerce.common.lock;
 
+import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.Map;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
+/**
+ * 키 단위 Lock 관리자
+ * - 키별 Lock 엔트리를 참조 카운트로 관리
+ * - 마지막 사용자가 Lock을 반납하면 엔트리를 제거하여 유휴 Lock이 메모리에 남지 않음
+ * - 키 접두사(예: "product:")별로 대기 시간, 공정성, 즉시 실패 정책을 적용
+ * - 대기/점유 시간, 대기열 길이 등 경합 지표를 LockMetrics로 수집
+ */
 @Component
 public class LockManager {
 
-    private final Map<String, Lock> locks = new ConcurrentHashMap<>();
+    // 대기 시간 제한 없음
+    private static final long NO_DEADLINE = Long.MIN_VALUE;
+
+    private final Map<String, LockEntry> locks = new ConcurrentHashMap<>();
+
+    // 키 접두사 -> Lock 정책
+    private final Map<String, LockPolicy> policies = new ConcurrentHashMap<>();
+
+    private final LockMetrics metrics = new LockMetrics();
+
+    // 키 접두사별 Lock 정책 등록 (가장 긴 접두사가 우선 적용)
+    public void registerPolicy(String keyPrefix, LockPolicy policy) {
+        policies.put(keyPrefix, policy);
+    }
+
+    // 키에 적용될 Lock 정책 조회 (일치하는 접두사가 없으면 무제한 대기)
+    public LockPolicy getPolicy(String key) {
+        LockPolicy matched = LockPolicy.unbounded();
+        int matchedLength = -1;
+        for (Map.Entry<String, LockPolicy> entry : policies.entrySet()) {
+            String prefix = entry.getKey();
+            if (key.startsWith(prefix) && prefix.length() > matchedLength) {
+                matched = entry.getValue();
+                matchedLength = prefix.length();
+            }
+        }
+        return matched;
+    }
 
     public <T> T executeWithLock(String key, Supplier<T> action) {
-        Lock lock = locks.computeIfAbsent(key, k -> new ReentrantLock());
-        lock.lock();
+        LockEntry entry = lock(key, NO_DEADLINE);
 
         try {
             return action.get();
         } finally {
-            lock.unlock();
+            unlock(key, entry);
         }
     }
 
     public void executeWithLock(String key, Runnable action) {
-        Lock lock = locks.computeIfAbsent(key, k -> new ReentrantLock());
-        lock.lock();
+        executeWithLock(key, () -> {
+            action.run();
+            return null;
+        });
+    }
 
-        try {
+    /**
+     * 여러 키의 Lock을 모두 획득한 뒤 작업 실행
+     * - 키를 정렬된 순서(사전순)로 획득하므로 호출 순서가 달라도 교착 상태가 발생하지 않음
+     * - 중복 키는 한 번만 획득
+     */
+    public <T> T executeWithLocks(Collection<String> keys, Supplier<T> action) {
+        return executeWithLocks(keys, NO_DEADLINE, action);
+    }
+
+    /**
+     * 여러 키의 Lock을 제한 시간 안에 모두 획득한 뒤 작업 실행
+     * - 제한 시간은 전체 Lock 획득에 걸리는 시간 기준 (키별 정책의 최대 대기 시간이 더 짧으면 정책을 따름)
+     * - 시간 초과 시 이미 획득한 Lock을 모두 반납하고 LOCK_ACQUISITION_TIMEOUT 예외 발생
+     */
+    public <T> T executeWithLocks(Collection<String> keys, Duration timeout, Supplier<T> action) {
+        return executeWithLocks(keys, System.nanoTime() + timeout.toNanos(), action);
+    }
+
+    public void executeWithLocks(Collection<String> keys, Runnable action) {
+        executeWithLocks(keys, () -> {
             action.run();
+            return null;
+        });
+    }
+
+    private <T> T executeWithLocks(Collection<String> keys, long deadline, Supplier<T> action) {
+        Deque<String> acquiredKeys = new ArrayDeque<>();
+        Deque<LockEntry> acquiredEntries = new ArrayDeque<>();
+
+        try {
+            for (String key : new TreeSet<>(keys)) {
+                acquiredEntries.push(lock(key, deadline));
+                acquiredKeys.push(key);
+            }
+            return action.get();
+        } finally {
+            // 획득의 역순으로 반납
+            while (!acquiredKeys.isEmpty()) {
+                unlock(acquiredKeys.pop(), acquiredEntries.pop());
+            }
+        }
+    }
+
+    // Lock 획득: 키 정책과 호출자의 제한 시간 중 더 엄격한 쪽을 적용, 실패 시 엔트리 참조까지 반납한 뒤 예외 발생
+    private LockEntry lock(String key, long deadline) {
+        LockPolicy policy = getPolicy(key);
+        LockEntry entry = acquireEntry(key, policy);
+
+        // 경합 여부와 대기열 길이는 획득 시도 직전 기준
+        boolean contended = entry.lock.isLocked() && !entry.lock.isHeldByCurrentThread();
+        int queueLength = entry.lock.getQueueLength();
+        metrics.waitStarted(key);
+        long waitStart = System.nanoTime();
+
+        boolean locked = false;
+        try {
+            if (policy.isFailFast()) {
+                locked = entry.lock.tryLock();
+            } else {
+                long effectiveDeadline = effectiveDeadline(policy, deadline);
+                if (effectiveDeadline == NO_DEADLINE) {
+                    entry.lock.lock();
+                    locked = true;
+                } else {
+                    locked = entry.lock.tryLock(Math.max(0, effectiveDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } finally {
-            lock.unlock();
+            long now = System.nanoTime();
+            if (locked) {
+                metrics.acquired(key, now - waitStart, queueLength, contended);
+                if (entry.lock.getHoldCount() == 1) {
+                    entry.acquiredAt = now;
+                }
+            } else {
+                metrics.timedOut(key, now - waitStart, queueLength);
+                releaseEntry(key);
+            }
+        }
+
+        if (!locked) {
+            throw new BusinessException(ErrorCode.LOCK_ACQUISITION_TIMEOUT);
+        }
+        return entry;
+    }
+
+    private long effectiveDeadline(LockPolicy policy, long deadline) {
+        if (policy.getMaxWait() == null) {
+            return deadline;
+        }
+        long policyDeadline = System.nanoTime() + policy.getMaxWait().toNanos();
+        return deadline == NO_DEADLINE || policyDeadline - deadline < 0 ? policyDeadline : deadline;
+    }
+
+    private void unlock(String key, LockEntry entry) {
+        // 재진입한 경우 가장 바깥 Lock 해제 시점에 점유 시간 기록
+        if (entry.lock.getHoldCount() == 1) {
+            metrics.released(key, System.nanoTime() - entry.acquiredAt);
         }
+        entry.lock.unlock();
+        releaseEntry(key);
+    }
+
+    // 엔트리 참조 획득: 없으면 정책의 공정성으로 생성하고 참조 카운트 증가 (compute는 키 단위로 원자적)
+    private LockEntry acquireEntry(String key, LockPolicy policy) {
+        return locks.compute(key, (k, entry) -> {
+            LockEntry target = entry != null ? entry : new LockEntry(policy.isFair());
+            target.refCount++;
+            return target;
+        });
+    }
+
+    // 엔트리 참조 반납: 참조 카운트가 0이 되면 맵에서 제거
+    private void releaseEntry(String key) {
+        locks.computeIfPresent(key, (k, entry) -> --entry.refCount == 0 ? null : entry);
     }
 
     //테스트용: 모든 Lock 제거
@@ -40,8 +195,33 @@ public class LockManager {
         locks.clear();
     }
 
-    //현재 관리 중인 Lock 개수 조회 (모니터링용)
+    //현재 사용 중(대기 포함)인 Lock 개수 조회 (모니터링용)
     public int getLockCount() {
         return locks.size();
     }
+
+    //Lock 경합 지표 조회 (모니터링용): 접두사별 집계 + 누적 대기 시간 상위 topN 키 (topN이 음수면 INVALID_INPUT_VALUE 예외)
+    public LockMetricsSnapshot getMetrics(int topN) {
+        if (topN < 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return metrics.snapshot(topN);
+    }
+
+    //Lock 경합 지표 초기화
+    public void resetMetrics() {
+        metrics.reset();
+    }
+
+    // 참조 카운트는 compute 블록 안에서만 변경되므로 별도 동기화가 필요 없음
+    private static final class LockEntry {
+        private final ReentrantLock lock;
+        private int refCount;
+        // 가장 바깥 Lock 획득 시각 (Lock 보유 스레드만 읽고 씀)
+        private long acquiredAt;
+
+        private LockEntry(boolean fair) {
+            this.lock = new ReentrantLock(fair);
+        }
+    }
 }
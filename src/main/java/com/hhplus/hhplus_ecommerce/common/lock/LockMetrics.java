@@ -0,0 +1,213 @@
+package com.hhplus.hhplus_ecommerce.common.lock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Lock 경합 지표 수집기
+ * - 키 접두사(예: "product:")별 대기/점유 시간 히스토그램, 대기열 길이 집계
+ * - 경합이 발생한 개별 키는 누적 대기 시간 기준으로 상위 키만 유지 (메모리 상한)
+ */
+public class LockMetrics {
+
+    // 개별 키 추적 상한: 초과 시 누적 대기 시간이 적은 키부터 정리
+    static final int MAX_TRACKED_KEYS = 1_000;
+
+    private final Map<String, PrefixStats> prefixStats = new ConcurrentHashMap<>();
+    private final Map<String, KeyStats> keyStats = new ConcurrentHashMap<>();
+    private final Object trimLock = new Object();
+
+    // 대기 시작 (현재 대기 중인 스레드 수 증가)
+    void waitStarted(String key) {
+        PrefixStats stats = prefixStats(key);
+        int waiting = stats.waiting.incrementAndGet();
+        stats.maxWaiting.accumulateAndGet(waiting, Math::max);
+    }
+
+    // Lock 획득 성공
+    void acquired(String key, long waitNanos, int queueLength, boolean contended) {
+        PrefixStats stats = prefixStats(key);
+        stats.waiting.decrementAndGet();
+        stats.acquisitions.increment();
+        stats.waitTime.record(waitNanos);
+        if (contended) {
+            stats.contended.increment();
+            recordKey(key, waitNanos, queueLength, false);
+        }
+    }
+
+    // Lock 획득 실패 (시간 초과 / 즉시 실패)
+    void timedOut(String key, long waitNanos, int queueLength) {
+        PrefixStats stats = prefixStats(key);
+        stats.waiting.decrementAndGet();
+        stats.timeouts.increment();
+        stats.waitTime.record(waitNanos);
+        recordKey(key, waitNanos, queueLength, true);
+    }
+
+    // Lock 점유 시간 기록
+    void released(String key, long holdNanos) {
+        prefixStats(key).holdTime.record(holdNanos);
+    }
+
+    public LockMetricsSnapshot snapshot(int topN) {
+        List<LockMetricsSnapshot.PrefixMetrics> prefixes = prefixStats.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getValue().toSnapshot(entry.getKey()))
+                .collect(Collectors.toList());
+
+        List<LockMetricsSnapshot.KeyMetrics> hotKeys = keyStats.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, KeyStats> entry) -> entry.getValue().totalWaitNanos.sum()).reversed())
+                .limit(topN)
+                .map(entry -> entry.getValue().toSnapshot(entry.getKey()))
+                .collect(Collectors.toList());
+
+        return new LockMetricsSnapshot(prefixes, hotKeys);
+    }
+
+    public void reset() {
+        prefixStats.clear();
+        keyStats.clear();
+    }
+
+    private PrefixStats prefixStats(String key) {
+        return prefixStats.computeIfAbsent(prefixOf(key), k -> new PrefixStats());
+    }
+
+    private void recordKey(String key, long waitNanos, int queueLength, boolean timedOut) {
+        KeyStats stats = keyStats.computeIfAbsent(key, k -> new KeyStats());
+        stats.contended.increment();
+        stats.totalWaitNanos.add(waitNanos);
+        stats.maxQueueLength.accumulate(queueLength);
+        if (timedOut) {
+            stats.timeouts.increment();
+        }
+
+        if (keyStats.size() > MAX_TRACKED_KEYS * 2) {
+            trimKeys();
+        }
+    }
+
+    // 누적 대기 시간 상위 MAX_TRACKED_KEYS개만 남기고 정리 (정리 구간에 들어온 기록은 일부 유실될 수 있음)
+    private void trimKeys() {
+        synchronized (trimLock) {
+            if (keyStats.size() <= MAX_TRACKED_KEYS * 2) {
+                return;
+            }
+            List<Map.Entry<String, KeyStats>> entries = new ArrayList<>(keyStats.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().totalWaitNanos.sum()));
+            for (int i = 0; i < entries.size() - MAX_TRACKED_KEYS; i++) {
+                keyStats.remove(entries.get(i).getKey());
+            }
+        }
+    }
+
+    // "product:123" -> "product:", 콜론이 없으면 키 전체
+    static String prefixOf(String key) {
+        int index = key.indexOf(':');
+        return index < 0 ? key : key.substring(0, index + 1);
+    }
+
+    private static final class PrefixStats {
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder contended = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final AtomicInteger maxWaiting = new AtomicInteger();
+        private final LatencyHistogram waitTime = new LatencyHistogram();
+        private final LatencyHistogram holdTime = new LatencyHistogram();
+
+        private LockMetricsSnapshot.PrefixMetrics toSnapshot(String prefix) {
+            return new LockMetricsSnapshot.PrefixMetrics(
+                    prefix,
+                    acquisitions.sum(),
+                    contended.sum(),
+                    timeouts.sum(),
+                    waiting.get(),
+                    maxWaiting.get(),
+                    waitTime.toSnapshot(),
+                    holdTime.toSnapshot()
+            );
+        }
+    }
+
+    private static final class KeyStats {
+        private final LongAdder contended = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAccumulator maxQueueLength = new LongAccumulator(Math::max, 0);
+
+        private LockMetricsSnapshot.KeyMetrics toSnapshot(String key) {
+            return new LockMetricsSnapshot.KeyMetrics(
+                    key,
+                    contended.sum(),
+                    timeouts.sum(),
+                    TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.sum()),
+                    (int) maxQueueLength.get()
+            );
+        }
+    }
+
+    /**
+     * 마이크로초 단위 로그 스케일(2의 거듭제곱) 히스토그램
+     * - 버킷 i: [2^(i-1), 2^i) µs, 백분위수는 해당 버킷의 상한값으로 근사
+     */
+    static final class LatencyHistogram {
+        private static final int BUCKET_COUNT = 40;
+
+        private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+        LatencyHistogram() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos));
+            int bucket = Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+            buckets[bucket].increment();
+            count.increment();
+            totalMicros.add(micros);
+            maxMicros.accumulate(micros);
+        }
+
+        long percentile(double percentile) {
+            long total = count.sum();
+            if (total == 0) {
+                return 0;
+            }
+            long threshold = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += buckets[i].sum();
+                if (seen >= threshold) {
+                    return Math.min(i == 0 ? 0 : 1L << i, maxMicros.get());
+                }
+            }
+            return maxMicros.get();
+        }
+
+        LockMetricsSnapshot.Latency toSnapshot() {
+            long total = count.sum();
+            return new LockMetricsSnapshot.Latency(
+                    total,
+                    total == 0 ? 0 : totalMicros.sum() / total,
+                    percentile(0.5),
+                    percentile(0.99),
+                    maxMicros.get()
+            );
+        }
+    }
+}
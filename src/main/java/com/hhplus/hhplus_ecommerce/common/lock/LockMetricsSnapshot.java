@@ -0,0 +1,53 @@
+package com.hhplus.hhplus_ecommerce.common.lock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Lock 경합 지표 스냅샷 (조회 시점 기준)
+ */
+@Getter
+@AllArgsConstructor
+public class LockMetricsSnapshot {
+
+    private List<PrefixMetrics> prefixes;
+    private List<KeyMetrics> hotKeys;
+
+    // 키 접두사별 집계
+    @Getter
+    @AllArgsConstructor
+    public static class PrefixMetrics {
+        private String prefix;
+        private long acquisitions;
+        private long contendedAcquisitions;
+        private long timeouts;
+        private int currentWaiting;
+        private int maxWaiting;
+        private Latency waitTime;
+        private Latency holdTime;
+    }
+
+    // 경합이 발생한 개별 키
+    @Getter
+    @AllArgsConstructor
+    public static class KeyMetrics {
+        private String key;
+        private long contendedAcquisitions;
+        private long timeouts;
+        private long totalWaitMicros;
+        private int maxQueueLength;
+    }
+
+    // 지연 시간 요약 (마이크로초)
+    @Getter
+    @AllArgsConstructor
+    public static class Latency {
+        private long count;
+        private long avgMicros;
+        private long p50Micros;
+        private long p99Micros;
+        private long maxMicros;
+    }
+}
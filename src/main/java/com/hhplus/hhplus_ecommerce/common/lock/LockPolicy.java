@@ -0,0 +1,54 @@
+package com.hhplus.hhplus_ecommerce.common.lock;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 키 접두사별 Lock 획득 정책
+ * - maxWait: 최대 대기 시간 (null이면 무제한 대기)
+ * - fair: 공정(FIFO) Lock 여부 (false면 새치기 허용)
+ * - failFast: 즉시 획득하지 못하면 대기 없이 실패
+ */
+@Getter
+public final class LockPolicy {
+
+    private static final LockPolicy DEFAULT = new LockPolicy(null, false, false);
+
+    private final Duration maxWait;
+    private final boolean fair;
+    private final boolean failFast;
+
+    private LockPolicy(Duration maxWait, boolean fair, boolean failFast) {
+        if (maxWait != null && maxWait.isNegative()) {
+            throw new IllegalArgumentException("최대 대기 시간은 0 이상이어야 합니다.");
+        }
+        this.maxWait = maxWait;
+        this.fair = fair;
+        this.failFast = failFast;
+    }
+
+    // 기본 정책: 무제한 대기, 새치기 허용 (기존 동작)
+    public static LockPolicy unbounded() {
+        return DEFAULT;
+    }
+
+    // 최대 대기 시간 제한
+    public static LockPolicy waitAtMost(Duration maxWait) {
+        return new LockPolicy(maxWait, false, false);
+    }
+
+    // 대기 없이 즉시 실패
+    public static LockPolicy failFast() {
+        return new LockPolicy(Duration.ZERO, false, true);
+    }
+
+    // 공정 Lock 적용
+    public LockPolicy withFairness(boolean fair) {
+        return new LockPolicy(this.maxWait, fair, this.failFast);
+    }
+
+    public boolean isUnbounded() {
+        return !failFast && maxWait == null;
+    }
+}
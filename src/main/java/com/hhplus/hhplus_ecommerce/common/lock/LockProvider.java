@@ -0,0 +1,38 @@
+package com.hhplus.hhplus_ecommerce.common.lock;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Lease 기반 Lock 제공자 SPI
+ * - LockManager와 달리 여러 애플리케이션 노드가 같은 키에 대해 상호 배제를 얻기 위한 용도
+ * - Lease는 TTL이 지나면 자동으로 만료되므로, 소유자가 장애로 반납하지 못해도 다른 노드가 이어받을 수 있음
+ * - 작업이 TTL보다 길어질 수 있으면 renew로 연장하고, 저장 시에는 fencingToken으로 이전 소유자의 쓰기를 차단
+ */
+public interface LockProvider {
+
+    /**
+     * Lease 획득: maxWait 안에 획득하지 못하면 LOCK_ACQUISITION_TIMEOUT 예외
+     */
+    Lease acquire(String key, Duration ttl, Duration maxWait);
+
+    /**
+     * Lease 연장: 이미 만료되었거나 다른 소유자에게 넘어간 경우 LOCK_LEASE_EXPIRED 예외
+     * - 연장해도 fencingToken은 바뀌지 않음
+     */
+    Lease renew(Lease lease, Duration ttl);
+
+    /**
+     * Lease 반납: 현재 소유자인 경우에만 반납하고 true 반환 (이미 만료되어 넘어간 경우 false)
+     */
+    boolean release(Lease lease);
+
+    default <T> T executeWithLease(String key, Duration ttl, Duration maxWait, Function<Lease, T> action) {
+        Lease lease = acquire(key, ttl, maxWait);
+        try {
+            return action.apply(lease);
+        } finally {
+            release(lease);
+        }
+    }
+}
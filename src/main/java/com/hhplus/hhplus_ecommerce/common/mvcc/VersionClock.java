@@ -0,0 +1,69 @@
+package com.hhplus.hhplus_ecommerce.common.mvcc;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 다중 버전 저장소의 전역 버전 시계와 열린 스냅샷 목록
+ * - 쓰기는 commit()으로 이전 쓰기보다 큰 버전을 받음
+ * - 스냅샷은 열린 시점의 버전 이하로 커밋된 쓰기만 보며, 닫힐 때까지 그 버전에 필요한 이전 기록이 정리되지 않음
+ */
+public class VersionClock {
+
+    // 스냅샷 등록 중 표시 (버전을 읽기 전): 이 상태의 스냅샷이 있으면 이전 기록을 정리하지 않음
+    private static final long REGISTERING = -1;
+
+    private final AtomicLong version = new AtomicLong();
+    private final Set<Snapshot> openSnapshots = ConcurrentHashMap.newKeySet();
+
+    long commit() {
+        return version.incrementAndGet();
+    }
+
+    public long currentVersion() {
+        return version.get();
+    }
+
+    /**
+     * 현재 버전 기준 스냅샷 열기 (사용 후 close 필요)
+     * - 등록을 먼저 하고 버전을 읽으므로, 등록을 보지 못한 쓰기가 정리한 기록은 이 스냅샷에 필요 없는 기록임
+     */
+    public Snapshot openSnapshot() {
+        Snapshot snapshot = new Snapshot();
+        openSnapshots.add(snapshot);
+        snapshot.version = version.get();
+        return snapshot;
+    }
+
+    // version보다 오래된 버전을 볼 수 있는 스냅샷이 없으면 true (그 이전 기록 정리 가능)
+    boolean isUnobservedBefore(long committedVersion) {
+        for (Snapshot snapshot : openSnapshots) {
+            long snapshotVersion = snapshot.version;
+            if (snapshotVersion == REGISTERING || snapshotVersion < committedVersion) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getOpenSnapshotCount() {
+        return openSnapshots.size();
+    }
+
+    public final class Snapshot implements AutoCloseable {
+        private volatile long version = REGISTERING;
+
+        private Snapshot() {
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public void close() {
+            openSnapshots.remove(this);
+        }
+    }
+}
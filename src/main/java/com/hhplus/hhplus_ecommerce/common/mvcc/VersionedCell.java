@@ -0,0 +1,95 @@
+package com.hhplus.hhplus_ecommerce.common.mvcc;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * 불변 값의 버전 목록 (최신 버전이 head, 이전 버전은 prev로 연결)
+ * - 쓰기는 새 버전을 CAS로 head에 연결한 뒤 버전 번호를 받음 (Lock 없음, 경합 시 다시 시도)
+ * - 최신 조회는 head를 읽기만 하고, 버전 조회는 스냅샷 버전 이하의 가장 최근 버전까지 거슬러 올라감
+ * - 버전 번호를 받기 전의 head 위에는 다음 쓰기가 올라가지 않으므로 목록의 버전은 항상 오름차순
+ * - 열린 스냅샷이 볼 일이 없는 이전 버전은 쓰기 때마다 끊어 내어, 스냅샷이 없으면 버전 2개만 유지
+ */
+public class VersionedCell<T> {
+
+    // 버전 번호를 받기 전 (head에 연결되었지만 아직 커밋되지 않음)
+    private static final long PENDING = Long.MAX_VALUE;
+
+    private final VersionClock clock;
+    private final AtomicReference<Node<T>> head;
+
+    // 첫 버전은 커밋 전 상태로 생성: 저장소에 넣은 뒤 publish()로 커밋해야 스냅샷에 보임
+    public VersionedCell(VersionClock clock, T initial) {
+        this.clock = clock;
+        this.head = new AtomicReference<>(new Node<>(initial, null));
+    }
+
+    public void publish() {
+        Node<T> node = head.get();
+        // 이전 버전이 없는 커밋 전 버전 = 첫 버전 (쓰기 중인 버전은 항상 이전 버전이 연결되어 있음)
+        if (node.prev == null && node.version == PENDING) {
+            node.version = clock.commit();
+        }
+    }
+
+    // 최신 값 (커밋 중인 값 포함)
+    public T latest() {
+        return head.get().value;
+    }
+
+    // 스냅샷 버전 시점의 값 (그 시점에 없었으면 null)
+    public T asOf(long snapshotVersion) {
+        Node<T> node = head.get();
+        while (node != null) {
+            if (awaitCommitted(node) <= snapshotVersion) {
+                return node.value;
+            }
+            node = node.prev;
+        }
+        return null;
+    }
+
+    /**
+     * 새 버전 기록: change가 null을 반환하면 기록하지 않고 null
+     * - 성공하면 교체된 이전 값 반환 (change는 경합 시 여러 번 호출될 수 있음)
+     */
+    public T update(UnaryOperator<T> change) {
+        while (true) {
+            Node<T> current = head.get();
+            awaitCommitted(current);
+            T next = change.apply(current.value);
+            if (next == null) {
+                return null;
+            }
+            Node<T> node = new Node<>(next, current);
+            if (head.compareAndSet(current, node)) {
+                node.version = clock.commit();
+                if (clock.isUnobservedBefore(current.version)) {
+                    current.prev = null;
+                }
+                return current.value;
+            }
+        }
+    }
+
+    // 커밋 중인 버전은 버전 번호를 받을 때까지 잠시 대기 (CAS 직후 commit 한 번 사이의 구간)
+    private static long awaitCommitted(Node<?> node) {
+        long version = node.version;
+        while (version == PENDING) {
+            Thread.onSpinWait();
+            version = node.version;
+        }
+        return version;
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private volatile long version = PENDING;
+        private volatile Node<T> prev;
+
+        private Node(T value, Node<T> prev) {
+            this.value = value;
+            this.prev = prev;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.hhplus.hhplus_ecommerce.common.timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시 타이밍 휠
+ * - 만료 시각을 tick 단위 슬롯(버킷)에 나눠 담고, 시간이 흐르면 현재 슬롯만 확인하여 만료된 항목을 꺼냄
+ * - 등록/취소는 O(1), 만료 처리는 지난 슬롯에 들어 있는 항목 수에만 비례 (전체 항목을 훑지 않음)
+ * - 휠 한 바퀴보다 먼 만료 시각은 남은 바퀴 수(remainingRounds)로 구분
+ * - 등록(schedule)과 취소(cancel)는 여러 스레드에서 호출 가능, 시간 진행(advance)은 한 번에 한 스레드만 수행
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    // 슬롯별 항목 목록 (생성 시 한 번 만들고 크기는 바뀌지 않음)
+    private final List<List<Timeout<T>>> buckets;
+
+    // 등록 대기열: 다음 advance 시점에 슬롯으로 옮김 (등록 스레드가 슬롯을 직접 건드리지 않음)
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+
+    // 다음에 처리할 tick 번호 (advance 안에서만 변경)
+    private long tick;
+
+    public HashedTimingWheel(Duration tickDuration, int ticksPerWheel, long startMillis) {
+        if (tickDuration.toMillis() < 1) {
+            throw new IllegalArgumentException("tick 간격은 1ms 이상이어야 합니다.");
+        }
+        if (ticksPerWheel < 1) {
+            throw new IllegalArgumentException("슬롯 개수는 1 이상이어야 합니다.");
+        }
+        // 슬롯 개수는 2의 거듭제곱으로 맞춰 나머지 연산 대신 비트 마스크 사용
+        int wheelSize = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        wheelSize = Math.max(1, wheelSize);
+        this.tickMillis = tickDuration.toMillis();
+        this.startMillis = startMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new LinkedList<>());
+        }
+    }
+
+    // 만료 시각(epoch millis)에 항목 등록
+    public Timeout<T> schedule(T item, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(item, deadlineMillis);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * nowMillis까지 지난 tick을 모두 처리하고, 이번에 만료된 항목을 한꺼번에 반환
+     * - 반환된 항목은 만료 상태로 확정되어 이후 cancel이 실패함
+     * - 만료 시각보다 최대 tick 간격만큼 늦게 만료될 수 있음
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        transferPending();
+
+        List<T> expired = new ArrayList<>();
+        while (tickDeadline(tick) <= nowMillis) {
+            Iterator<Timeout<T>> iterator = buckets.get((int) (tick & mask)).iterator();
+            while (iterator.hasNext()) {
+                Timeout<T> timeout = iterator.next();
+                if (timeout.isCancelled()) {
+                    iterator.remove();
+                } else if (timeout.remainingRounds <= 0) {
+                    iterator.remove();
+                    if (timeout.expire()) {
+                        expired.add(timeout.item);
+                    }
+                } else {
+                    timeout.remainingRounds--;
+                }
+            }
+            tick++;
+        }
+        return expired;
+    }
+
+    // 아직 만료/취소되지 않은 항목 수 (모니터링용, 근사값)
+    public synchronized int size() {
+        int size = 0;
+        for (Timeout<T> timeout : pending) {
+            if (timeout.isPending()) {
+                size++;
+            }
+        }
+        for (List<Timeout<T>> bucket : buckets) {
+            for (Timeout<T> timeout : bucket) {
+                if (timeout.isPending()) {
+                    size++;
+                }
+            }
+        }
+        return size;
+    }
+
+    // 등록 대기열의 항목을 만료 시각에 해당하는 슬롯으로 이동
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            // 만료 시각이 속한 tick (이미 지난 시각이면 바로 다음에 처리할 tick)
+            long deadlineTick = Math.max(tick, Math.floorDiv(timeout.deadlineMillis - startMillis, tickMillis));
+            timeout.remainingRounds = (deadlineTick - tick) / buckets.size();
+            buckets.get((int) (deadlineTick & mask)).add(timeout);
+        }
+    }
+
+    // tick 번호의 구간이 끝나는 시각
+    private long tickDeadline(long tickNumber) {
+        return startMillis + (tickNumber + 1) * tickMillis;
+    }
+
+    /**
+     * 등록된 항목의 핸들
+     * - cancel과 만료 처리는 상태 CAS로 경쟁하므로 둘 중 하나만 성공함
+     */
+    public static final class Timeout<T> {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final T item;
+        private final long deadlineMillis;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        // 남은 바퀴 수 (advance 안에서만 변경)
+        private long remainingRounds;
+
+        private Timeout(T item, long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        // 만료 전이면 취소하고 true, 이미 만료/취소되었으면 false
+        public boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private boolean isPending() {
+            return state.get() == PENDING;
+        }
+
+        private boolean expire() {
+            return state.compareAndSet(PENDING, EXPIRED);
+        }
+    }
+}
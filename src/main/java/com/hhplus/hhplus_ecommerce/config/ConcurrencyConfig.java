@@ -0,0 +1,66 @@
+package com.hhplus.hhplus_ecommerce.config;
+
+import com.hhplus.hhplus_ecommerce.common.concurrency.ConcurrencyStrategy;
+import com.hhplus.hhplus_ecommerce.common.concurrency.LeaseConcurrencyStrategy;
+import com.hhplus.hhplus_ecommerce.common.concurrency.LockConcurrencyStrategy;
+import com.hhplus.hhplus_ecommerce.common.concurrency.LockFreeConcurrencyStrategy;
+import com.hhplus.hhplus_ecommerce.common.concurrency.MailboxConcurrencyStrategy;
+import com.hhplus.hhplus_ecommerce.common.lock.FileLockProvider;
+import com.hhplus.hhplus_ecommerce.common.lock.LockManager;
+import com.hhplus.hhplus_ecommerce.common.lock.LockProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 동시성 제어 전략 설정
+ * - 재고 변경(ProductService)과 선착순 쿠폰 발급(CouponService)은 선택된 전략을 거쳐 실행
+ * - concurrency.strategy=lock (기본): 호출 스레드가 키 Lock을 직접 획득 (lock.policies 정책과 Lock 경합 지표 적용)
+ * - concurrency.strategy=mailbox: 키별 단일 작업자가 작업을 묶음 단위로 처리 (핫 키 경합 완화)
+ * - concurrency.strategy=lease: LockProvider의 Lease로 여러 노드 간 상호 배제 (같은 호스트에서는 공유 파일 사용)
+ * - concurrency.strategy=lock-free: Lock 없이 재고 CAS와 쿠폰 발급 슬롯만 사용 (단일 노드 전용)
+ */
+@Configuration
+public class ConcurrencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "concurrency.strategy", havingValue = "lock", matchIfMissing = true)
+    public ConcurrencyStrategy lockConcurrencyStrategy(LockManager lockManager) {
+        return new LockConcurrencyStrategy(lockManager);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "concurrency.strategy", havingValue = "mailbox")
+    public ConcurrencyStrategy mailboxConcurrencyStrategy(
+            LockManager lockManager,
+            @Value("${concurrency.mailbox.workers:0}") int workers,
+            @Value("${concurrency.mailbox.batch-size:64}") int batchSize) {
+        int workerCount = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        return new MailboxConcurrencyStrategy(lockManager, workerCount, batchSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "concurrency.strategy", havingValue = "lock-free")
+    public ConcurrencyStrategy lockFreeConcurrencyStrategy() {
+        return new LockFreeConcurrencyStrategy();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "concurrency.strategy", havingValue = "lease")
+    public LockProvider fileLockProvider(@Value("${concurrency.lease.file:${java.io.tmpdir}/hhplus-ecommerce-locks}") String stateFile) {
+        return new FileLockProvider(Path.of(stateFile));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "concurrency.strategy", havingValue = "lease")
+    public ConcurrencyStrategy leaseConcurrencyStrategy(
+            LockProvider lockProvider,
+            @Value("${concurrency.lease.ttl:10s}") Duration ttl,
+            @Value("${concurrency.lease.max-wait:3s}") Duration maxWait) {
+        return new LeaseConcurrencyStrategy(lockProvider, ttl, maxWait);
+    }
+}
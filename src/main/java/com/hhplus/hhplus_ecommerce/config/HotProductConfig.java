@@ -0,0 +1,33 @@
+package com.hhplus.hhplus_ecommerce.config;
+
+import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryProductRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 인기(선착순 판매) 상품 분할 재고 설정
+ * - product.hot-stock.product-ids: 분할 재고로 관리할 상품ID 목록
+ * - product.hot-stock.stripes: 재고 셀 개수 (0이면 CPU 코어 수)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class HotProductConfig {
+
+    private final InMemoryProductRepository productRepository;
+
+    @Value("${product.hot-stock.product-ids:}")
+    private List<Long> hotProductIds;
+
+    @Value("${product.hot-stock.stripes:0}")
+    private int stripes;
+
+    @PostConstruct
+    public void registerHotProducts() {
+        int stripeCount = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+        hotProductIds.forEach(productId -> productRepository.markHot(productId, stripeCount));
+    }
+}
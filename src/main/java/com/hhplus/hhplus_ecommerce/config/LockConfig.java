@@ -0,0 +1,36 @@
+package com.hhplus.hhplus_ecommerce.config;
+
+import com.hhplus.hhplus_ecommerce.common.lock.LockManager;
+import com.hhplus.hhplus_ecommerce.common.lock.LockPolicy;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(LockProperties.class)
+public class LockConfig {
+
+    private final LockManager lockManager;
+    private final LockProperties lockProperties;
+
+    //설정 파일의 접두사별 Lock 정책 등록
+    @PostConstruct
+    public void registerLockPolicies() {
+        lockProperties.getPolicies().forEach((prefix, policy) ->
+                lockManager.registerPolicy(prefix + ":", toLockPolicy(policy)));
+    }
+
+    private LockPolicy toLockPolicy(LockProperties.Policy policy) {
+        LockPolicy lockPolicy;
+        if (policy.isFailFast()) {
+            lockPolicy = LockPolicy.failFast();
+        } else if (policy.getMaxWait() != null) {
+            lockPolicy = LockPolicy.waitAtMost(policy.getMaxWait());
+        } else {
+            lockPolicy = LockPolicy.unbounded();
+        }
+        return lockPolicy.withFairness(policy.isFair());
+    }
+}
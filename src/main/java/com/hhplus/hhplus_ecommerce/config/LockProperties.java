@@ -0,0 +1,30 @@
+package com.hhplus.hhplus_ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lock 정책 설정
+ * - lock.policies.{접두사}.max-wait / fair / fail-fast
+ * - 접두사는 Lock 키의 콜론 앞부분 (예: product -> "product:" 키에 적용)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lock")
+public class LockProperties {
+
+    private Map<String, Policy> policies = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private Duration maxWait;
+        private boolean fair;
+        private boolean failFast;
+    }
+}
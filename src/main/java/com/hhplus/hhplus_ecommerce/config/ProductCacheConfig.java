@@ -0,0 +1,28 @@
+package com.hhplus.hhplus_ecommerce.config;
+
+import com.hhplus.hhplus_ecommerce.product.infrastructure.CachingProductRepository;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 상품 조회 캐시 설정
+ * - product.cache.enabled=true: 서비스가 주입받는 ProductRepository를 캐시 데코레이터로 교체
+ *   (현재 원본은 메모리 저장소라 기본값은 꺼 둠, 느린 저장소로 바꿀 때 사용)
+ * - product.cache.maximum-size: 캐시할 최대 상품 수
+ */
+@Configuration
+public class ProductCacheConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "product.cache.enabled", havingValue = "true")
+    public CachingProductRepository cachingProductRepository(
+            InMemoryProductRepository productRepository,
+            @Value("${product.cache.maximum-size:10000}") int maximumSize) {
+        return new CachingProductRepository(productRepository, maximumSize);
+    }
+}
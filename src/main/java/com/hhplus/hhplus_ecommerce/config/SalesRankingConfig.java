@@ -0,0 +1,32 @@
+package com.hhplus.hhplus_ecommerce.config;
+
+import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryProductRepository;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.SalesRankingMode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 인기 상품 집계 방식 설정
+ * - product.ranking.mode: exact | approximate | cross-check
+ * - product.ranking.error-rate: 근사 집계의 최대 오차 비율 (버킷당 카운터 개수 = 1 / 오차율)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class SalesRankingConfig {
+
+    private final InMemoryProductRepository productRepository;
+
+    @Value("${product.ranking.mode:exact}")
+    private String mode;
+
+    @Value("${product.ranking.error-rate:0.001}")
+    private double errorRate;
+
+    @PostConstruct
+    public void configureRanking() {
+        SalesRankingMode rankingMode = SalesRankingMode.valueOf(mode.trim().toUpperCase().replace('-', '_'));
+        productRepository.configureRanking(rankingMode, errorRate);
+    }
+}
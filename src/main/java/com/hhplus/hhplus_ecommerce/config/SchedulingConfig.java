@@ -0,0 +1,12 @@
+package com.hhplus.hhplus_ecommerce.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 설정 (재고 예약 만료 처리 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
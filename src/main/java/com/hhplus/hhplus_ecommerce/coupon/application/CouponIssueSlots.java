@@ -0,0 +1,126 @@
+package com.hhplus.hhplus_ecommerce.coupon.application;
+
+import com.hhplus.hhplus_ecommerce.coupon.domain.Coupon;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 선착순 쿠폰 발급 슬롯 (프로세스 내 쿠폰별 발급 상태)
+ * - 발급 수를 원자 카운터로 관리하여 totalQuantity를 넘지 않는 범위에서 CAS로 슬롯을 선점 (Lock 없음)
+ * - 발급받은 사용자 집합으로 중복 발급을 걸러내고, 이후 검증/저장이 실패하면 호출자가 선점한 슬롯과 사용자를 되돌림
+ * - 발급을 마친 슬롯은 확정(commit)하고, 모든 슬롯이 선점되었어도 확정되지 않은 슬롯이 남아 있으면
+ *   반환될 수 있으므로 결과가 날 때까지 잠들어 기다림 (반환된 슬롯이 있는데 매진으로 거절하지 않음)
+ * - 카운터는 처음 사용할 때 저장된 쿠폰의 발급 수량으로 초기화되므로, 같은 쿠폰을 여러 노드에서 발급할 때는 사용할 수 없음
+ * - 쿠폰이 수정(총 수량 변경)되거나 다시 등록(생성 시각 변경)되면 저장된 쿠폰 기준으로 새로 만듦
+ *   (그 사이 진행 중이던 발급은 이전 상태로 마무리되므로 변경 직후에는 수량 제한이 저장소 기준으로만 보장됨)
+ */
+class CouponIssueSlots {
+
+    private final Map<Long, Slots> slots = new ConcurrentHashMap<>();
+
+    // 쿠폰의 발급 상태 (처음이거나 만든 뒤 쿠폰이 수정/재등록되었으면 저장된 발급 수량으로 생성)
+    Slots of(Coupon coupon) {
+        return slots.compute(coupon.getId(),
+                (id, current) -> current != null && current.isFor(coupon) ? current : new Slots(coupon));
+    }
+
+    static final class Slots {
+        private final int totalQuantity;
+        private final LocalDateTime couponCreatedAt;
+        private final AtomicInteger issued;
+        private final AtomicInteger committed;
+        private final Set<Long> users = ConcurrentHashMap.newKeySet();
+
+        // 확정되지 않은 슬롯의 결과를 기다리는 스레드용 (기다리는 스레드가 있을 때만 깨움)
+        private final ReentrantLock settleLock = new ReentrantLock();
+        private final Condition settled = settleLock.newCondition();
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        private Slots(Coupon coupon) {
+            this.totalQuantity = coupon.getTotalQuantity();
+            this.couponCreatedAt = coupon.getCreatedAt();
+            this.issued = new AtomicInteger(coupon.getIssuedQuantity());
+            this.committed = new AtomicInteger(coupon.getIssuedQuantity());
+        }
+
+        // 이 상태를 만든 뒤 쿠폰의 총 수량이 바뀌거나 다시 등록되지 않았는지
+        private boolean isFor(Coupon coupon) {
+            return totalQuantity == coupon.getTotalQuantity()
+                    && Objects.equals(couponCreatedAt, coupon.getCreatedAt());
+        }
+
+        // 발급 사용자로 등록 (이미 등록된 사용자면 false)
+        boolean claimUser(Long userId) {
+            return users.add(userId);
+        }
+
+        void releaseUser(Long userId) {
+            users.remove(userId);
+        }
+
+        // 남은 수량이 있으면 슬롯 하나를 선점하고 true, 모든 슬롯이 확정되어 소진되었으면 false
+        boolean claimSlot() {
+            while (true) {
+                int current = issued.get();
+                if (current < totalQuantity) {
+                    if (issued.compareAndSet(current, current + 1)) {
+                        return true;
+                    }
+                    continue;
+                }
+                if (committed.get() >= totalQuantity) {
+                    return false;
+                }
+                awaitSettled();
+            }
+        }
+
+        // 확정되지 않은 슬롯의 발급 결과(확정 또는 반환)가 날 때까지 잠듦
+        private void awaitSettled() {
+            waiters.incrementAndGet();
+            settleLock.lock();
+            try {
+                while (issued.get() >= totalQuantity && committed.get() < totalQuantity) {
+                    settled.awaitUninterruptibly();
+                }
+            } finally {
+                settleLock.unlock();
+                waiters.decrementAndGet();
+            }
+        }
+
+        // 선점한 슬롯의 발급을 마침 (이후 반환하지 않음)
+        void commitSlot() {
+            committed.incrementAndGet();
+            signalSettled();
+        }
+
+        void releaseSlot() {
+            issued.decrementAndGet();
+            signalSettled();
+        }
+
+        // 카운터를 바꾼 뒤 기다리는 스레드가 있으면 깨움 (기다리는 쪽은 등록 후 Lock 안에서 카운터를 다시 확인하므로 신호를 놓치지 않음)
+        private void signalSettled() {
+            if (waiters.get() > 0) {
+                settleLock.lock();
+                try {
+                    settled.signalAll();
+                } finally {
+                    settleLock.unlock();
+                }
+            }
+        }
+
+        int getIssuedQuantity() {
+            return issued.get();
+        }
+    }
+}
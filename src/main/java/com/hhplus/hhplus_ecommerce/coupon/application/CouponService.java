@@ -1,8 +1,8 @@
 package com.hhplus.hhplus_ecommerce.coupon.application;
 
+import com.hhplus.hhplus_ecommerce.common.concurrency.ConcurrencyStrategy;
 import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
 import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
-import com.hhplus.hhplus_ecommerce.common.lock.LockManager;
 import com.hhplus.hhplus_ecommerce.coupon.CouponStatus;
 import com.hhplus.hhplus_ecommerce.coupon.domain.Coupon;
 import com.hhplus.hhplus_ecommerce.coupon.domain.UserCoupon;
@@ -19,40 +19,110 @@ import java.util.List;
 public class CouponService {
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
-    private final LockManager lockManager;
+    private final ConcurrencyStrategy concurrencyStrategy;
+
+    // 쿠폰별 발급 슬롯 (Lock 없는 전략에서 같은 쿠폰을 이 프로세스에서만 발급할 때 사용)
+    private final CouponIssueSlots issueSlots = new CouponIssueSlots();
 
     //선착순 코폰 발급
     public UserCoupon issueCoupon(Long userId, Long couponId) {
-        // LockManager를 통한 동시성 제어
-        return lockManager.executeWithLock("coupon:" + couponId, () -> {
-            // 1. 쿠폰 조회
-            Coupon coupon = couponRepository.findById(couponId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
-
-            // 2. 중복 발급 확인
-            userCouponRepository.findByUserIdAndCouponId(userId, couponId)
-                    .ifPresent(uc -> {
-                        throw new BusinessException(ErrorCode.COUPON_ALREADY_ISSUED);
-                    });
-
-            // 3. 발급 가능 여부 확인 (수량)
-            if (!coupon.canIssue()) {
+        // Lock 없는 전략이면 프로세스 내 발급 슬롯으로 선점, 아니면 선택된 전략으로 쿠폰 키를 보유한 상태에서 발급
+        if (!concurrencyStrategy.isExclusive()) {
+            return issueWithSlots(userId, couponId);
+        }
+        return concurrencyStrategy.execute("coupon:" + couponId, () -> issueExclusively(userId, couponId));
+    }
+
+    /**
+     * Lock 없는 발급: 사용자 등록과 수량 슬롯을 원자적으로 선점한 뒤 검증/저장
+     * - 같은 쿠폰의 요청이 하나의 Lock에 줄 서지 않으므로 처리량이 코어 수에 비례
+     * - 선점 이후 단계가 실패하면 선점한 슬롯과 사용자를 되돌리므로 totalQuantity를 넘겨 발급하지 않음
+     */
+    private UserCoupon issueWithSlots(Long userId, Long couponId) {
+        // 1. 쿠폰 조회
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+        CouponIssueSlots.Slots slots = issueSlots.of(coupon);
+
+        // 2. 중복 발급 확인: 발급 사용자 집합에 먼저 등록한 요청만 진행
+        if (!slots.claimUser(userId)) {
+            throw new BusinessException(ErrorCode.COUPON_ALREADY_ISSUED);
+        }
+
+        boolean slotClaimed = false;
+        boolean quantityIncreased = false;
+        boolean issued = false;
+        try {
+            // 슬롯 상태가 만들어지기 전에 저장된 발급 내역 확인 (사용자별 색인 조회)
+            if (userCouponRepository.findByUserIdAndCouponId(userId, couponId).isPresent()) {
+                throw new BusinessException(ErrorCode.COUPON_ALREADY_ISSUED);
+            }
+
+            // 3. 수량 슬롯 선점
+            if (!slots.claimSlot()) {
                 throw new BusinessException(ErrorCode.COUPON_SOLD_OUT);
             }
+            slotClaimed = true;
 
             // 4. 유효기간 확인
             if (!coupon.isValid()) {
                 throw new BusinessException(ErrorCode.COUPON_NOT_AVAILABLE);
             }
 
-            // 5. 쿠폰 발급 수량 증가
-            coupon.increaseIssuedQuantity();
-            couponRepository.save(coupon);
+            // 5. 발급 수량 반영 후 사용자 쿠폰 생성 (저장된 발급 수량이 발급 내역보다 작아지지 않도록)
+            couponRepository.increaseIssuedQuantity(couponId);
+            quantityIncreased = true;
+            UserCoupon userCoupon = userCouponRepository.save(UserCoupon.issue(userId, coupon));
+            slots.commitSlot();
+            issued = true;
+            return userCoupon;
+        } finally {
+            // 발급하지 못했으면 반영한 발급 수량, 선점한 슬롯과 사용자 등록을 되돌림
+            if (!issued) {
+                if (quantityIncreased) {
+                    couponRepository.decreaseIssuedQuantity(couponId);
+                }
+                if (slotClaimed) {
+                    slots.releaseSlot();
+                }
+                slots.releaseUser(userId);
+            }
+        }
+    }
+
+    // 전략으로 직렬화된 발급: 쿠폰 Lock 안에서 조회-확인-증가
+    private UserCoupon issueExclusively(Long userId, Long couponId) {
+        // 1. 쿠폰 조회
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+
+        // 2. 중복 발급 확인
+        userCouponRepository.findByUserIdAndCouponId(userId, couponId)
+                .ifPresent(uc -> {
+                    throw new BusinessException(ErrorCode.COUPON_ALREADY_ISSUED);
+                });
 
-            // 6. 사용자 쿠폰 생성
-            UserCoupon userCoupon = UserCoupon.issue(userId, coupon);
-            return userCouponRepository.save(userCoupon);
-        });
+        // 3. 발급 가능 여부 확인 (수량)
+        if (!coupon.canIssue()) {
+            throw new BusinessException(ErrorCode.COUPON_SOLD_OUT);
+        }
+
+        // 4. 유효기간 확인
+        if (!coupon.isValid()) {
+            throw new BusinessException(ErrorCode.COUPON_NOT_AVAILABLE);
+        }
+
+        // 5. 쿠폰 발급 수량 증가
+        coupon.increaseIssuedQuantity();
+        couponRepository.save(coupon);
+
+        // 6. 사용자 쿠폰 생성 (저장이 실패하면 증가한 발급 수량을 되돌림)
+        try {
+            return userCouponRepository.save(UserCoupon.issue(userId, coupon));
+        } catch (RuntimeException e) {
+            couponRepository.decreaseIssuedQuantity(couponId);
+            throw e;
+        }
     }
 
     //사용자의 쿠폰 목록 조회
@@ -56,6 +56,14 @@ public class Coupon {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 비즈니스 로직: 발급 수량 감소 (발급을 마치지 못해 증가분을 되돌릴 때)
+    public void decreaseIssuedQuantity() {
+        if (this.issuedQuantity > 0) {
+            this.issuedQuantity--;
+            this.updatedAt = LocalDateTime.now();
+        }
+    }
+
     // 비즈니스 로직: 유효기간 체크
     public boolean isValid() {
         LocalDateTime now = LocalDateTime.now();
@@ -61,6 +61,22 @@ public class InMemoryCouponRepository implements CouponRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<Coupon> increaseIssuedQuantity(Long couponId) {
+        return Optional.ofNullable(store.computeIfPresent(couponId, (id, coupon) -> {
+            coupon.increaseIssuedQuantity();
+            return coupon;
+        }));
+    }
+
+    @Override
+    public Optional<Coupon> decreaseIssuedQuantity(Long couponId) {
+        return Optional.ofNullable(store.computeIfPresent(couponId, (id, coupon) -> {
+            coupon.decreaseIssuedQuantity();
+            return coupon;
+        }));
+    }
+
     public void clear() {
         store.clear();
         idGenerator.set(1);
@@ -7,15 +7,20 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class InMemoryUserCouponRepository implements UserCouponRepository {
 
     private final Map<Long, UserCoupon> store = new ConcurrentHashMap<>();
+    // 사용자ID -> 사용자 쿠폰ID 집합: 사용자별 조회가 전체 저장소를 훑지 않도록 유지
+    private final Map<Long, Set<Long>> userIndex = new ConcurrentHashMap<>();
     private final AtomicLong idGenerator = new AtomicLong(1);
 
     @Override
@@ -33,9 +38,11 @@ public class InMemoryUserCouponRepository implements UserCouponRepository {
                     .expiresAt(userCoupon.getExpiresAt())
                     .build();
             store.put(newUserCoupon.getId(), newUserCoupon);
+            index(newUserCoupon);
             return newUserCoupon;
         } else {
             store.put(userCoupon.getId(), userCoupon);
+            index(userCoupon);
             return userCoupon;
         }
     }
@@ -47,27 +54,43 @@ public class InMemoryUserCouponRepository implements UserCouponRepository {
 
     @Override
     public List<UserCoupon> findByUserId(Long userId) {
-        return store.values().stream()
-                .filter(uc -> userId.equals(uc.getUserId()))
-                .collect(Collectors.toList());
+        return userCoupons(userId).collect(Collectors.toList());
     }
 
     @Override
     public Optional<UserCoupon> findByUserIdAndCouponId(Long userId, Long couponId) {
-        return store.values().stream()
-                .filter(uc -> userId.equals(uc.getUserId()) && couponId.equals(uc.getCouponId()))
+        return userCoupons(userId)
+                .filter(uc -> couponId.equals(uc.getCouponId()))
                 .findFirst();
     }
 
     @Override
     public List<UserCoupon> findByUserIdAndStatus(Long userId, CouponStatus status) {
-        return store.values().stream()
-                .filter(uc -> userId.equals(uc.getUserId()) && status.equals(uc.getStatus()))
+        return userCoupons(userId)
+                .filter(uc -> status.equals(uc.getStatus()))
                 .collect(Collectors.toList());
     }
 
     public void clear() {
         store.clear();
+        userIndex.clear();
         idGenerator.set(1);
     }
+
+    private void index(UserCoupon userCoupon) {
+        userIndex.computeIfAbsent(userCoupon.getUserId(), key -> ConcurrentHashMap.newKeySet())
+                .add(userCoupon.getId());
+    }
+
+    // 사용자의 쿠폰 (사용자 쿠폰ID 오름차순)
+    private Stream<UserCoupon> userCoupons(Long userId) {
+        Set<Long> ids = userIndex.get(userId);
+        if (ids == null) {
+            return Stream.empty();
+        }
+        return ids.stream()
+                .sorted()
+                .map(store::get)
+                .filter(Objects::nonNull);
+    }
 }
\ No newline at end of file
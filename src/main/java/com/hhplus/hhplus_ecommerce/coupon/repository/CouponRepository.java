@@ -11,4 +11,10 @@ public interface CouponRepository {
     Optional<Coupon> findById(Long id);
     List<Coupon> findAll();
     List<Coupon> findAvailableCoupons();
+
+    // 발급 수량 1 증가 (같은 쿠폰의 다른 변경과 겹치지 않게 원자적으로 반영), 쿠폰이 없으면 empty
+    Optional<Coupon> increaseIssuedQuantity(Long couponId);
+
+    // 발급 수량 1 감소 (발급 저장이 실패해 증가분을 되돌릴 때), 쿠폰이 없으면 empty
+    Optional<Coupon> decreaseIssuedQuantity(Long couponId);
 }
\ No newline at end of file
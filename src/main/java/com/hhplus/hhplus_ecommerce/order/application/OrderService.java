@@ -4,20 +4,27 @@ import com.hhplus.hhplus_ecommerce.cart.domain.CartItem;
 import com.hhplus.hhplus_ecommerce.cart.repository.CartItemRepository;
 import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
 import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
-import com.hhplus.hhplus_ecommerce.common.lock.LockManager;
 import com.hhplus.hhplus_ecommerce.coupon.domain.UserCoupon;
 import com.hhplus.hhplus_ecommerce.coupon.repository.UserCouponRepository;
 import com.hhplus.hhplus_ecommerce.order.OrderStatus;
 import com.hhplus.hhplus_ecommerce.order.domain.Order;
 import com.hhplus.hhplus_ecommerce.order.domain.OrderItem;
 import com.hhplus.hhplus_ecommerce.order.repository.OrderRepository;
+import com.hhplus.hhplus_ecommerce.product.ReservationStatus;
+import com.hhplus.hhplus_ecommerce.product.application.ProductService;
+import com.hhplus.hhplus_ecommerce.product.application.StockReservationService;
 import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.domain.StockReservation;
 import com.hhplus.hhplus_ecommerce.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -27,7 +34,8 @@ public class OrderService {
     private final ProductRepository productRepository;
     private final CartItemRepository cartItemRepository;
     private final UserCouponRepository userCouponRepository;
-    private final LockManager lockManager;
+    private final StockReservationService stockReservationService;
+    private final ProductService productService;
 
     //주문 생성
     public Order createOrder(Long userId, List<Long> cartItemIds, Long couponId) {
@@ -47,45 +55,55 @@ public class OrderService {
             throw new BusinessException(ErrorCode.ORDER_EMPTY_ITEMS);
         }
 
-        // 2. 상품 재고 확인 및 주문 항목 생성
-        List<OrderItem> orderItems = new ArrayList<>();
+        // 2. 상품 조회 (주문 상품을 한 번에 조회) 및 주문 항목 생성
+        Set<Long> productIds = new LinkedHashSet<>();
         for (CartItem cartItem : cartItems) {
-            Product product = productRepository.findById(cartItem.getProductId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+            productIds.add(cartItem.getProductId());
+        }
+        Map<Long, Product> products = productRepository.findAllById(productIds);
 
-            // 재고 확인 및 차감 (주문 시 재고 예약) - 동시성 제어 적용
-            lockManager.executeWithLock("product:" + product.getId(), () -> {
-                if (product.getStock() < cartItem.getQuantity()) {
-                    throw new BusinessException(ErrorCode.PRODUCT_INSUFFICIENT_STOCK);
-                }
-                product.decreaseStock(cartItem.getQuantity());
-                productRepository.save(product);
-            });
+        Map<Long, Integer> requiredQuantities = new LinkedHashMap<>();
+        List<OrderItem> orderItems = new ArrayList<>();
+        for (CartItem cartItem : cartItems) {
+            Product product = products.get(cartItem.getProductId());
+            if (product == null) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+            }
 
-            OrderItem orderItem = OrderItem.create(product, cartItem.getQuantity());
-            orderItems.add(orderItem);
+            requiredQuantities.merge(product.getId(), cartItem.getQuantity(), Integer::sum);
+            orderItems.add(OrderItem.create(product, cartItem.getQuantity()));
         }
 
-        // 3. 쿠폰 확인 및 할인 금액 계산
-        Integer discountAmount = 0;
-        if (couponId != null) {
-            UserCoupon userCoupon = userCouponRepository.findByUserIdAndCouponId(userId, couponId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+        // 재고 예약 (주문 시 차감, 결제 기한이 지나면 자동 복구) - 상품별 원자적 차감, 하나라도 부족하면 예외
+        StockReservation reservation = stockReservationService.reserve(requiredQuantities);
+
+        try {
+            // 3. 쿠폰 확인 및 할인 금액 계산
+            Integer discountAmount = 0;
+            if (couponId != null) {
+                UserCoupon userCoupon = userCouponRepository.findByUserIdAndCouponId(userId, couponId)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
 
-            if (!userCoupon.isAvailable()) {
-                throw new BusinessException(ErrorCode.COUPON_NOT_AVAILABLE);
+                if (!userCoupon.isAvailable()) {
+                    throw new BusinessException(ErrorCode.COUPON_NOT_AVAILABLE);
+                }
+
+                // 주문 총액 계산
+                int totalAmount = orderItems.stream()
+                        .mapToInt(OrderItem::getSubtotal)
+                        .sum();
+                discountAmount = userCoupon.calculateDiscount(totalAmount);
             }
 
-            // 주문 총액 계산
-            int totalAmount = orderItems.stream()
-                    .mapToInt(OrderItem::getSubtotal)
-                    .sum();
-            discountAmount = userCoupon.calculateDiscount(totalAmount);
+            // 4. 주문 생성
+            Order order = Order.create(userId, orderItems, couponId, discountAmount);
+            order.assignReservation(reservation.getId());
+            return orderRepository.save(order);
+        } catch (RuntimeException e) {
+            // 주문이 만들어지지 않았으므로 예약한 재고를 바로 반환
+            stockReservationService.release(reservation.getId());
+            throw e;
         }
-
-        // 4. 주문 생성
-        Order order = Order.create(userId, orderItems, couponId, discountAmount);
-        return orderRepository.save(order);
     }
 
     // 주문 조회 (단건)
@@ -114,19 +132,38 @@ public class OrderService {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
-        // 주문 취소
-        order.cancel();
+        // 재고를 건드리기 전에 취소 가능 여부 확인
+        if (!order.canCancel()) {
+            throw new BusinessException(ErrorCode.ORDER_CANNOT_CANCEL);
+        }
 
-        // 재고 복구 - 동시성 제어 적용
-        for (OrderItem item : order.getItems()) {
-            lockManager.executeWithLock("product:" + item.getProductId(), () -> {
-                Product product = productRepository.findById(item.getProductId())
-                        .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
-                product.increaseStock(item.getQuantity());
-                productRepository.save(product);
-            });
+        // 재고 복구 - 예약이 있으면 예약을 반환, 없으면 선택된 동시성 제어 전략으로 상품별 재고 증가
+        if (order.getReservationId() != null) {
+            releaseReservation(order.getReservationId());
+        } else {
+            for (OrderItem item : order.getItems()) {
+                productService.increaseStock(item.getProductId(), item.getQuantity());
+            }
         }
 
+        // 주문 취소
+        order.cancel();
         orderRepository.save(order);
     }
+
+    /**
+     * 주문의 재고 예약 반환: 반환하지 못했으면 예약 상태로 이유를 구분
+     * - 만료/반환됨: 재고가 이미 돌아갔으므로 복구 없이 취소 진행
+     * - 확정됨 또는 결제 진행 중(예약 상태이지만 반환 불가): 결제된 재고이므로 ORDER_CANNOT_CANCEL 예외
+     *   (결제가 실패하면 예약이 다시 등록되므로 그 뒤에 다시 취소 가능)
+     */
+    private void releaseReservation(Long reservationId) {
+        if (stockReservationService.release(reservationId)) {
+            return;
+        }
+        ReservationStatus status = stockReservationService.getReservation(reservationId).getStatus();
+        if (status == ReservationStatus.COMMITTED || status == ReservationStatus.RESERVED) {
+            throw new BusinessException(ErrorCode.ORDER_CANNOT_CANCEL);
+        }
+    }
 }
\ No newline at end of file
@@ -20,6 +20,8 @@ public class Order {
     private Long id;
     private Long userId;
     private Long couponId;
+    // 주문 시 차감한 재고의 예약ID
+    private Long reservationId;
     @Builder.Default
     private List<OrderItem> items = new ArrayList<>();
     private Integer totalAmount;
@@ -67,15 +69,25 @@ public class Order {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 비즈니스 로직: 취소 가능 여부 체크 (완료된 주문은 취소 불가)
+    public boolean canCancel() {
+        return this.status != OrderStatus.COMPLETED;
+    }
+
     // 비즈니스 로직: 주문 취소
     public void cancel() {
-        if (this.status == OrderStatus.COMPLETED) {
+        if (!canCancel()) {
             throw new BusinessException(ErrorCode.ORDER_CANNOT_CANCEL);
         }
         this.status = OrderStatus.CANCELLED;
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 재고 예약 연결
+    public void assignReservation(Long reservationId) {
+        this.reservationId = reservationId;
+    }
+
     // 주문 항목 추가
     public void addItem(OrderItem item) {
         this.items.add(item);
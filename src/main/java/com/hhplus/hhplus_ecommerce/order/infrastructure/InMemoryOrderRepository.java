@@ -26,6 +26,7 @@ public class InMemoryOrderRepository implements OrderRepository {
                     .id(idGenerator.getAndIncrement())
                     .userId(order.getUserId())
                     .couponId(order.getCouponId())
+                    .reservationId(order.getReservationId())
                     .items(order.getItems())
                     .totalAmount(order.getTotalAmount())
                     .discountAmount(order.getDiscountAmount())
@@ -5,15 +5,13 @@ import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
 import com.hhplus.hhplus_ecommerce.coupon.domain.UserCoupon;
 import com.hhplus.hhplus_ecommerce.coupon.repository.UserCouponRepository;
 import com.hhplus.hhplus_ecommerce.order.domain.Order;
-import com.hhplus.hhplus_ecommerce.order.domain.OrderItem;
 import com.hhplus.hhplus_ecommerce.order.repository.OrderRepository;
 import com.hhplus.hhplus_ecommerce.point.TransactionType;
 import com.hhplus.hhplus_ecommerce.point.domain.Point;
 import com.hhplus.hhplus_ecommerce.point.domain.PointTransaction;
 import com.hhplus.hhplus_ecommerce.point.repository.PointRepository;
 import com.hhplus.hhplus_ecommerce.point.repository.PointTransactionRepository;
-import com.hhplus.hhplus_ecommerce.product.domain.Product;
-import com.hhplus.hhplus_ecommerce.product.repository.ProductRepository;
+import com.hhplus.hhplus_ecommerce.product.application.StockReservationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -24,7 +22,7 @@ public class PaymentService {
     private final PointRepository pointRepository;
     private final PointTransactionRepository pointTransactionRepository;
     private final UserCouponRepository userCouponRepository;
-    private final ProductRepository productRepository;
+    private final StockReservationService stockReservationService;
 
     //결제 실행
     public void executePayment(Long userId, Long orderId) {
@@ -34,6 +32,28 @@ public class PaymentService {
 
         validatePayment(order, userId);
 
+        // 2~4. 결제 처리: 재고 예약이 있으면 결제가 성공한 뒤에만 예약 확정 (결제 기한이 지나 재고가 반환된 주문은 취소 처리)
+        if (order.getReservationId() == null) {
+            pay(order, userId);
+        } else {
+            try {
+                stockReservationService.commit(order.getReservationId(), () -> pay(order, userId));
+            } catch (BusinessException e) {
+                if (e.getErrorCode() == ErrorCode.STOCK_RESERVATION_EXPIRED) {
+                    order.cancel();
+                    orderRepository.save(order);
+                }
+                throw e;
+            }
+        }
+
+        // 5. 주문 완료
+        order.complete();
+        orderRepository.save(order);
+    }
+
+    // 포인트 차감, 거래 내역 저장, 쿠폰 사용 처리
+    private void pay(Order order, Long userId) {
         // 2. 포인트 차감
         Point point = pointRepository.findByUserId(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POINT_NOT_FOUND));
@@ -56,11 +76,8 @@ public class PaymentService {
             userCoupon.use();
             userCouponRepository.save(userCoupon);
         }
-
-        // 5. 주문 완료
-        order.complete();
-        orderRepository.save(order);
     }
+
     private void validatePayment(Order order, Long userId) {
         // 주문 검증
         if (!order.getUserId().equals(userId)) {
@@ -76,15 +93,6 @@ public class PaymentService {
         if (point.getAmount() < order.getFinalAmount()) {
             throw new BusinessException(ErrorCode.POINT_INSUFFICIENT_BALANCE);
         }
-
-        // 재고 검증
-        for (OrderItem item : order.getItems()) {
-            Product product = productRepository.findById(item.getProductId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
-            if (product.getStock() < item.getQuantity()) {
-                throw new BusinessException(ErrorCode.PRODUCT_INSUFFICIENT_STOCK);
-            }
-        }
     }
 }
 
@@ -0,0 +1,8 @@
+package com.hhplus.hhplus_ecommerce.product;
+
+public enum ReservationStatus {
+    RESERVED,
+    COMMITTED,
+    RELEASED,
+    EXPIRED
+}
@@ -0,0 +1,7 @@
+package com.hhplus.hhplus_ecommerce.product;
+
+public enum StockAdjustmentStatus {
+    APPLIED,
+    INSUFFICIENT_STOCK,
+    PRODUCT_NOT_FOUND
+}
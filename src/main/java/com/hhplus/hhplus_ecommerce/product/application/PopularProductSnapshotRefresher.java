@@ -0,0 +1,61 @@
+package com.hhplus.hhplus_ecommerce.product.application;
+
+import com.hhplus.hhplus_ecommerce.product.domain.PopularProductSnapshot;
+import com.hhplus.hhplus_ecommerce.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기 상품 스냅샷 갱신기
+ * - 지원하는 집계 기간(1, 3, 7일)별 인기 상품 목록을 주기적으로 미리 계산
+ * - 모든 기간의 스냅샷을 새 불변 맵으로 만든 뒤 volatile 참조 하나로 교체하므로, 조회는 참조 읽기 한 번으로 끝남
+ * - 조회 스레드는 갱신 중에도 이전 스냅샷을 그대로 읽으며 Lock을 기다리지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class PopularProductSnapshotRefresher {
+
+    public static final List<Integer> SUPPORTED_DAYS = List.of(1, 3, 7);
+    public static final int POPULAR_PRODUCT_LIMIT = 5;
+
+    private final ProductRepository productRepository;
+
+    // 집계 기간(일) -> 스냅샷 (갱신 시 맵 전체를 교체)
+    private volatile Map<Integer, PopularProductSnapshot> snapshots = Map.of();
+
+    // 스냅샷 갱신 (애플리케이션 시작 직후 첫 실행)
+    @Scheduled(fixedDelayString = "${product.popular.refresh-interval:1m}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, PopularProductSnapshot> refreshed = new HashMap<>();
+        for (Integer days : SUPPORTED_DAYS) {
+            refreshed.put(days, new PopularProductSnapshot(
+                    days,
+                    productRepository.findPopularProducts(now.minusDays(days), POPULAR_PRODUCT_LIMIT),
+                    now));
+        }
+        snapshots = Map.copyOf(refreshed);
+    }
+
+    /**
+     * 집계 기간의 스냅샷 조회
+     * - 지원하지 않는 기간이거나 아직 첫 갱신 전이면 바로 계산한 스냅샷 반환 (저장하지 않음)
+     */
+    public PopularProductSnapshot getSnapshot(int days) {
+        PopularProductSnapshot snapshot = snapshots.get(days);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return new PopularProductSnapshot(
+                days,
+                productRepository.findPopularProducts(now.minusDays(days), POPULAR_PRODUCT_LIMIT),
+                now);
+    }
+}
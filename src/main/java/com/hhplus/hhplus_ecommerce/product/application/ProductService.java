@@ -1,32 +1,102 @@
 package com.hhplus.hhplus_ecommerce.product.application;
 
+import com.hhplus.hhplus_ecommerce.common.concurrency.ConcurrencyStrategy;
 import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
 import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
-import com.hhplus.hhplus_ecommerce.common.lock.LockManager;
+import com.hhplus.hhplus_ecommerce.common.lock.LeaseContext;
+import com.hhplus.hhplus_ecommerce.product.StockAdjustmentStatus;
+import com.hhplus.hhplus_ecommerce.product.domain.PopularProductSnapshot;
 import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductCursor;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductPage;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductPriceChangedEvent;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductSlice;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductSort;
+import com.hhplus.hhplus_ecommerce.product.domain.StockAdjustment;
+import com.hhplus.hhplus_ecommerce.product.domain.StockAdjustmentResult;
 import com.hhplus.hhplus_ecommerce.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
     private final ProductRepository productRepository;
-    private final LockManager lockManager;
+    private final PopularProductSnapshotRefresher popularProductSnapshotRefresher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConcurrencyStrategy concurrencyStrategy;
 
     public Product getProduct(Long productId) {
         return productRepository.findById(productId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
     }
 
+    // 여러 상품 한 번에 조회: 상품ID -> 상품 (하나라도 없으면 PRODUCT_NOT_FOUND 예외)
+    public Map<Long, Product> getProducts(Collection<Long> productIds) {
+        Map<Long, Product> products = productRepository.findAllById(productIds);
+        for (Long productId : productIds) {
+            if (!products.containsKey(productId)) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+            }
+        }
+        return products;
+    }
+
+    // 재고 조회: 상품은 변경마다 새 버전으로 교체되므로 Lock 없이 마지막 확정 값을 읽음 (재고 쓰기 중에도 대기하지 않음)
+    public int getStock(Long productId) {
+        return getProduct(productId).getStock();
+    }
+
     public List<Product> getProducts() {
         return productRepository.findAll();
     }
 
+    /**
+     * 상품 목록 페이지 조회 (page는 0부터 시작)
+     * - 키워드가 있으면 이름/설명 검색(관련도순)
+     * - 없으면 상품ID 인덱스를 커서로 이어 읽어 상품ID순 (전체 상품을 복사/정렬하지 않고 앞 페이지는 커서만 넘김)
+     */
+    public ProductPage getProducts(String keyword, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (keyword != null && !keyword.isBlank()) {
+            return productRepository.search(keyword, page, size);
+        }
+
+        ProductCursor cursor = null;
+        for (int skipped = 0; skipped < page; skipped++) {
+            ProductSlice previous = productRepository.findPage(cursor, size, ProductSort.ID);
+            if (!previous.hasNext()) {
+                return new ProductPage(List.of(), productRepository.count(), page, size);
+            }
+            cursor = previous.getNextCursor();
+        }
+        List<Product> products = productRepository.findPage(cursor, size, ProductSort.ID).getProducts();
+        return new ProductPage(products, productRepository.count(), page, size);
+    }
+
+    // 커서 기반 상품 목록 조회: 이전 조각의 nextCursor 다음부터 size개 (첫 조각은 cursor 없이 요청)
+    public ProductSlice getProductSlice(String cursor, int size, ProductSort sort) {
+        if (size < 1) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        ProductCursor after = cursor != null && !cursor.isBlank() ? ProductCursor.decode(cursor) : null;
+        return productRepository.findPage(after, size, sort);
+    }
+
     public List<Product> getProductsByCategory(String category) {
         return productRepository.findByCategory(category);
     }
@@ -36,25 +106,150 @@ public class ProductService {
         return productRepository.findTopSellingProducts(startDate, 5);
     }
 
-    //재고 차감 (동시성 제어 적용)
-    public void decreaseStock(Long productId, Integer quantity) {
-        lockManager.executeWithLock("product:" + productId, () -> {
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+    // 최근 days일 인기 상품: 미리 계산된 스냅샷 조회 (1, 3, 7일 외의 기간은 바로 계산)
+    public PopularProductSnapshot getPopularProducts(int days) {
+        return popularProductSnapshotRefresher.getSnapshot(days);
+    }
 
-            product.decreaseStock(quantity);
-            productRepository.save(product);
-        });
+    //재고 차감 (선택된 동시성 제어 전략으로 상품 키를 보유한 상태에서 CAS 기반 원자적 차감, 수량이 0 이하면 INVALID_INPUT_VALUE 예외)
+    public void decreaseStock(Long productId, Integer quantity) {
+        validateQuantity(quantity);
+        if (!writeStock(productId, () -> productRepository.tryDecreaseStock(productId, quantity))) {
+            throw new BusinessException(ErrorCode.PRODUCT_INSUFFICIENT_STOCK);
+        }
     }
 
-    //재고 증가 (동시성 제어 적용)
+    //재고 증가 (선택된 동시성 제어 전략으로 상품 키를 보유한 상태에서 CAS 기반 원자적 증가, 수량이 0 이하면 INVALID_INPUT_VALUE 예외)
     public void increaseStock(Long productId, Integer quantity) {
-        lockManager.executeWithLock("product:" + productId, () -> {
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+        validateQuantity(quantity);
+        writeStock(productId, () -> {
+            productRepository.increaseStock(productId, quantity);
+            return null;
+        });
+    }
 
-            product.increaseStock(quantity);
-            productRepository.save(product);
+    /**
+     * 여러 상품 재고 한 번에 차감 (주문 재고 예약): 하나라도 부족하면 차감한 재고를 모두 되돌리고 PRODUCT_INSUFFICIENT_STOCK 예외
+     * - 배타적 전략: 주문 상품의 키를 모두 보유한 상태에서 전체 재고를 먼저 확인한 뒤 차감 (일부만 차감되지 않음)
+     * - Lock 없는 전략: 상품별 원자적 차감, 부족한 상품을 만나면 이미 차감한 재고를 복구
+     */
+    public void decreaseStocks(Map<Long, Integer> quantities) {
+        if (!concurrencyStrategy.isExclusive()) {
+            decreaseEach(quantities);
+            return;
+        }
+        List<String> lockKeys = quantities.keySet().stream()
+                .map(ProductService::lockKey)
+                .collect(Collectors.toList());
+        concurrencyStrategy.executeAll(lockKeys, () -> {
+            Map<Long, Product> products = getProducts(quantities.keySet());
+            quantities.forEach((productId, quantity) -> {
+                if (products.get(productId).getStock() < quantity) {
+                    throw new BusinessException(ErrorCode.PRODUCT_INSUFFICIENT_STOCK);
+                }
+            });
+            decreaseEach(quantities);
+            return null;
         });
     }
-}
\ No newline at end of file
+
+    // 상품별 원자적 차감: 부족한 상품을 만나면 이미 차감한 재고를 복구하고 예외 발생
+    private void decreaseEach(Map<Long, Integer> quantities) {
+        Map<Long, Integer> decreased = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> required : quantities.entrySet()) {
+            Long productId = required.getKey();
+            int quantity = required.getValue();
+            if (!fenced(productId, () -> productRepository.tryDecreaseStock(productId, quantity))) {
+                decreased.forEach((decreasedId, decreasedQuantity) -> fenced(decreasedId, () -> {
+                    productRepository.increaseStock(decreasedId, decreasedQuantity);
+                    return null;
+                }));
+                throw new BusinessException(ErrorCode.PRODUCT_INSUFFICIENT_STOCK);
+            }
+            decreased.put(productId, quantity);
+        }
+    }
+
+    // 재고 쓰기: 선택된 전략으로 상품 키를 보유한 상태에서 실행 (Lease 전략이면 펜싱 토큰과 함께 쓰기)
+    private <T> T writeStock(Long productId, Supplier<T> write) {
+        return concurrencyStrategy.execute(lockKey(productId), () -> fenced(productId, write));
+    }
+
+    // 현재 스레드가 상품 Lease를 보유하고 있으면 펜싱 토큰과 함께 쓰기 (Lease가 만료된 이전 소유자의 쓰기 차단)
+    private <T> T fenced(Long productId, Supplier<T> write) {
+        OptionalLong fencingToken = LeaseContext.fencingToken(lockKey(productId));
+        if (fencingToken.isPresent()) {
+            return productRepository.writeFenced(productId, fencingToken.getAsLong(), write);
+        }
+        return write.get();
+    }
+
+    private static void validateQuantity(Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private static String lockKey(Long productId) {
+        return "product:" + productId;
+    }
+
+    /**
+     * 가격 변경: 저장소에서 가격만 원자적으로 바꿔 그 사이 차감된 재고를 덮어쓰지 않음
+     * - 가격이 실제로 바뀌면 가격 변경 이벤트 발행 (장바구니 보기 등 가격을 담아 둔 읽기 모델 갱신)
+     */
+    public Product changePrice(Long productId, Integer price) {
+        if (price == null || price < 0) {
+            throw new BusinessException(ErrorCode.PRODUCT_INVALID_PRICE);
+        }
+        Integer previousPrice = productRepository.changePrice(productId, price);
+        if (!price.equals(previousPrice)) {
+            eventPublisher.publishEvent(new ProductPriceChangedEvent(productId, previousPrice, price));
+        }
+        return getProduct(productId);
+    }
+
+    /**
+     * 재고 일괄 조정: 요청 순서대로 건별 결과 반환
+     * - 상품별로 묶어 상품당 한 번의 원자적 갱신으로 반영 (같은 상품의 건은 요청 순서대로 적용, 선택된 전략으로 상품 키를 보유한 상태에서 반영)
+     * - 재고가 부족한 건이나 없는 상품의 건은 실패로 표시하고 나머지는 계속 처리
+     */
+    public List<StockAdjustmentResult> adjustStocks(List<StockAdjustment> adjustments) {
+        // 상품ID -> 해당 상품 건들의 요청 내 위치
+        Map<Long, List<Integer>> indexesByProduct = new LinkedHashMap<>();
+        for (int i = 0; i < adjustments.size(); i++) {
+            indexesByProduct.computeIfAbsent(adjustments.get(i).getProductId(), k -> new ArrayList<>()).add(i);
+        }
+
+        StockAdjustmentStatus[] statuses = new StockAdjustmentStatus[adjustments.size()];
+        for (Map.Entry<Long, List<Integer>> entry : indexesByProduct.entrySet()) {
+            List<Integer> indexes = entry.getValue();
+            List<Integer> deltas = new ArrayList<>(indexes.size());
+            for (int index : indexes) {
+                deltas.add(adjustments.get(index).getDelta());
+            }
+            try {
+                boolean[] applied = writeStock(entry.getKey(), () -> productRepository.adjustStock(entry.getKey(), deltas));
+                for (int i = 0; i < indexes.size(); i++) {
+                    statuses[indexes.get(i)] = applied[i]
+                            ? StockAdjustmentStatus.APPLIED
+                            : StockAdjustmentStatus.INSUFFICIENT_STOCK;
+                }
+            } catch (BusinessException e) {
+                if (e.getErrorCode() != ErrorCode.PRODUCT_NOT_FOUND) {
+                    throw e;
+                }
+                for (int index : indexes) {
+                    statuses[index] = StockAdjustmentStatus.PRODUCT_NOT_FOUND;
+                }
+            }
+        }
+
+        List<StockAdjustmentResult> results = new ArrayList<>(adjustments.size());
+        for (int i = 0; i < adjustments.size(); i++) {
+            StockAdjustment adjustment = adjustments.get(i);
+            results.add(new StockAdjustmentResult(adjustment.getProductId(), adjustment.getDelta(), statuses[i]));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,134 @@
+package com.hhplus.hhplus_ecommerce.product.application;
+
+import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
+import com.hhplus.hhplus_ecommerce.common.timer.HashedTimingWheel;
+import com.hhplus.hhplus_ecommerce.product.domain.StockReservation;
+import com.hhplus.hhplus_ecommerce.product.repository.ProductRepository;
+import com.hhplus.hhplus_ecommerce.product.repository.StockReservationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재고 예약 관리
+ * - 주문 시 재고를 차감하고 기한이 있는 예약으로 기록, 결제 작업이 성공하면 확정(commit)
+ * - 결제되지 않은 예약은 타이밍 휠이 기한에 맞춰 꺼내고, 만료된 예약의 수량을 상품별로 합산하여 한 번에 재고 복구
+ * - 확정/반환/만료는 타이밍 휠 항목의 상태 CAS로 경쟁하므로 한 예약의 재고가 두 번 복구되지 않음
+ */
+@Service
+public class StockReservationService {
+
+    private static final int TICKS_PER_WHEEL = 512;
+
+    private final ProductService productService;
+    private final ProductRepository productRepository;
+    private final StockReservationRepository reservationRepository;
+    private final Duration ttl;
+    private final HashedTimingWheel<Long> timingWheel;
+
+    // 예약ID -> 타이밍 휠 항목 (확정/반환/만료 시 제거)
+    private final Map<Long, HashedTimingWheel.Timeout<Long>> timeouts = new ConcurrentHashMap<>();
+
+    public StockReservationService(ProductService productService,
+                                   ProductRepository productRepository,
+                                   StockReservationRepository reservationRepository,
+                                   @Value("${stock.reservation.ttl:15m}") Duration ttl,
+                                   @Value("${stock.reservation.tick:1s}") Duration tick) {
+        this.productService = productService;
+        this.productRepository = productRepository;
+        this.reservationRepository = reservationRepository;
+        this.ttl = ttl;
+        this.timingWheel = new HashedTimingWheel<>(tick, TICKS_PER_WHEEL, System.currentTimeMillis());
+    }
+
+    // 재고 예약: 주문 상품 재고를 한 번에 차감, 하나라도 부족하면 아무것도 차감하지 않고 예외 발생
+    public StockReservation reserve(Map<Long, Integer> quantities) {
+        productService.decreaseStocks(quantities);
+
+        long deadlineMillis = System.currentTimeMillis() + ttl.toMillis();
+        StockReservation reservation = reservationRepository.save(
+                StockReservation.create(quantities, LocalDateTime.now().plus(ttl)));
+        timeouts.put(reservation.getId(), timingWheel.schedule(reservation.getId(), deadlineMillis));
+        return reservation;
+    }
+
+    /**
+     * 예약 확정 (결제 완료): 결제 작업이 성공한 뒤에만 확정하고 판매량 기록
+     * - 결제 작업 전에 타이밍 휠 항목을 취소하여 결제 도중 만료되지 않게 붙잡음 (기한이 지나 이미 재고가 반환되었으면 예외 발생)
+     * - 결제 작업이 실패하면 원래 기한으로 다시 등록하고 예외를 그대로 전달 (기한 안에서 재시도 가능, 지나면 만료되어 재고 복구)
+     */
+    public StockReservation commit(Long reservationId, Runnable payment) {
+        StockReservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.STOCK_RESERVATION_NOT_FOUND));
+
+        HashedTimingWheel.Timeout<Long> timeout = timeouts.remove(reservationId);
+        if (timeout == null || !timeout.cancel()) {
+            throw new BusinessException(ErrorCode.STOCK_RESERVATION_EXPIRED);
+        }
+        try {
+            payment.run();
+        } catch (RuntimeException e) {
+            timeouts.put(reservationId, timingWheel.schedule(reservationId, timeout.getDeadlineMillis()));
+            throw e;
+        }
+
+        reservation.commit();
+        // 결제 확정된 수량을 판매량으로 기록
+        LocalDateTime soldAt = LocalDateTime.now();
+        reservation.getQuantities().forEach((productId, quantity) -> productRepository.recordSale(productId, quantity, soldAt));
+        return reservationRepository.save(reservation);
+    }
+
+    public StockReservation getReservation(Long reservationId) {
+        return reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.STOCK_RESERVATION_NOT_FOUND));
+    }
+
+    // 예약 반환 (주문 취소): 재고를 복구했으면 true, 이미 확정/반환/만료되었거나 결제가 진행 중인 예약이면 false
+    public boolean release(Long reservationId) {
+        HashedTimingWheel.Timeout<Long> timeout = timeouts.remove(reservationId);
+        if (timeout == null || !timeout.cancel()) {
+            return false;
+        }
+        StockReservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.STOCK_RESERVATION_NOT_FOUND));
+        reservation.getQuantities().forEach(productService::increaseStock);
+        reservation.release();
+        reservationRepository.save(reservation);
+        return true;
+    }
+
+    // 기한이 지난 예약 만료 처리: 상품별 수량을 합산하여 한 번씩만 재고 복구, 만료된 예약 수 반환
+    @Scheduled(fixedDelayString = "${stock.reservation.tick:1s}")
+    public int expireReservations() {
+        List<Long> expiredIds = timingWheel.advance(System.currentTimeMillis());
+        if (expiredIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Integer> restored = new LinkedHashMap<>();
+        for (Long reservationId : expiredIds) {
+            timeouts.remove(reservationId);
+            reservationRepository.findById(reservationId).ifPresent(reservation -> {
+                reservation.getQuantities().forEach((productId, quantity) -> restored.merge(productId, quantity, Integer::sum));
+                reservation.expire();
+                reservationRepository.save(reservation);
+            });
+        }
+        restored.forEach(productService::increaseStock);
+        return expiredIds.size();
+    }
+
+    // 만료 대기 중인 예약 수 (모니터링용)
+    public int getActiveReservationCount() {
+        return timeouts.size();
+    }
+}
@@ -4,6 +4,7 @@ import com.hhplus.hhplus_ecommerce.common.dto.ApiResponse;
 import com.hhplus.hhplus_ecommerce.product.dto.response.PopularProductsResponse;
 import com.hhplus.hhplus_ecommerce.product.dto.response.ProductDetailResponse;
 import com.hhplus.hhplus_ecommerce.product.dto.response.ProductListResponse;
+import com.hhplus.hhplus_ecommerce.product.dto.response.ProductSliceResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -62,10 +63,51 @@ public interface ProductApi {
             @Parameter(description = "페이지 크기", example = "10")
             @RequestParam(defaultValue = "10") Integer size,
 
-            @Parameter(description = "상품명 검색어", example = "macbook")
+            @Parameter(description = "상품명/설명 검색어 (띄어쓰기 무관 부분 일치, 관련도순)", example = "맥북 프로")
             @RequestParam(required = false) String keyword
     );
 
+    /**
+     * 커서 기반 상품 목록 조회
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "커서 기반 상품 목록 조회", description = "이전 응답의 nextCursor를 넘겨 다음 상품을 이어서 조회합니다 (깊은 페이지도 조회 비용이 일정)")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                {
+                                  "success": true,
+                                  "data": {
+                                    "products": [
+                                      {
+                                        "productId": 15,
+                                        "name": "Macbook Pro",
+                                        "price": 2000000,
+                                        "stock": 10,
+                                        "category": "전자제품"
+                                      }
+                                    ],
+                                    "nextCursor": "2000000_15",
+                                    "hasNext": true
+                                  }
+                                }
+                                """))
+            )
+    })
+    ResponseEntity<ApiResponse<ProductSliceResponse>> getProductSlice(
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회는 생략)", example = "2000000_15")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "조회 개수", example = "10")
+            @RequestParam(defaultValue = "10") Integer size,
+
+            @Parameter(description = "정렬 기준 (ID, PRICE_ASC, PRICE_DESC, NEWEST)", example = "PRICE_ASC")
+            @RequestParam(defaultValue = "ID") String sort
+    );
+
     /**
      * 상품 상세 조회
      */
@@ -112,7 +154,7 @@ public interface ProductApi {
      * 인기 상품 조회
      */
     @GetMapping("/popular")
-    @Operation(summary = "인기 상품 조회", description = "최근 N일간 판매량 기준 상위 5개 상품을 조회합니다")
+    @Operation(summary = "인기 상품 조회", description = "최근 N일간 판매량 기준 상위 5개 상품을 조회합니다 (1, 3, 7일은 주기적으로 갱신되는 스냅샷)")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200",
@@ -130,7 +172,10 @@ public interface ProductApi {
                                         "category": "전자제품",
                                         "salesCount": 150
                                       }
-                                    ]
+                                    ],
+                                    "days": 3,
+                                    "generatedAt": "2025-01-01T12:00:00",
+                                    "snapshotAgeMillis": 1500
                                   }
                                 }
                                 """))
@@ -0,0 +1,48 @@
+package com.hhplus.hhplus_ecommerce.product.controller;
+
+import com.hhplus.hhplus_ecommerce.common.cache.CacheStats;
+import com.hhplus.hhplus_ecommerce.common.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+
+/**
+ * 상품 캐시 모니터링 API 명세 (내부용)
+ */
+@Tag(name = "내부 모니터링 API", description = "상품 조회 캐시 지표 조회 API")
+public interface ProductCacheMetricsApi {
+
+    /**
+     * 상품 캐시 지표 조회
+     */
+    @GetMapping("/metrics")
+    @Operation(summary = "상품 캐시 지표 조회", description = "적중률, 제거/무효화 횟수를 조회합니다 (캐시가 꺼져 있으면 data는 null)")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                {
+                                  "code": 200,
+                                  "data": {
+                                    "maximumSize": 10000,
+                                    "size": 9800,
+                                    "hits": 950000,
+                                    "misses": 50000,
+                                    "hitRate": 0.95,
+                                    "evictions": 40000,
+                                    "admissionRejections": 35000,
+                                    "invalidations": 120,
+                                    "staleLoads": 8
+                                  }
+                                }
+                                """))
+            )
+    })
+    ResponseEntity<ApiResponse<CacheStats>> getCacheMetrics();
+}
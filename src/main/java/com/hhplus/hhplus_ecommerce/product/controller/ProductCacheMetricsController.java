@@ -0,0 +1,26 @@
+package com.hhplus.hhplus_ecommerce.product.controller;
+
+import com.hhplus.hhplus_ecommerce.common.cache.CacheStats;
+import com.hhplus.hhplus_ecommerce.common.dto.ApiResponse;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.CachingProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/internal/cache/products")
+@RequiredArgsConstructor
+public class ProductCacheMetricsController implements ProductCacheMetricsApi {
+
+    // 캐시가 꺼져 있으면 빈이 없음
+    private final ObjectProvider<CachingProductRepository> cachingProductRepository;
+
+    @Override
+    public ResponseEntity<ApiResponse<CacheStats>> getCacheMetrics() {
+        CachingProductRepository repository = cachingProductRepository.getIfAvailable();
+        CacheStats stats = repository != null ? repository.getCacheStats() : null;
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+}
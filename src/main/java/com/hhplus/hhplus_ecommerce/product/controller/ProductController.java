@@ -1,42 +1,76 @@
 package com.hhplus.hhplus_ecommerce.product.controller;
 
 import com.hhplus.hhplus_ecommerce.common.dto.ApiResponse;
+import com.hhplus.hhplus_ecommerce.product.application.ProductService;
+import com.hhplus.hhplus_ecommerce.product.domain.PopularProductSnapshot;
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductPage;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductSlice;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductSort;
 import com.hhplus.hhplus_ecommerce.product.dto.response.PopularProductDto;
 import com.hhplus.hhplus_ecommerce.product.dto.response.ProductDto;
 import com.hhplus.hhplus_ecommerce.product.dto.response.PopularProductsResponse;
 import com.hhplus.hhplus_ecommerce.product.dto.response.ProductDetailResponse;
 import com.hhplus.hhplus_ecommerce.product.dto.response.ProductListResponse;
+import com.hhplus.hhplus_ecommerce.product.dto.response.ProductSliceResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/products")
+@RequiredArgsConstructor
 public class ProductController implements ProductApi {
 
+    private final ProductService productService;
 
     @Override
     public ResponseEntity<ApiResponse<ProductListResponse>> getProducts(
             Integer page, Integer size, String keyword) {
-        // Mock 데이터
-        List<ProductDto> products = List.of(
-                new ProductDto(1L, "Macbook Pro", 2000000, 10, "전자제품"),
-                new ProductDto(2L, "iPhone 12", 1200000, 20, "전자제품")
-        );
+        ProductPage productPage = productService.getProducts(keyword, page, size);
+
+        List<ProductDto> products = toProductDtos(productPage.getProducts());
 
         ProductListResponse response = new ProductListResponse(
                 products,
-                100L,
-                10,
-                page,
-                size
+                productPage.getTotalElements(),
+                productPage.getTotalPages(),
+                productPage.getPage(),
+                productPage.getSize()
+        );
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Override
+    public ResponseEntity<ApiResponse<ProductSliceResponse>> getProductSlice(
+            String cursor, Integer size, String sort) {
+        ProductSlice slice = productService.getProductSlice(cursor, size, ProductSort.from(sort));
+
+        ProductSliceResponse response = new ProductSliceResponse(
+                toProductDtos(slice.getProducts()),
+                slice.hasNext() ? slice.getNextCursor().encode() : null,
+                slice.hasNext()
         );
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    private List<ProductDto> toProductDtos(List<Product> products) {
+        return products.stream()
+                .map(product -> new ProductDto(
+                        product.getId(),
+                        product.getName(),
+                        product.getPrice(),
+                        product.getStock(),
+                        product.getCategory()))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public ResponseEntity<ApiResponse<ProductDetailResponse>> getProductById(Long productId) {
         // Mock 데이터
@@ -54,17 +88,24 @@ public class ProductController implements ProductApi {
 
     @Override
     public ResponseEntity<ApiResponse<PopularProductsResponse>> getPopularProducts(Integer days) {
-        // Mock 데이터
-        List<PopularProductDto> products = List.of(
-                new PopularProductDto(1L, "Macbook Pro", 2000000, "전자제품", 150),
-                new PopularProductDto(2L, "iPhone 12", 1200000, "전자제품", 120),
-                new PopularProductDto(3L, "AirPods Pro", 300000, "전자제품", 100),
-                new PopularProductDto(4L, "iPad Air", 800000, "전자제품", 80),
-                new PopularProductDto(5L, "Apple Watch", 500000, "전자제품", 60)
-        );
+        PopularProductSnapshot snapshot = productService.getPopularProducts(days);
+
+        List<PopularProductDto> products = snapshot.getProducts().stream()
+                .map(popular -> new PopularProductDto(
+                        popular.getProduct().getId(),
+                        popular.getProduct().getName(),
+                        popular.getProduct().getPrice(),
+                        popular.getProduct().getCategory(),
+                        (int) popular.getSalesCount()))
+                .collect(Collectors.toList());
 
-        PopularProductsResponse response = new PopularProductsResponse(products);
+        PopularProductsResponse response = new PopularProductsResponse(
+                products,
+                snapshot.getDays(),
+                snapshot.getGeneratedAt(),
+                snapshot.getAge().toMillis()
+        );
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package com.hhplus.hhplus_ecommerce.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인기 상품: 상품과 집계 기간 동안의 판매량
+ */
+@Getter
+@AllArgsConstructor
+public class PopularProduct {
+    private final Product product;
+    private final long salesCount;
+}
@@ -0,0 +1,28 @@
+package com.hhplus.hhplus_ecommerce.product.domain;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 인기 상품 스냅샷: 특정 집계 기간(일)의 인기 상품 목록을 생성 시점 기준으로 고정한 불변 객체
+ */
+@Getter
+public class PopularProductSnapshot {
+    private final int days;
+    private final List<PopularProduct> products;
+    private final LocalDateTime generatedAt;
+
+    public PopularProductSnapshot(int days, List<PopularProduct> products, LocalDateTime generatedAt) {
+        this.days = days;
+        this.products = List.copyOf(products);
+        this.generatedAt = generatedAt;
+    }
+
+    // 스냅샷 생성 후 경과 시간
+    public Duration getAge() {
+        return Duration.between(generatedAt, LocalDateTime.now());
+    }
+}
@@ -50,6 +50,15 @@ public class Product {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 가격 변경
+    public void changePrice(Integer price) {
+        if (price == null || price < 0) {
+            throw new BusinessException(ErrorCode.PRODUCT_INVALID_PRICE);
+        }
+        this.price = price;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     private static void validateCreate(String name, Integer price, Integer stock) {
         if (name == null || name.isBlank()) {
             throw new BusinessException(ErrorCode.PRODUCT_INVALID_NAME);
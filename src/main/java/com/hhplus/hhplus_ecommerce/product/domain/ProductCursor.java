@@ -0,0 +1,36 @@
+package com.hhplus.hhplus_ecommerce.product.domain;
+
+import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 목록 커서: 마지막으로 받은 상품의 정렬 값과 상품ID
+ * - 정렬 값은 정렬 기준에 따라 상품ID, 가격, 생성 시각(epoch millis)
+ * - 클라이언트에는 "정렬값_상품ID" 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class ProductCursor {
+    private final long sortValue;
+    private final long productId;
+
+    public String encode() {
+        return sortValue + "_" + productId;
+    }
+
+    public static ProductCursor decode(String cursor) {
+        int separator = cursor.lastIndexOf('_');
+        if (separator <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        try {
+            return new ProductCursor(
+                    Long.parseLong(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.hhplus.hhplus_ecommerce.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 상품 목록 페이지 (page는 0부터 시작)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductPage {
+    private final List<Product> products;
+    private final long totalElements;
+    private final int page;
+    private final int size;
+
+    public int getTotalPages() {
+        return size == 0 ? 0 : (int) ((totalElements + size - 1) / size);
+    }
+}
@@ -0,0 +1,15 @@
+package com.hhplus.hhplus_ecommerce.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 가격 변경 이벤트 (가격을 미리 계산해 둔 읽기 모델 갱신용)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductPriceChangedEvent {
+    private final Long productId;
+    private final Integer previousPrice;
+    private final Integer price;
+}
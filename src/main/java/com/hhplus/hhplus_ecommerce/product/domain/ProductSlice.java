@@ -0,0 +1,20 @@
+package com.hhplus.hhplus_ecommerce.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 상품 목록 조각 (다음 조각이 없으면 nextCursor는 null)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductSlice {
+    private final List<Product> products;
+    private final ProductCursor nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
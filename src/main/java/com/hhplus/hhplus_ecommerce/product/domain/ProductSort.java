@@ -0,0 +1,24 @@
+package com.hhplus.hhplus_ecommerce.product.domain;
+
+import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
+
+/**
+ * 상품 목록 정렬 기준 (같은 값은 상품ID순, 내림차순 정렬은 상품ID도 내림차순)
+ */
+public enum ProductSort {
+    ID,
+    PRICE_ASC,
+    PRICE_DESC,
+    NEWEST;
+
+    // 요청 파라미터 변환 (대소문자 무관, 알 수 없는 값은 INVALID_INPUT_VALUE 예외)
+    public static ProductSort from(String value) {
+        for (ProductSort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
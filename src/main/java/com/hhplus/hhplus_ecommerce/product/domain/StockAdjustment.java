@@ -0,0 +1,14 @@
+package com.hhplus.hhplus_ecommerce.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 재고 조정 한 건 (delta > 0: 입고/취소 복구, delta < 0: 차감)
+ */
+@Getter
+@AllArgsConstructor
+public class StockAdjustment {
+    private final Long productId;
+    private final int delta;
+}
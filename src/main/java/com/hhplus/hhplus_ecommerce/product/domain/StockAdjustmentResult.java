@@ -0,0 +1,20 @@
+package com.hhplus.hhplus_ecommerce.product.domain;
+
+import com.hhplus.hhplus_ecommerce.product.StockAdjustmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 재고 조정 한 건의 처리 결과
+ */
+@Getter
+@AllArgsConstructor
+public class StockAdjustmentResult {
+    private final Long productId;
+    private final int delta;
+    private final StockAdjustmentStatus status;
+
+    public boolean isApplied() {
+        return status == StockAdjustmentStatus.APPLIED;
+    }
+}
@@ -0,0 +1,68 @@
+package com.hhplus.hhplus_ecommerce.product.domain;
+
+import com.hhplus.hhplus_ecommerce.product.ReservationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 재고 예약: 주문 시 차감한 재고를 결제 전까지 붙잡아 두는 기록
+ * - 기한(expiresAt) 안에 결제되면 확정(COMMITTED), 주문 취소 시 반환(RELEASED), 기한이 지나면 만료(EXPIRED)되어 재고가 돌아감
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservation {
+    private Long id;
+    // 상품ID -> 예약 수량
+    @Builder.Default
+    private Map<Long, Integer> quantities = new LinkedHashMap<>();
+    private ReservationStatus status;
+    private LocalDateTime expiresAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // 예약 생성
+    public static StockReservation create(Map<Long, Integer> quantities, LocalDateTime expiresAt) {
+        return StockReservation.builder()
+                .quantities(new LinkedHashMap<>(quantities))
+                .status(ReservationStatus.RESERVED)
+                .expiresAt(expiresAt)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 비즈니스 로직: 결제 완료로 예약 확정 (재고는 차감된 상태로 유지)
+    public void commit() {
+        changeStatus(ReservationStatus.COMMITTED);
+    }
+
+    // 비즈니스 로직: 주문 취소로 예약 반환
+    public void release() {
+        changeStatus(ReservationStatus.RELEASED);
+    }
+
+    // 비즈니스 로직: 기한 초과로 예약 만료
+    public void expire() {
+        changeStatus(ReservationStatus.EXPIRED);
+    }
+
+    public boolean isReserved() {
+        return this.status == ReservationStatus.RESERVED;
+    }
+
+    private void changeStatus(ReservationStatus status) {
+        if (!isReserved()) {
+            throw new IllegalStateException("이미 처리된 재고 예약입니다: " + this.status);
+        }
+        this.status = status;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
@@ -13,4 +14,13 @@ public class PopularProductsResponse {
 
     @Schema(description = "인기 상품 목록 (최대 5개)")
     private List<PopularProductDto> products;
+
+    @Schema(description = "집계 기간 (일)", example = "3")
+    private Integer days;
+
+    @Schema(description = "스냅샷 생성 시각", example = "2025-01-01T12:00:00")
+    private LocalDateTime generatedAt;
+
+    @Schema(description = "스냅샷 경과 시간 (밀리초)", example = "1500")
+    private Long snapshotAgeMillis;
 }
\ No newline at end of file
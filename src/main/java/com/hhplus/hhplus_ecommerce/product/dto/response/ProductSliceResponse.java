@@ -0,0 +1,22 @@
+package com.hhplus.hhplus_ecommerce.product.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "커서 기반 상품 목록 조회 응답")
+public class ProductSliceResponse {
+
+    @Schema(description = "상품 목록")
+    private List<ProductDto> products;
+
+    @Schema(description = "다음 조각 조회용 커서 (마지막 조각이면 null)", example = "2000000_15")
+    private String nextCursor;
+
+    @Schema(description = "다음 조각 존재 여부", example = "true")
+    private Boolean hasNext;
+}
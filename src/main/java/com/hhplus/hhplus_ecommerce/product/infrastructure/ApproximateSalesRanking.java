@@ -0,0 +1,138 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 근사 인기 상품 집계 (SalesRanking의 근사 버전)
+ * - 시간 구간 버킷마다 상품별 카운터 대신 Space-Saving 추정기를 두어 버킷당 메모리를 O(capacity)로 제한
+ * - 전체 메모리는 상품 수와 무관하지만 K가 아니라 버킷 수 x capacity에 비례
+ *   (예: 보관 7일 / 1시간 버킷 = 168개 x 오차율 0.001의 카운터 1000개 = 최대 168,000개 카운터)
+ * - 기간 조회는 구간 안 추정기들의 추정치를 합산한 뒤 크기 limit의 최소 힙으로 상위 상품을 고름
+ * - 오차율 errorRate: 각 버킷의 추정 오차가 해당 버킷 판매량의 errorRate 이하가 되도록 카운터 개수를 정함
+ */
+class ApproximateSalesRanking {
+
+    private final long bucketMillis;
+    private final int capacity;
+    private final AtomicReferenceArray<Bucket> ring;
+
+    ApproximateSalesRanking(Duration bucketSize, Duration retention, double errorRate) {
+        if (errorRate <= 0 || errorRate >= 1) {
+            throw new IllegalArgumentException("오차율은 0보다 크고 1보다 작아야 합니다.");
+        }
+        this.bucketMillis = bucketSize.toMillis();
+        if (bucketMillis < 1) {
+            throw new IllegalArgumentException("버킷 간격은 1ms 이상이어야 합니다.");
+        }
+        this.capacity = (int) Math.ceil(1 / errorRate);
+        int bucketCount = (int) Math.max(1, (retention.toMillis() + bucketMillis - 1) / bucketMillis);
+        this.ring = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    void record(Long productId, int quantity, long soldAtMillis) {
+        Bucket bucket = bucketFor(Math.floorDiv(soldAtMillis, bucketMillis));
+        if (bucket != null) {
+            bucket.sketch.offer(productId, quantity);
+        }
+    }
+
+    /**
+     * [fromMillis, toMillis] 구간의 판매량 추정 상위 limit개 (추정 판매량 내림차순, 같으면 상품ID 오름차순)
+     * - 어떤 버킷에서 추적되지 않은 상품은 그 버킷에서 최대 최소 카운터만큼 팔렸을 수 있으므로
+     *   그만큼을 추정 판매량과 오차에 함께 더함 (합산 결과도 count - error <= 실제 판매량 <= count를 지킴)
+     */
+    List<SalesEstimate> top(long fromMillis, long toMillis, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long toIndex = Math.floorDiv(toMillis, bucketMillis);
+        long fromIndex = Math.max(Math.floorDiv(fromMillis, bucketMillis), toIndex - ring.length() + 1);
+
+        Map<Long, long[]> merged = new HashMap<>();
+        long untrackedBoundSum = 0;
+        for (long index = fromIndex; index <= toIndex; index++) {
+            Bucket bucket = ring.get(slot(index));
+            if (bucket == null || bucket.index != index) {
+                continue;
+            }
+            long untrackedBound = bucket.sketch.untrackedBound();
+            for (SalesEstimate estimate : bucket.sketch.estimates()) {
+                // [추정 판매량, 오차, 이 상품을 추적하지 않은 버킷의 오차 상한 보정용]
+                long[] value = merged.computeIfAbsent(estimate.getProductId(), k -> new long[3]);
+                value[0] += estimate.getCount();
+                value[1] += estimate.getError();
+                value[2] += untrackedBound;
+            }
+            untrackedBoundSum += untrackedBound;
+        }
+
+        Comparator<SalesEstimate> ranking = Comparator.comparingLong(SalesEstimate::getCount)
+                .thenComparing(SalesEstimate::getProductId, Comparator.reverseOrder());
+        PriorityQueue<SalesEstimate> heap = new PriorityQueue<>(limit + 1, ranking);
+        for (Map.Entry<Long, long[]> entry : merged.entrySet()) {
+            long[] value = entry.getValue();
+            // 추적되지 않은 버킷에서 팔렸을 수 있는 양만큼 상한(추정 판매량)과 오차를 함께 확대 (하한은 그대로)
+            long untracked = untrackedBoundSum - value[2];
+            heap.offer(new SalesEstimate(entry.getKey(), value[0] + untracked, value[1] + untracked));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<SalesEstimate> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    void clear() {
+        for (int i = 0; i < ring.length(); i++) {
+            ring.set(i, null);
+        }
+    }
+
+    private Bucket bucketFor(long index) {
+        int slot = slot(index);
+        while (true) {
+            Bucket current = ring.get(slot);
+            if (current != null && current.index == index) {
+                return current;
+            }
+            if (current != null && current.index > index) {
+                return null;
+            }
+            Bucket fresh = new Bucket(index, capacity);
+            if (ring.compareAndSet(slot, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private int slot(long index) {
+        return (int) Math.floorMod(index, (long) ring.length());
+    }
+
+    private static final class Bucket {
+        private final long index;
+        private final SpaceSavingSketch sketch;
+
+        private Bucket(long index, int capacity) {
+            this.index = index;
+            this.sketch = new SpaceSavingSketch(capacity);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import com.hhplus.hhplus_ecommerce.common.cache.CacheStats;
+import com.hhplus.hhplus_ecommerce.common.cache.WTinyLfuCache;
+import com.hhplus.hhplus_ecommerce.product.domain.PopularProduct;
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductCursor;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductPage;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductSlice;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductSort;
+import com.hhplus.hhplus_ecommerce.product.repository.ProductRepository;
+import com.hhplus.hhplus_ecommerce.product.repository.ProductSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 상품 단건 조회 캐시 (ProductRepository 데코레이터)
+ * - findById / findAllById 결과를 크기 제한 캐시(W-TinyLFU)에 보관, 목록/검색/인기 상품 조회는 원본으로 위임
+ * - 상품 저장은 해당 상품 항목만 제거, 재고 차감/증가는 캐시된 상품의 재고만 같은 수량만큼 고쳐
+ *   가격/설명 등은 재고 변경이 잦아도 다시 읽지 않음
+ * - 원본 조회와 쓰기가 겹치면 조회 결과를 캐시에 넣지 않아 쓰기 이전 값이 남지 않음
+ * - findAllById는 하나라도 캐시에 없으면 요청한 상품 전체를 원본에서 한 번에 읽음
+ *   (캐시 항목과 원본 조회 결과를 섞지 않아 원본의 한 시점 기준 결과를 그대로 반환)
+ * - 캐시된 상품은 사본으로 반환 (호출자가 재고를 바꿔도 캐시에 영향 없음)
+ */
+public class CachingProductRepository implements ProductRepository {
+
+    private final ProductRepository delegate;
+    private final WTinyLfuCache<Long, Product> cache;
+
+    public CachingProductRepository(ProductRepository delegate, int maximumSize) {
+        this.delegate = delegate;
+        this.cache = new WTinyLfuCache<>(maximumSize);
+    }
+
+    @Override
+    public Product save(Product product) {
+        if (product.getId() == null) {
+            return delegate.save(product);
+        }
+        cache.beginWrite(product.getId());
+        try {
+            return delegate.save(product);
+        } finally {
+            cache.endWrite(product.getId(), null);
+        }
+    }
+
+    // 쓰기(write)는 이 저장소를 통해 실행되므로 캐시 갱신은 각 쓰기 메서드가 처리
+    @Override
+    public <T> T writeFenced(Long productId, long fencingToken, Supplier<T> write) {
+        return delegate.writeFenced(productId, fencingToken, write);
+    }
+
+    @Override
+    public Integer changePrice(Long productId, int price) {
+        cache.beginWrite(productId);
+        try {
+            return delegate.changePrice(productId, price);
+        } finally {
+            cache.endWrite(productId, null);
+        }
+    }
+
+    @Override
+    public Optional<Product> findById(Long id) {
+        Product cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copyOf(cached, cached.getStock()));
+        }
+        long stamp = cache.startLoad(id);
+        Optional<Product> loaded = delegate.findById(id);
+        loaded.ifPresent(product -> cache.putIfUnchanged(id, copyOf(product, product.getStock()), stamp));
+        return loaded;
+    }
+
+    @Override
+    public Map<Long, Product> findAllById(Collection<Long> ids) {
+        Map<Long, Product> result = new HashMap<>(Math.max(16, ids.size() * 2));
+        for (Long id : ids) {
+            Product cached = cache.getIfPresent(id);
+            if (cached == null) {
+                return loadAll(ids);
+            }
+            result.put(id, copyOf(cached, cached.getStock()));
+        }
+        return result;
+    }
+
+    // 요청한 상품 전체를 원본에서 한 번에 조회하고 캐시에 채움 (조회 도중 쓰기가 겹친 상품은 채우지 않음)
+    private Map<Long, Product> loadAll(Collection<Long> ids) {
+        Map<Long, Long> stamps = new HashMap<>(Math.max(16, ids.size() * 2));
+        for (Long id : ids) {
+            stamps.put(id, cache.startLoad(id));
+        }
+        Map<Long, Product> loaded = delegate.findAllById(ids);
+        loaded.forEach((id, product) -> cache.putIfUnchanged(id, copyOf(product, product.getStock()), stamps.get(id)));
+        return loaded;
+    }
+
+    // 스냅샷은 시점이 고정된 조회이므로 캐시를 거치지 않음
+    @Override
+    public ProductSnapshot openSnapshot() {
+        return delegate.openSnapshot();
+    }
+
+    @Override
+    public boolean tryDecreaseStock(Long productId, int quantity) {
+        cache.beginWrite(productId);
+        UnaryOperator<Product> update = null;
+        try {
+            boolean decreased = delegate.tryDecreaseStock(productId, quantity);
+            update = decreased
+                    ? product -> copyOf(product, product.getStock() - quantity)
+                    : UnaryOperator.identity();
+            return decreased;
+        } finally {
+            // 원본 쓰기가 예외로 끝나면 항목을 제거 (update == null)
+            cache.endWrite(productId, update);
+        }
+    }
+
+    @Override
+    public void increaseStock(Long productId, int quantity) {
+        cache.beginWrite(productId);
+        UnaryOperator<Product> update = null;
+        try {
+            delegate.increaseStock(productId, quantity);
+            update = product -> copyOf(product, product.getStock() + quantity);
+        } finally {
+            cache.endWrite(productId, update);
+        }
+    }
+
+    @Override
+    public boolean[] adjustStock(Long productId, List<Integer> deltas) {
+        cache.beginWrite(productId);
+        UnaryOperator<Product> update = null;
+        try {
+            boolean[] applied = delegate.adjustStock(productId, deltas);
+            int total = 0;
+            for (int i = 0; i < applied.length; i++) {
+                if (applied[i]) {
+                    total += deltas.get(i);
+                }
+            }
+            int change = total;
+            update = product -> copyOf(product, product.getStock() + change);
+            return applied;
+        } finally {
+            cache.endWrite(productId, update);
+        }
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public ProductPage search(String keyword, int page, int size) {
+        return delegate.search(keyword, page, size);
+    }
+
+    @Override
+    public ProductSlice findPage(ProductCursor after, int limit, ProductSort sort) {
+        return delegate.findPage(after, limit, sort);
+    }
+
+    @Override
+    public List<Product> findTopSellingProducts(LocalDateTime startDate, int limit) {
+        return delegate.findTopSellingProducts(startDate, limit);
+    }
+
+    @Override
+    public List<PopularProduct> findPopularProducts(LocalDateTime startDate, int limit) {
+        return delegate.findPopularProducts(startDate, limit);
+    }
+
+    @Override
+    public void recordSale(Long productId, int quantity, LocalDateTime soldAt) {
+        delegate.recordSale(productId, quantity, soldAt);
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    private static Product copyOf(Product product, int stock) {
+        return Product.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .stock(stock)
+                .category(product.getCategory())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .build();
+    }
+}
@@ -1,83 +1,590 @@
 package com.hhplus.hhplus_ecommerce.product.infrastructure;
 
+import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
+import com.hhplus.hhplus_ecommerce.common.mvcc.VersionClock;
+import com.hhplus.hhplus_ecommerce.common.mvcc.VersionedCell;
+import com.hhplus.hhplus_ecommerce.product.domain.PopularProduct;
 import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductCursor;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductPage;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductSlice;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductSort;
 import com.hhplus.hhplus_ecommerce.product.repository.ProductRepository;
+import com.hhplus.hhplus_ecommerce.product.repository.ProductSnapshot;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Repository
 public class InMemoryProductRepository implements ProductRepository {
 
-    private final Map<Long, Product> store = new ConcurrentHashMap<>();
+    // 상품ID -> 버전 목록 (최신 레코드 + 열린 스냅샷이 볼 수 있는 이전 레코드)
+    private final Map<Long, VersionedCell<ProductRecord>> store = new ConcurrentHashMap<>();
+    private final VersionClock clock = new VersionClock();
     private final AtomicLong idGenerator = new AtomicLong(1);
 
-    // 판매 기록 (상품ID -> 판매량)
-    private final Map<Long, Integer> salesRecord = new ConcurrentHashMap<>();
+    // 판매 기록 보관 기간
+    private static final Duration SALES_RETENTION = Duration.ofDays(7);
+
+    // 판매 기록: 1분 단위 버킷, 최근 7일 보관
+    private final SalesRanking salesRanking = new SalesRanking(Duration.ofMinutes(1), SALES_RETENTION);
+
+    // 근사 판매 기록: 1시간 단위 버킷 (APPROXIMATE / CROSS_CHECK 모드에서만 사용)
+    private volatile SalesRankingMode rankingMode = SalesRankingMode.EXACT;
+    private volatile ApproximateSalesRanking approximateRanking;
+
+    // 카테고리 -> 상품ID 보조 인덱스 (상품 저장 시 함께 갱신)
+    private final Map<String, Set<Long>> categoryIndex = new ConcurrentHashMap<>();
+
+    // 이름/설명 키워드 검색 역색인 (상품 저장 시 함께 갱신)
+    private final ProductSearchIndex searchIndex = new ProductSearchIndex();
+
+    // 커서 기반 목록 조회용 정렬 인덱스 (상품 저장 시 함께 갱신)
+    private final ProductSortIndex idIndex = new ProductSortIndex();
+    private final ProductSortIndex priceIndex = new ProductSortIndex();
+    private final ProductSortIndex createdAtIndex = new ProductSortIndex();
+
+    // 마지막으로 반영된 펜싱 토큰 (상품ID -> 토큰)
+    private final Map<Long, Long> fencingTokens = new ConcurrentHashMap<>();
+
+    // 인기 상품으로 지정된 상품ID -> 재고 셀 개수 (상품이 나중에 저장되어도 적용)
+    private final Map<Long, Integer> hotProducts = new ConcurrentHashMap<>();
+
+    // 인기 상품의 분할 재고: 등록된 상품은 레코드의 재고 대신 여기서 재고를 관리
+    private final Map<Long, StripedStock> stripedStocks = new ConcurrentHashMap<>();
 
     @Override
     public Product save(Product product) {
         if (product.getId() == null) {
             // 새로운 상품 저장
-            Product newProduct = Product.builder()
-                    .id(idGenerator.getAndIncrement())
-                    .name(product.getName())
-                    .description(product.getDescription())
-                    .price(product.getPrice())
-                    .stock(product.getStock())
-                    .category(product.getCategory())
-                    .createdAt(product.getCreatedAt())
-                    .updatedAt(product.getUpdatedAt())
-                    .build();
-            store.put(newProduct.getId(), newProduct);
-            return newProduct;
+            ProductRecord record = ProductRecord.of(idGenerator.getAndIncrement(), product);
+            putProduct(record);
+            Integer stripes = hotProducts.get(record.getId());
+            if (stripes != null) {
+                convertToStriped(record.getId(), stripes);
+            }
+            return record.toProduct(record.getStock());
         } else {
-            // 기존 상품 업데이트
-            store.put(product.getId(), product);
-            return product;
+            // 기존 상품 업데이트: 재고는 원자적 재고 연산으로만 바뀌므로 저장 시점의 현재 재고를 유지
+            putProduct(ProductRecord.of(product.getId(), product));
+            return toProduct(latest(product.getId()));
         }
     }
 
+    @Override
+    public Integer changePrice(Long productId, int price) {
+        List<ProductRecord> previous = new ArrayList<>(1);
+        // 가격 변경과 가격 정렬 인덱스 갱신을 상품 단위로 원자적으로 처리 (재고 차감과는 셀 CAS로 경합)
+        store.computeIfPresent(productId, (id, cell) -> {
+            ProductRecord replaced = cell.update(record -> record.withPrice(price));
+            updateSortIndexes(replaced, replaced.withPrice(price));
+            previous.add(replaced);
+            return cell;
+        });
+        if (previous.isEmpty()) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        return previous.get(0).getPrice();
+    }
+
     @Override
     public Optional<Product> findById(Long id) {
-        return Optional.ofNullable(store.get(id));
+        return Optional.ofNullable(latest(id)).map(this::toProduct);
     }
 
     @Override
-    public List<Product> findAll() {
-        return new ArrayList<>(store.values());
+    public Map<Long, Product> findAllById(Collection<Long> ids) {
+        // 여러 상품을 같은 시점 기준으로 조회
+        try (ProductSnapshot snapshot = openSnapshot()) {
+            return snapshot.findAllById(ids);
+        }
     }
 
     @Override
-    public List<Product> findByCategory(String category) {
+    public ProductSnapshot openSnapshot() {
+        return new InMemoryProductSnapshot(clock.openSnapshot());
+    }
+
+    @Override
+    public boolean tryDecreaseStock(Long productId, int quantity) {
+        VersionedCell<ProductRecord> cell = getOrThrow(productId);
+        StripedStock striped = stripedStocks.get(productId);
+        if (striped != null) {
+            return tryDecreaseStriped(striped, cell, quantity);
+        }
+        ProductRecord previous = cell.update(record -> record.getStock() < quantity
+                ? null
+                : record.withStock(record.getStock() - quantity));
+        if (previous != null) {
+            return true;
+        }
+        // 인기 상품 전환과 겹쳐 실패했을 수 있으므로, 전환되었으면 분할 재고에서 다시 시도
+        striped = stripedStocks.get(productId);
+        return striped != null && tryDecreaseStriped(striped, cell, quantity);
+    }
+
+    @Override
+    public void increaseStock(Long productId, int quantity) {
+        VersionedCell<ProductRecord> cell = getOrThrow(productId);
+        StripedStock striped = stripedStocks.get(productId);
+        if (striped != null) {
+            striped.increase(quantity);
+            return;
+        }
+        cell.update(record -> record.withStock(record.getStock() + quantity));
+        // 그 사이 전환되었으면 레코드에 남은 재고를 분할 재고로 옮김
+        striped = stripedStocks.get(productId);
+        if (striped != null) {
+            striped.increase(takeAllStock(cell));
+        }
+    }
+
+    @Override
+    public <T> T writeFenced(Long productId, long fencingToken, Supplier<T> write) {
+        getOrThrow(productId);
+        List<T> result = new ArrayList<>(1);
+        // 토큰 비교와 쓰기를 상품 단위로 원자적으로 처리 (쓰기가 예외로 끝나면 토큰을 기록하지 않음)
+        fencingTokens.compute(productId, (id, lastToken) -> {
+            if (lastToken != null && fencingToken < lastToken) {
+                throw new BusinessException(ErrorCode.STALE_FENCING_TOKEN);
+            }
+            result.add(write.get());
+            return fencingToken;
+        });
+        return result.get(0);
+    }
+
+    /**
+     * 한 상품의 재고 여러 건 조정
+     * - 일반 상품은 모든 건을 반영한 새 레코드를 한 번의 CAS로 기록 (경합 시 처음부터 다시 계산)
+     * - 인기 상품은 분할 재고에 건별로 반영
+     */
+    @Override
+    public boolean[] adjustStock(Long productId, List<Integer> deltas) {
+        VersionedCell<ProductRecord> cell = getOrThrow(productId);
+        boolean[] applied = new boolean[deltas.size()];
+        StripedStock striped = stripedStocks.get(productId);
+        if (striped == null) {
+            cell.update(record -> {
+                long stock = applyInOrder(record.getStock(), deltas, applied);
+                return stock == record.getStock() ? null : record.withStock((int) stock);
+            });
+            striped = stripedStocks.get(productId);
+            if (striped == null) {
+                return applied;
+            }
+            // 그 사이 전환되었으면 레코드에 남은 재고를 옮기고, 건너뛴 차감은 분할 재고에서 다시 시도
+            striped.increase(takeAllStock(cell));
+            for (int i = 0; i < deltas.size(); i++) {
+                if (!applied[i] && deltas.get(i) < 0) {
+                    applied[i] = tryDecreaseStriped(striped, cell, -deltas.get(i));
+                }
+            }
+            return applied;
+        }
+        for (int i = 0; i < deltas.size(); i++) {
+            int delta = deltas.get(i);
+            if (delta >= 0) {
+                striped.increase(delta);
+                applied[i] = true;
+            } else {
+                applied[i] = tryDecreaseStriped(striped, cell, -delta);
+            }
+        }
+        return applied;
+    }
+
+    // 재고에 조정을 순서대로 적용한 결과 (0 미만이 되는 건은 건너뛰고 applied에 표시)
+    private static long applyInOrder(int stock, List<Integer> deltas, boolean[] applied) {
+        long current = stock;
+        for (int i = 0; i < deltas.size(); i++) {
+            long next = current + deltas.get(i);
+            applied[i] = next >= 0 && next <= Integer.MAX_VALUE;
+            if (applied[i]) {
+                current = next;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 인기 상품 지정: 재고를 stripes개 셀로 나눠 관리하여 한 상품에 대한 대량 동시 차감을 여러 코어로 분산
+     * - 아직 저장되지 않은 상품ID도 지정 가능 (저장 시점에 전환)
+     * - 조회 결과의 재고는 셀 합계로 채워지며, ProductService 등 호출자는 차이를 알 필요 없음
+     * - 분할 재고는 버전 관리 대상이 아니므로 스냅샷 조회에서도 현재 재고로 보임
+     */
+    public void markHot(Long productId, int stripes) {
+        hotProducts.put(productId, stripes);
+        if (store.containsKey(productId)) {
+            convertToStriped(productId, stripes);
+        }
+    }
+
+    // 분할 재고를 먼저 등록한 뒤 레코드의 재고를 옮김 (그 사이의 차감은 레코드에 남은 재고를 직접 옮겨서 처리)
+    private void convertToStriped(Long productId, int stripes) {
+        StripedStock striped = new StripedStock(stripes, 0);
+        if (stripedStocks.putIfAbsent(productId, striped) == null) {
+            striped.increase(takeAllStock(store.get(productId)));
+        }
+    }
+
+    private boolean tryDecreaseStriped(StripedStock striped, VersionedCell<ProductRecord> cell, int quantity) {
+        if (striped.tryDecrease(quantity)) {
+            return true;
+        }
+        // 전환 중 레코드에 남아 있던 재고가 있으면 옮긴 뒤 한 번 더 시도
+        int leftover = takeAllStock(cell);
+        if (leftover == 0) {
+            return false;
+        }
+        striped.increase(leftover);
+        return striped.tryDecrease(quantity);
+    }
+
+    // 레코드의 재고를 모두 꺼내고 0인 새 버전을 기록 (재고 관리를 분할 재고로 넘길 때 사용)
+    private static int takeAllStock(VersionedCell<ProductRecord> cell) {
+        ProductRecord previous = cell.update(record -> record.getStock() == 0 ? null : record.withStock(0));
+        return previous != null ? previous.getStock() : 0;
+    }
+
+    // 레코드로 조회 결과 생성 (인기 상품은 분할 재고 합계를 재고로 채움)
+    private Product toProduct(ProductRecord record) {
+        StripedStock striped = stripedStocks.get(record.getId());
+        int stock = striped != null ? striped.available() + record.getStock() : record.getStock();
+        return record.toProduct(stock);
+    }
+
+    // 최신 레코드 (없으면 null)
+    private ProductRecord latest(Long productId) {
+        VersionedCell<ProductRecord> cell = store.get(productId);
+        return cell != null ? cell.latest() : null;
+    }
+
+    private VersionedCell<ProductRecord> getOrThrow(Long productId) {
+        VersionedCell<ProductRecord> cell = store.get(productId);
+        if (cell == null) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        return cell;
+    }
+
+    @Override
+    public List<Product> findAll() {
         return store.values().stream()
-                .filter(p -> category.equals(p.getCategory()))
+                .map(cell -> toProduct(cell.latest()))
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public long count() {
+        return store.size();
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        // 인덱스로 해당 카테고리 상품만 조회 (전체 상품을 훑지 않음)
+        Set<Long> productIds = categoryIndex.getOrDefault(category, Set.of());
+        List<Product> result = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            ProductRecord record = latest(productId);
+            // 인덱스 갱신과 겹쳐 다른 카테고리로 옮겨진 상품은 제외
+            if (record != null && category.equals(record.getCategory())) {
+                result.add(toProduct(record));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public ProductPage search(String keyword, int page, int size) {
+        ProductSearchIndex.SearchResult result = searchIndex.search(keyword, (int) Math.min(Integer.MAX_VALUE, (long) page * size), size);
+
+        List<Product> products = new ArrayList<>(result.getProductIds().size());
+        for (Long productId : result.getProductIds()) {
+            ProductRecord record = latest(productId);
+            if (record != null) {
+                products.add(toProduct(record));
+            }
+        }
+        return new ProductPage(products, result.getTotalCount(), page, size);
+    }
+
+    @Override
+    public ProductSlice findPage(ProductCursor after, int limit, ProductSort sort) {
+        ProductSortIndex.Key cursor = after != null
+                ? new ProductSortIndex.Key(after.getSortValue(), after.getProductId())
+                : null;
+        boolean descending = sort == ProductSort.PRICE_DESC || sort == ProductSort.NEWEST;
+
+        // limit + 1개까지 읽어 다음 조각이 있는지 확인
+        List<Product> products = new ArrayList<>(limit);
+        ProductSortIndex.Key last = null;
+        boolean hasNext = false;
+        for (ProductSortIndex.Key key : sortIndex(sort).after(cursor, descending)) {
+            ProductRecord record = latest(key.getProductId());
+            // 인덱스 갱신과 겹쳐 남아 있는 이전 정렬 값의 키는 제외
+            if (record == null || sortValue(record, sort) != key.getSortValue()) {
+                continue;
+            }
+            if (products.size() == limit) {
+                hasNext = true;
+                break;
+            }
+            products.add(toProduct(record));
+            last = key;
+        }
+        ProductCursor nextCursor = hasNext ? new ProductCursor(last.getSortValue(), last.getProductId()) : null;
+        return new ProductSlice(products, nextCursor);
+    }
+
+    private ProductSortIndex sortIndex(ProductSort sort) {
+        switch (sort) {
+            case PRICE_ASC:
+            case PRICE_DESC:
+                return priceIndex;
+            case NEWEST:
+                return createdAtIndex;
+            default:
+                return idIndex;
+        }
+    }
+
+    // 정렬 기준별 정렬 값 (생성 시각이 없는 상품은 가장 오래된 것으로 취급)
+    private static long sortValue(ProductRecord product, ProductSort sort) {
+        switch (sort) {
+            case PRICE_ASC:
+            case PRICE_DESC:
+                return priceValue(product);
+            case NEWEST:
+                return createdAtValue(product);
+            default:
+                return product.getId();
+        }
+    }
+
+    private static long priceValue(ProductRecord product) {
+        return product.getPrice() != null ? product.getPrice() : 0L;
+    }
+
+    private static long createdAtValue(ProductRecord product) {
+        return product.getCreatedAt() != null ? toEpochMillis(product.getCreatedAt()) : Long.MIN_VALUE;
+    }
+
+    // 정렬 인덱스 갱신: 새 키를 먼저 추가한 뒤 이전 키 제거 (조회 중 상품이 잠시 누락되지 않도록 함)
+    private void updateSortIndexes(ProductRecord previous, ProductRecord product) {
+        long id = product.getId();
+        if (previous == null) {
+            idIndex.add(id, id);
+        }
+        long price = priceValue(product);
+        if (previous == null || priceValue(previous) != price) {
+            priceIndex.add(price, id);
+            if (previous != null) {
+                priceIndex.remove(priceValue(previous), id);
+            }
+        }
+        long createdAt = createdAtValue(product);
+        if (previous == null || createdAtValue(previous) != createdAt) {
+            createdAtIndex.add(createdAt, id);
+            if (previous != null) {
+                createdAtIndex.remove(createdAtValue(previous), id);
+            }
+        }
+    }
+
+    /**
+     * 상품 저장과 카테고리/검색/정렬 인덱스 갱신을 상품 단위로 원자적으로 처리 (카테고리가 바뀌면 이전 카테고리에서 제거)
+     * - 기존 상품은 재고를 제외한 필드만 덮어씀: 조회 이후 다른 요청이 차감한 재고를 오래된 값으로 되돌리지 않음
+     */
+    private void putProduct(ProductRecord product) {
+        VersionedCell<ProductRecord> saved = store.compute(product.getId(), (id, cell) -> {
+            ProductRecord previous = null;
+            if (cell == null) {
+                cell = new VersionedCell<>(clock, product);
+            } else {
+                previous = cell.update(current -> product.withStock(current.getStock()));
+            }
+            if (previous == null
+                    || !Objects.equals(previous.getName(), product.getName())
+                    || !Objects.equals(previous.getDescription(), product.getDescription())) {
+                searchIndex.index(id, product.getName(), product.getDescription());
+            }
+            updateSortIndexes(previous, product);
+            String previousCategory = previous != null ? previous.getCategory() : null;
+            if (!Objects.equals(previousCategory, product.getCategory())) {
+                if (previousCategory != null) {
+                    categoryIndex.computeIfPresent(previousCategory, (category, ids) -> {
+                        ids.remove(id);
+                        return ids.isEmpty() ? null : ids;
+                    });
+                }
+                if (product.getCategory() != null) {
+                    // 빈 집합 제거와 겹치지 않도록 추가도 compute 안에서 수행
+                    categoryIndex.compute(product.getCategory(), (category, ids) -> {
+                        Set<Long> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                        target.add(id);
+                        return target;
+                    });
+                }
+            }
+            return cell;
+        });
+        // 새 상품은 저장소에 넣은 뒤 커밋해야 커밋 버전 이후의 스냅샷에서 항상 보임
+        saved.publish();
+    }
+
+    // 스냅샷 조회: 상품별 버전 목록에서 스냅샷 버전 이하의 가장 최근 레코드를 읽음
+    private final class InMemoryProductSnapshot implements ProductSnapshot {
+        private final VersionClock.Snapshot snapshot;
+
+        private InMemoryProductSnapshot(VersionClock.Snapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public long getVersion() {
+            return snapshot.getVersion();
+        }
+
+        @Override
+        public Optional<Product> findById(Long id) {
+            return Optional.ofNullable(recordOf(id)).map(InMemoryProductRepository.this::toProduct);
+        }
+
+        @Override
+        public Map<Long, Product> findAllById(Collection<Long> ids) {
+            Map<Long, Product> result = new HashMap<>(Math.max(16, ids.size() * 2));
+            for (Long id : ids) {
+                ProductRecord record = recordOf(id);
+                if (record != null) {
+                    result.put(id, toProduct(record));
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void close() {
+            snapshot.close();
+        }
+
+        private ProductRecord recordOf(Long id) {
+            VersionedCell<ProductRecord> cell = store.get(id);
+            return cell != null ? cell.asOf(snapshot.getVersion()) : null;
+        }
+    }
+
+    /**
+     * 인기 상품 집계 방식 설정
+     * - errorRate: 근사 집계의 버킷별 최대 오차 비율 (예: 0.001 = 버킷 판매량의 0.1%, 버킷당 카운터 1000개)
+     * - 설정 이전의 판매 기록은 새 근사 집계에 반영되지 않음
+     */
+    public void configureRanking(SalesRankingMode mode, double errorRate) {
+        this.approximateRanking = mode == SalesRankingMode.EXACT
+                ? null
+                : new ApproximateSalesRanking(Duration.ofHours(1), SALES_RETENTION, errorRate);
+        this.rankingMode = mode;
+    }
+
     @Override
     public List<Product> findTopSellingProducts(LocalDateTime startDate, int limit) {
-        return salesRecord.entrySet().stream()
-                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
-                .limit(limit)
-                .map(entry -> store.get(entry.getKey()))
-                .filter(Objects::nonNull)
+        return findPopularProducts(startDate, limit).stream()
+                .map(PopularProduct::getProduct)
                 .collect(Collectors.toList());
     }
 
-    // 판매 기록 추가 (테스트/초기화 용도)
+    @Override
+    public List<PopularProduct> findPopularProducts(LocalDateTime startDate, int limit) {
+        long from = toEpochMillis(startDate);
+        long now = System.currentTimeMillis();
+        SalesRankingMode mode = rankingMode;
+        ApproximateSalesRanking approximate = approximateRanking;
+
+        List<SalesEstimate> ranking;
+        if (mode == SalesRankingMode.APPROXIMATE && approximate != null) {
+            ranking = approximate.top(from, now, limit);
+        } else {
+            ranking = salesRanking.top(from, now, limit);
+            if (mode == SalesRankingMode.CROSS_CHECK && approximate != null) {
+                crossCheck(ranking, approximate.top(from, now, limit));
+            }
+        }
+
+        List<PopularProduct> result = new ArrayList<>(ranking.size());
+        for (SalesEstimate estimate : ranking) {
+            ProductRecord record = latest(estimate.getProductId());
+            if (record != null) {
+                result.add(new PopularProduct(toProduct(record), estimate.getCount()));
+            }
+        }
+        return result;
+    }
+
+    // 근사 집계 결과가 정확한 집계와 다르면 경고 (추정 오차를 함께 기록하여 오차율 조정에 활용)
+    private void crossCheck(List<SalesEstimate> exact, List<SalesEstimate> approximate) {
+        List<Long> exactIds = exact.stream()
+                .map(SalesEstimate::getProductId)
+                .collect(Collectors.toList());
+        List<Long> approximateIds = approximate.stream()
+                .map(SalesEstimate::getProductId)
+                .collect(Collectors.toList());
+        if (!exactIds.equals(approximateIds)) {
+            long maxError = approximate.stream().mapToLong(SalesEstimate::getError).max().orElse(0);
+            log.warn("Approximate sales ranking differs: exact={}, approximate={}, maxError={}", exactIds, approximateIds, maxError);
+        }
+    }
+
+    @Override
+    public void recordSale(Long productId, int quantity, LocalDateTime soldAt) {
+        recordSale(productId, quantity, toEpochMillis(soldAt));
+    }
+
+    // 판매 기록 추가 (테스트/초기화 용도): 현재 시각으로 기록
     public void recordSale(Long productId, Integer quantity) {
-        salesRecord.merge(productId, quantity, Integer::sum);
+        recordSale(productId, quantity, System.currentTimeMillis());
+    }
+
+    // 근사 모드에서는 정확한 판매량을 기록하지 않아 메모리를 상품 수와 무관하게 유지
+    private void recordSale(Long productId, int quantity, long soldAtMillis) {
+        ApproximateSalesRanking approximate = approximateRanking;
+        if (approximate != null) {
+            approximate.record(productId, quantity, soldAtMillis);
+        }
+        if (rankingMode != SalesRankingMode.APPROXIMATE) {
+            salesRanking.record(productId, quantity, soldAtMillis);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 
     // 테스트용: 전체 데이터 삭제
     public void clear() {
         store.clear();
-        salesRecord.clear();
+        categoryIndex.clear();
+        searchIndex.clear();
+        idIndex.clear();
+        priceIndex.clear();
+        createdAtIndex.clear();
+        salesRanking.clear();
+        ApproximateSalesRanking approximate = approximateRanking;
+        if (approximate != null) {
+            approximate.clear();
+        }
+        fencingTokens.clear();
+        hotProducts.clear();
+        stripedStocks.clear();
         idGenerator.set(1);
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import com.hhplus.hhplus_ecommerce.product.domain.StockReservation;
+import com.hhplus.hhplus_ecommerce.product.repository.StockReservationRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+public class InMemoryStockReservationRepository implements StockReservationRepository {
+
+    private final Map<Long, StockReservation> store = new ConcurrentHashMap<>();
+    private final AtomicLong idGenerator = new AtomicLong(1);
+
+    @Override
+    public StockReservation save(StockReservation reservation) {
+        if (reservation.getId() == null) {
+            StockReservation newReservation = StockReservation.builder()
+                    .id(idGenerator.getAndIncrement())
+                    .quantities(reservation.getQuantities())
+                    .status(reservation.getStatus())
+                    .expiresAt(reservation.getExpiresAt())
+                    .createdAt(reservation.getCreatedAt())
+                    .updatedAt(reservation.getUpdatedAt())
+                    .build();
+            store.put(newReservation.getId(), newReservation);
+            return newReservation;
+        } else {
+            store.put(reservation.getId(), reservation);
+            return reservation;
+        }
+    }
+
+    @Override
+    public Optional<StockReservation> findById(Long id) {
+        return Optional.ofNullable(store.get(id));
+    }
+
+    public void clear() {
+        store.clear();
+        idGenerator.set(1);
+    }
+}
@@ -0,0 +1,87 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소에 보관하는 상품의 한 버전 (불변)
+ * - 변경은 항상 새 레코드를 만들어 버전 목록에 추가하고, 조회 결과는 레코드로 만든 새 Product
+ */
+final class ProductRecord {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final Integer price;
+    private final int stock;
+    private final String category;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    private ProductRecord(Long id, String name, String description, Integer price, int stock,
+                          String category, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.stock = stock;
+        this.category = category;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    static ProductRecord of(Long id, Product product) {
+        return new ProductRecord(id, product.getName(), product.getDescription(), product.getPrice(),
+                product.getStock(), product.getCategory(), product.getCreatedAt(), product.getUpdatedAt());
+    }
+
+    ProductRecord withStock(int stock) {
+        return new ProductRecord(id, name, description, price, stock, category, createdAt, LocalDateTime.now());
+    }
+
+    ProductRecord withPrice(Integer price) {
+        return new ProductRecord(id, name, description, price, stock, category, createdAt, LocalDateTime.now());
+    }
+
+    // stock: 조회 결과에 채울 재고 (인기 상품은 분할 재고 합계)
+    Product toProduct(int stock) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .price(price)
+                .stock(stock)
+                .category(category)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getDescription() {
+        return description;
+    }
+
+    Integer getPrice() {
+        return price;
+    }
+
+    int getStock() {
+        return stock;
+    }
+
+    String getCategory() {
+        return category;
+    }
+
+    LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,224 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 이름/설명 키워드 검색용 역색인
+ * - 공백과 특수문자를 제거하고 소문자로 바꾼 문자열을 글자 단위 n-gram(1글자, 2글자)으로 나눠 색인
+ *   (형태소 분석 없이 한글 부분 검색 가능, "맥북프로"와 "맥북 프로"가 같은 결과)
+ * - 검색어의 n-gram을 모두 가진 상품 중 정규화된 이름/설명에 검색어가 실제로 포함된 상품만 결과로 사용
+ * - 게시 목록 중 가장 짧은 목록부터 확인하므로 비용은 전체 상품 수가 아니라 후보 수에 비례
+ * - 점수: 이름 앞부분 일치 > 이름 포함 > 설명만 포함, 같은 점수는 상품ID순
+ * - 같은 상품에 대한 색인 변경은 호출자가 직렬화해야 함 (InMemoryProductRepository는 상품 저장 compute 안에서 호출)
+ */
+class ProductSearchIndex {
+
+    // 순위 점수: 이름 앞부분 일치 > 이름 포함 > 설명만 포함
+    private static final int NAME_PREFIX_SCORE = 3;
+    private static final int NAME_SCORE = 2;
+    private static final int DESCRIPTION_SCORE = 1;
+
+    // n-gram -> 상품ID 집합
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    // 상품ID -> 색인된 문서 (재색인 시 이전 n-gram 제거용)
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+    // 상품 색인 (이미 색인된 상품이면 바뀐 n-gram만 반영)
+    void index(Long productId, String name, String description) {
+        Document document = new Document(normalize(name), normalize(description));
+        Document previous = documents.put(productId, document);
+
+        Set<String> previousTokens = previous != null ? previous.tokens : Set.of();
+        for (String token : previousTokens) {
+            if (!document.tokens.contains(token)) {
+                postings.computeIfPresent(token, (key, ids) -> {
+                    ids.remove(productId);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+        for (String token : document.tokens) {
+            if (!previousTokens.contains(token)) {
+                // 빈 집합 제거와 겹치지 않도록 추가도 compute 안에서 수행
+                postings.compute(token, (key, ids) -> {
+                    Set<Long> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                    target.add(productId);
+                    return target;
+                });
+            }
+        }
+    }
+
+    /**
+     * 키워드 검색: 순위순(점수 내림차순, 같으면 상품ID 오름차순)으로 offset부터 limit개의 상품ID와 전체 결과 수
+     * - 검색어가 비어 있으면(공백/특수문자만 있는 경우 포함) 빈 결과
+     * - 점수 단계별로 후보를 나눠 담은 뒤 요청한 구간에 필요한 만큼만 골라 정렬 (전체 결과를 정렬하지 않음)
+     */
+    SearchResult search(String keyword, int offset, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return SearchResult.EMPTY;
+        }
+
+        // 게시 목록이 짧은 n-gram부터 확인
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String token : tokenize(query)) {
+            Set<Long> ids = postings.get(token);
+            if (ids == null) {
+                return SearchResult.EMPTY;
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        // 점수 단계별 후보 (인덱스 = 점수)
+        List<List<Long>> tiers = new ArrayList<>();
+        for (int score = 0; score <= NAME_PREFIX_SCORE; score++) {
+            tiers.add(new ArrayList<>());
+        }
+        long total = 0;
+        for (Long productId : lists.get(0)) {
+            if (!containsAll(lists, productId)) {
+                continue;
+            }
+            Document document = documents.get(productId);
+            int score = document != null ? document.score(query) : 0;
+            if (score > 0) {
+                tiers.get(score).add(productId);
+                total++;
+            }
+        }
+
+        // 높은 점수 단계부터 offset을 건너뛰고 limit개 선택
+        List<Long> result = new ArrayList<>(Math.max(0, limit));
+        long skip = offset;
+        for (int score = NAME_PREFIX_SCORE; score > 0 && result.size() < limit; score--) {
+            List<Long> tier = tiers.get(score);
+            if (skip >= tier.size()) {
+                skip -= tier.size();
+                continue;
+            }
+            int from = (int) skip;
+            int to = (int) Math.min(tier.size(), from + (long) (limit - result.size()));
+            result.addAll(smallest(tier, to).subList(from, to));
+            skip = 0;
+        }
+        return new SearchResult(result, total);
+    }
+
+    // 상품ID가 작은 순으로 count개 (count가 작으면 최대 힙으로 골라 전체 정렬을 피함)
+    private static List<Long> smallest(List<Long> ids, int count) {
+        if (count >= ids.size() / 2) {
+            List<Long> sorted = new ArrayList<>(ids);
+            sorted.sort(null);
+            return sorted;
+        }
+        PriorityQueue<Long> heap = new PriorityQueue<>(count + 1, Comparator.reverseOrder());
+        for (Long id : ids) {
+            heap.offer(id);
+            if (heap.size() > count) {
+                heap.poll();
+            }
+        }
+        List<Long> selected = new ArrayList<>(heap);
+        selected.sort(null);
+        return selected;
+    }
+
+    void clear() {
+        postings.clear();
+        documents.clear();
+    }
+
+    private static boolean containsAll(List<Set<Long>> lists, Long productId) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(productId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 소문자로 바꾸고 글자/숫자만 남김 ("맥북 프로 16인치" -> "맥북프로16인치")
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        text.toLowerCase().codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    // 검색어 n-gram: 2글자 단위 (검색어가 1글자면 그 글자 하나)
+    static Set<String> tokenize(String normalized) {
+        Set<String> tokens = new LinkedHashSet<>();
+        int[] codePoints = normalized.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(normalized);
+            return tokens;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+        return tokens;
+    }
+
+    // 색인 n-gram: 1글자 + 2글자
+    private static Set<String> indexTokens(String normalized) {
+        Set<String> tokens = new LinkedHashSet<>();
+        int[] codePoints = normalized.codePoints().toArray();
+        for (int i = 0; i < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 검색 결과: 요청한 구간의 상품ID와 전체 결과 수
+    @Getter
+    @AllArgsConstructor
+    static final class SearchResult {
+        private static final SearchResult EMPTY = new SearchResult(List.of(), 0);
+
+        private final List<Long> productIds;
+        private final long totalCount;
+    }
+
+    private static final class Document {
+        private final String name;
+        private final String description;
+        private final Set<String> tokens;
+
+        private Document(String name, String description) {
+            this.name = name;
+            this.description = description;
+            this.tokens = indexTokens(name);
+            this.tokens.addAll(indexTokens(description));
+        }
+
+        // 검색어가 실제로 포함된 필드 기준 점수 (n-gram은 모두 있지만 이어지지 않는 경우 0)
+        private int score(String query) {
+            if (name.startsWith(query)) {
+                return NAME_PREFIX_SCORE;
+            }
+            if (name.contains(query)) {
+                return NAME_SCORE;
+            }
+            return description.contains(query) ? DESCRIPTION_SCORE : 0;
+        }
+    }
+}
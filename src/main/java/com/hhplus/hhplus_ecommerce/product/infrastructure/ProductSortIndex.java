@@ -0,0 +1,54 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 상품 정렬 인덱스: (정렬 값, 상품ID) 순으로 정렬된 키 집합
+ * - 커서 다음 위치부터 바로 이어 읽으므로 페이지 비용은 페이지 깊이와 무관하게 limit에 비례
+ * - 한 상품의 키 교체(추가 후 제거)는 호출자가 직렬화해야 하며, 교체 중 읽은 이전 키는 호출자가 걸러냄
+ */
+class ProductSortIndex {
+
+    private final NavigableSet<Key> keys = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong(Key::getSortValue).thenComparingLong(Key::getProductId));
+
+    void add(long sortValue, long productId) {
+        keys.add(new Key(sortValue, productId));
+    }
+
+    void remove(long sortValue, long productId) {
+        keys.remove(new Key(sortValue, productId));
+    }
+
+    // 커서 다음 키부터의 정렬 순서 뷰 (커서가 null이면 처음부터)
+    NavigableSet<Key> after(Key cursor, boolean descending) {
+        if (descending) {
+            return cursor == null ? keys.descendingSet() : keys.headSet(cursor, false).descendingSet();
+        }
+        return cursor == null ? keys : keys.tailSet(cursor, false);
+    }
+
+    void clear() {
+        keys.clear();
+    }
+
+    static final class Key {
+        private final long sortValue;
+        private final long productId;
+
+        Key(long sortValue, long productId) {
+            this.sortValue = sortValue;
+            this.productId = productId;
+        }
+
+        long getSortValue() {
+            return sortValue;
+        }
+
+        long getProductId() {
+            return productId;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품별 판매량 집계 결과
+ * - 정확한 집계는 error가 0, 근사 집계는 count - error <= 실제 판매량 <= count
+ */
+@Getter
+@AllArgsConstructor
+class SalesEstimate {
+    private final Long productId;
+    private final long count;
+    private final long error;
+}
@@ -0,0 +1,120 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시간 구간별 판매량 집계
+ * - 판매량을 일정 간격(예: 1분) 버킷에 나눠 기록하고, 버킷은 보관 기간만큼의 링 배열에 순환 저장
+ * - 기간 조회는 해당 구간 버킷만 합산한 뒤 크기 limit의 최소 힙으로 상위 상품을 고름 (전체 정렬 없음)
+ * - 조회 비용은 기간 안에 팔린 상품 수에 비례하고, 전체 상품 수와는 무관
+ * - 보관 기간보다 오래된 판매는 버킷이 재사용되면서 자연스럽게 사라짐
+ */
+class SalesRanking {
+
+    private final long bucketMillis;
+    private final AtomicReferenceArray<Bucket> ring;
+
+    SalesRanking(Duration bucketSize, Duration retention) {
+        this.bucketMillis = bucketSize.toMillis();
+        if (bucketMillis < 1) {
+            throw new IllegalArgumentException("버킷 간격은 1ms 이상이어야 합니다.");
+        }
+        int bucketCount = (int) Math.max(1, (retention.toMillis() + bucketMillis - 1) / bucketMillis);
+        this.ring = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    // 판매 기록: 판매 시각이 속한 버킷에 누적 (보관 기간을 벗어난 과거 판매는 무시)
+    void record(Long productId, int quantity, long soldAtMillis) {
+        Bucket bucket = bucketFor(Math.floorDiv(soldAtMillis, bucketMillis));
+        if (bucket != null) {
+            bucket.sales.computeIfAbsent(productId, k -> new LongAdder()).add(quantity);
+        }
+    }
+
+    /**
+     * [fromMillis, toMillis] 구간의 판매량 상위 limit개 (판매량 내림차순, 같으면 상품ID 오름차순)
+     * - 시작 시각이 속한 버킷 전체를 포함하므로 최대 버킷 간격만큼 더 넓은 구간이 합산됨
+     */
+    List<SalesEstimate> top(long fromMillis, long toMillis, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long toIndex = Math.floorDiv(toMillis, bucketMillis);
+        long fromIndex = Math.max(Math.floorDiv(fromMillis, bucketMillis), toIndex - ring.length() + 1);
+
+        Map<Long, Long> totals = new HashMap<>();
+        for (long index = fromIndex; index <= toIndex; index++) {
+            Bucket bucket = ring.get(slot(index));
+            if (bucket != null && bucket.index == index) {
+                bucket.sales.forEach((productId, quantity) -> totals.merge(productId, quantity.sum(), Long::sum));
+            }
+        }
+
+        // 최소 힙: 가장 순위가 낮은 항목이 맨 앞에 오도록 유지하며 limit개만 남김
+        Comparator<Map.Entry<Long, Long>> ranking = Map.Entry.<Long, Long>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Long>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Long, Long>> heap = new PriorityQueue<>(limit + 1, ranking);
+        for (Map.Entry<Long, Long> entry : totals.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<SalesEstimate> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Map.Entry<Long, Long> entry = heap.poll();
+            result.add(new SalesEstimate(entry.getKey(), entry.getValue(), 0));
+        }
+        // 힙에서는 낮은 순위부터 나오므로 뒤집음
+        Collections.reverse(result);
+        return result;
+    }
+
+    void clear() {
+        for (int i = 0; i < ring.length(); i++) {
+            ring.set(i, null);
+        }
+    }
+
+    // 버킷 번호에 해당하는 버킷 (링의 자리에 더 오래된 버킷이 있으면 새 버킷으로 교체, 더 최근 버킷이 있으면 null)
+    private Bucket bucketFor(long index) {
+        int slot = slot(index);
+        while (true) {
+            Bucket current = ring.get(slot);
+            if (current != null && current.index == index) {
+                return current;
+            }
+            if (current != null && current.index > index) {
+                return null;
+            }
+            Bucket fresh = new Bucket(index);
+            if (ring.compareAndSet(slot, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private int slot(long index) {
+        return (int) Math.floorMod(index, (long) ring.length());
+    }
+
+    private static final class Bucket {
+        private final long index;
+        private final Map<Long, LongAdder> sales = new ConcurrentHashMap<>();
+
+        private Bucket(long index) {
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+/**
+ * 인기 상품 집계 방식
+ * - EXACT: 상품별 정확한 판매량 (기본값)
+ * - APPROXIMATE: Space-Saving 추정 (상품 수와 무관한 메모리)
+ * - CROSS_CHECK: 정확한 값으로 응답하고, 근사 결과와 다르면 경고 로그 (근사 모드 전환 전 검증용)
+ */
+public enum SalesRankingMode {
+    EXACT,
+    APPROXIMATE,
+    CROSS_CHECK
+}
@@ -0,0 +1,85 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving 상위 K 추정기
+ * - 최대 capacity개의 카운터만 유지: 새 상품이 들어왔는데 카운터가 가득 차면 가장 작은 카운터를 넘겨받음
+ * - 넘겨받은 상품은 이전 최솟값만큼 과대 추정될 수 있으며 그 값을 오차(error)로 함께 기록
+ * - 전체 판매량이 N이면 모든 추정치의 오차는 N / capacity 이하
+ * - 메모리는 상품 수와 무관하게 O(capacity)
+ */
+class SpaceSavingSketch {
+
+    // 작은 카운터가 앞에 오도록 정렬 (같으면 상품ID 순)
+    private static final Comparator<Counter> ORDER = Comparator.comparingLong((Counter counter) -> counter.count)
+            .thenComparingLong(counter -> counter.productId);
+
+    private final int capacity;
+    private final Map<Long, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> ordered = new TreeSet<>(ORDER);
+    private long total;
+
+    SpaceSavingSketch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("카운터 개수는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+    }
+
+    synchronized void offer(Long productId, long quantity) {
+        total += quantity;
+        Counter counter = counters.get(productId);
+        if (counter != null) {
+            ordered.remove(counter);
+            counter.count += quantity;
+            ordered.add(counter);
+            return;
+        }
+        if (counters.size() < capacity) {
+            counter = new Counter(productId, quantity, 0);
+        } else {
+            // 가장 작은 카운터를 넘겨받음
+            Counter evicted = ordered.pollFirst();
+            counters.remove(evicted.productId);
+            counter = new Counter(productId, evicted.count + quantity, evicted.count);
+        }
+        counters.put(productId, counter);
+        ordered.add(counter);
+    }
+
+    // 추적 중인 모든 추정치 (판매량 내림차순)
+    synchronized List<SalesEstimate> estimates() {
+        List<SalesEstimate> result = new ArrayList<>(ordered.size());
+        for (Counter counter : ordered.descendingSet()) {
+            result.add(new SalesEstimate(counter.productId, counter.count, counter.error));
+        }
+        return result;
+    }
+
+    // 추적하지 않는 상품의 판매량 상한 (카운터가 가득 차지 않았으면 0)
+    synchronized long untrackedBound() {
+        return counters.size() < capacity ? 0 : ordered.first().count;
+    }
+
+    synchronized long total() {
+        return total;
+    }
+
+    private static final class Counter {
+        private final Long productId;
+        private long count;
+        private final long error;
+
+        private Counter(Long productId, long count, long error) {
+            this.productId = productId;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 인기 상품용 분할 재고 카운터
+ * - 재고를 여러 셀에 나눠 담고 스레드마다 다른 셀에서 차감하여, 하나의 재고 값에 CAS가 몰리지 않게 함
+ * - 셀끼리 같은 캐시 라인을 공유하지 않도록 간격(PADDING)을 두고 배치
+ * - 담당 셀이 부족하면 다른 셀을 차례로 시도하고, 그래도 부족하면 전체 셀을 모아 다시 나눔 (재분배)
+ * - 모든 차감은 셀 단위 CAS로 0 미만이 되지 않으므로 초과 판매가 발생하지 않음
+ */
+class StripedStock {
+
+    // 셀 간격: int 16개 = 64바이트 (일반적인 캐시 라인 크기)
+    private static final int PADDING = 16;
+
+    private final int stripes;
+    private final AtomicIntegerArray cells;
+    private final Object rebalanceLock = new Object();
+    // 재분배 진행 표시: 홀수면 셀 사이에서 재고를 옮기는 중 (재분배 Lock 안에서만 증가)
+    private volatile int rebalanceSequence;
+
+    StripedStock(int stripes, int initialStock) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("셀 개수는 1 이상이어야 합니다.");
+        }
+        this.stripes = stripes;
+        this.cells = new AtomicIntegerArray(stripes * PADDING);
+        distribute(initialStock);
+    }
+
+    boolean tryDecrease(int quantity) {
+        int home = homeCell();
+        for (int i = 0; i < stripes; i++) {
+            if (tryDecreaseCell((home + i) % stripes, quantity)) {
+                return true;
+            }
+        }
+        // 재고가 소진된 뒤의 요청은 재분배 Lock 없이 바로 실패 (재분배 중이 아닐 때 합계가 부족한 경우만)
+        int sequence = rebalanceSequence;
+        if ((sequence & 1) == 0 && available() < quantity && sequence == rebalanceSequence) {
+            return false;
+        }
+        // 어느 한 셀로도 부족: 셀에 흩어진 재고를 모아서 판단
+        return rebalanceAndDecrease(quantity);
+    }
+
+    void increase(int quantity) {
+        cells.getAndAdd(offset(homeCell()), quantity);
+    }
+
+    // 현재 재고 합계 (셀을 순서대로 읽으므로 동시 변경 중에는 근사값)
+    int available() {
+        int total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.get(offset(i));
+        }
+        return total;
+    }
+
+    private boolean tryDecreaseCell(int cell, int quantity) {
+        int offset = offset(cell);
+        int current;
+        do {
+            current = cells.get(offset);
+            if (current < quantity) {
+                return false;
+            }
+        } while (!cells.compareAndSet(offset, current, current - quantity));
+        return true;
+    }
+
+    private boolean rebalanceAndDecrease(int quantity) {
+        synchronized (rebalanceLock) {
+            rebalanceSequence++;
+            int total = drainAll();
+            boolean enough = total >= quantity;
+            distribute(enough ? total - quantity : total);
+            rebalanceSequence++;
+            return enough;
+        }
+    }
+
+    // 모든 셀의 재고를 꺼내 합산 (꺼내는 동안의 다른 차감/증가도 셀 단위 원자 연산이라 유실되지 않음)
+    private int drainAll() {
+        int total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.getAndSet(offset(i), 0);
+        }
+        return total;
+    }
+
+    // 재고를 셀에 고르게 분배 (이미 들어 있는 값에 더함)
+    private void distribute(int total) {
+        int share = total / stripes;
+        int remainder = total % stripes;
+        for (int i = 0; i < stripes; i++) {
+            int amount = share + (i < remainder ? 1 : 0);
+            if (amount > 0) {
+                cells.getAndAdd(offset(i), amount);
+            }
+        }
+    }
+
+    // 스레드별 담당 셀 (같은 스레드는 같은 셀을 사용하여 캐시 지역성 유지)
+    private int homeCell() {
+        return (int) (Thread.currentThread().getId() % stripes);
+    }
+
+    private int offset(int cell) {
+        return cell * PADDING;
+    }
+}
@@ -1,17 +1,62 @@
 package com.hhplus.hhplus_ecommerce.product.repository;
 
+import com.hhplus.hhplus_ecommerce.product.domain.PopularProduct;
 import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductCursor;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductPage;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductSlice;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductSort;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public interface ProductRepository {
 
-   
+    // 상품 저장: 기존 상품은 재고를 제외한 필드만 반영 (재고는 아래의 원자적 재고 연산으로만 변경)
     Product save(Product product);
+
+    // 가격만 원자적으로 변경하고 이전 가격 반환 (재고 등 다른 필드는 그대로, 상품이 없으면 PRODUCT_NOT_FOUND 예외)
+    Integer changePrice(Long productId, int price);
     Optional<Product> findById(Long id);
+
+    // 여러 상품 한 번에 조회: 상품ID -> 상품 (없는 상품ID는 결과에서 빠짐, 한 시점 기준으로 일관된 상태)
+    Map<Long, Product> findAllById(Collection<Long> ids);
+
+    // 스냅샷 열기: 닫을 때까지 연 시점의 상품 상태로 조회
+    ProductSnapshot openSnapshot();
+
+    // 재고 원자적 차감 (Lock 불필요): 재고가 부족하면 차감하지 않고 false, 상품이 없으면 PRODUCT_NOT_FOUND 예외
+    boolean tryDecreaseStock(Long productId, int quantity);
+
+    // 재고 원자적 증가 (Lock 불필요): 상품이 없으면 PRODUCT_NOT_FOUND 예외
+    void increaseStock(Long productId, int quantity);
+
+    // 펜싱 토큰 검증 쓰기 (Lease 보유 중 사용): 토큰 비교와 write를 상품 단위로 원자적으로 실행, 이전에 반영된 토큰보다 작은 토큰이면 STALE_FENCING_TOKEN 예외
+    <T> T writeFenced(Long productId, long fencingToken, Supplier<T> write);
+
+    // 한 상품의 재고 여러 건 조정: 순서대로 적용하되 재고가 0 미만이 되는 건은 건너뜀, 건별 적용 여부 반환 (상품이 없으면 PRODUCT_NOT_FOUND 예외)
+    boolean[] adjustStock(Long productId, List<Integer> deltas);
+
     List<Product> findAll();
     List<Product> findByCategory(String category);
+
+    // 전체 상품 수
+    long count();
+
+    // 이름/설명 키워드 검색 (관련도순, page는 0부터 시작)
+    ProductPage search(String keyword, int page, int size);
+
+    // 커서 기반 목록 조회: after 다음 상품부터 sort 순으로 limit개 (after가 null이면 처음부터)
+    ProductSlice findPage(ProductCursor after, int limit, ProductSort sort);
     List<Product> findTopSellingProducts(LocalDateTime startDate, int limit);
+
+    // 인기 상품과 기간 내 판매량 (판매량 내림차순)
+    List<PopularProduct> findPopularProducts(LocalDateTime startDate, int limit);
+
+    // 판매 기록 (결제 확정 시점 기준으로 인기 상품 집계에 반영)
+    void recordSale(Long productId, int quantity, LocalDateTime soldAt);
 }
\ No newline at end of file
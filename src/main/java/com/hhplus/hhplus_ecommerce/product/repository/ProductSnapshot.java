@@ -0,0 +1,24 @@
+package com.hhplus.hhplus_ecommerce.product.repository;
+
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상품 스냅샷 조회: 연 시점의 상품 상태를 여러 번, 여러 상품에 걸쳐 일관되게 조회 (사용 후 close)
+ */
+public interface ProductSnapshot extends AutoCloseable {
+
+    // 스냅샷 버전 (이 버전 이하로 커밋된 변경만 보임)
+    long getVersion();
+
+    Optional<Product> findById(Long id);
+
+    // 상품ID -> 상품 (스냅샷 시점에 없던 상품ID는 결과에서 빠짐)
+    Map<Long, Product> findAllById(Collection<Long> ids);
+
+    @Override
+    void close();
+}
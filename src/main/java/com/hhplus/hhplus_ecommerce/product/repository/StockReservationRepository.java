@@ -0,0 +1,11 @@
+package com.hhplus.hhplus_ecommerce.product.repository;
+
+import com.hhplus.hhplus_ecommerce.product.domain.StockReservation;
+
+import java.util.Optional;
+
+public interface StockReservationRepository {
+
+    StockReservation save(StockReservation reservation);
+    Optional<StockReservation> findById(Long id);
+}
@@ -0,0 +1,79 @@
+package com.hhplus.hhplus_ecommerce.cart.application;
+
+import com.hhplus.hhplus_ecommerce.cart.domain.CartEvictionResult;
+import com.hhplus.hhplus_ecommerce.cart.domain.CartItem;
+import com.hhplus.hhplus_ecommerce.cart.infrastructure.InMemoryCartItemRepository;
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AbandonedCartReaperTest {
+
+    private static final Duration IDLE_TTL = Duration.ofDays(7);
+
+    private InMemoryCartItemRepository cartItemRepository;
+    private CartReadModel cartReadModel;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        cartItemRepository = new InMemoryCartItemRepository();
+        InMemoryProductRepository productRepository = new InMemoryProductRepository();
+        cartReadModel = new CartReadModel(cartItemRepository, productRepository);
+        product = productRepository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+    }
+
+    @Test
+    @DisplayName("방치 기준 시간이 지난 장바구니를 정리하고 보기도 버린다")
+    void reap_방치된장바구니() {
+        // given
+        AbandonedCartReaper reaper = new AbandonedCartReaper(
+                cartItemRepository, cartReadModel, IDLE_TTL, DataSize.ofMegabytes(64), 100);
+        cartItemRepository.save(CartItem.create(1L, product.getId(), 2));
+        assertThat(cartReadModel.getCartView(1L).getTotalAmount()).isEqualTo(2000000);
+
+        // when
+        CartEvictionResult beforeTtl = reaper.reap(System.currentTimeMillis());
+        CartEvictionResult afterTtl = reaper.reap(System.currentTimeMillis() + IDLE_TTL.toMillis() + 1);
+
+        // then
+        assertThat(beforeTtl.getEvictedCarts()).isZero();
+        assertThat(afterTtl.getUserIds()).containsExactly(1L);
+        assertThat(cartReadModel.getViewCount()).isZero();
+        assertThat(cartReadModel.getCartView(1L).getLines()).isEmpty();
+        assertThat(reaper.getEvictedCarts()).isEqualTo(1);
+        assertThat(reaper.getReclaimedBytes()).isEqualTo(afterTtl.getReclaimedBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 넘으면 방치 기준 시간과 관계없이 오래된 장바구니부터 정리하고 그 보기도 버린다")
+    void reap_메모리예산초과() {
+        // given: 장바구니 하나만 들어가는 예산
+        long oneCart = InMemoryCartItemRepository.CART_BYTES + InMemoryCartItemRepository.ITEM_BYTES;
+        AbandonedCartReaper reaper = new AbandonedCartReaper(
+                cartItemRepository, cartReadModel, IDLE_TTL, DataSize.ofBytes(oneCart), 100);
+        cartItemRepository.save(CartItem.create(1L, product.getId(), 1));
+        cartItemRepository.save(CartItem.create(2L, product.getId(), 1));
+        cartItemRepository.save(CartItem.create(3L, product.getId(), 1));
+        for (long userId = 1; userId <= 3; userId++) {
+            cartReadModel.getCartView(userId);
+        }
+
+        // when
+        CartEvictionResult result = reaper.reap(System.currentTimeMillis());
+
+        // then
+        assertThat(result.getUserIds()).containsExactly(1L, 2L);
+        assertThat(result.getReclaimedBytes()).isEqualTo(2 * oneCart);
+        assertThat(cartItemRepository.getUsedBytes()).isEqualTo(oneCart);
+        assertThat(cartItemRepository.findByUserId(3L)).hasSize(1);
+        assertThat(cartReadModel.getViewCount()).isEqualTo(cartItemRepository.getCartCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,177 @@
+package com.hhplus.hhplus_ecommerce.cart.application;
+
+import com.hhplus.hhplus_ecommerce.cart.domain.CartItem;
+import com.hhplus.hhplus_ecommerce.cart.domain.CartLine;
+import com.hhplus.hhplus_ecommerce.cart.domain.CartView;
+import com.hhplus.hhplus_ecommerce.cart.infrastructure.InMemoryCartItemRepository;
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductPriceChangedEvent;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CartReadModelTest {
+
+    private InMemoryCartItemRepository cartItemRepository;
+    private InMemoryProductRepository productRepository;
+    private CartReadModel cartReadModel;
+
+    private Product laptop;
+    private Product mouse;
+
+    @BeforeEach
+    void setUp() {
+        cartItemRepository = new InMemoryCartItemRepository();
+        productRepository = new InMemoryProductRepository();
+        cartReadModel = new CartReadModel(cartItemRepository, productRepository);
+
+        laptop = productRepository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+        mouse = productRepository.save(Product.create("마우스", "무선", 50000, 20, "전자제품"));
+    }
+
+    @Test
+    @DisplayName("장바구니 항목과 상품 정보를 합쳐 줄별 소계와 총 금액을 계산한다")
+    void getCartView_합치기() {
+        // given
+        cartItemRepository.save(CartItem.create(1L, laptop.getId(), 2));
+        cartItemRepository.save(CartItem.create(1L, mouse.getId(), 3));
+
+        // when
+        CartView view = cartReadModel.getCartView(1L);
+
+        // then
+        assertThat(view.getLines()).extracting(CartLine::getProductName).containsExactly("노트북", "마우스");
+        assertThat(view.getLines()).extracting(CartLine::getSubtotal).containsExactly(2000000, 150000);
+        assertThat(view.getTotalAmount()).isEqualTo(2150000);
+    }
+
+    @Test
+    @DisplayName("보기가 있으면 다시 합치지 않고 보관된 보기를 반환한다")
+    void getCartView_재사용() {
+        // given
+        cartItemRepository.save(CartItem.create(1L, laptop.getId(), 1));
+        CartView first = cartReadModel.getCartView(1L);
+
+        // when
+        CartView second = cartReadModel.getCartView(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("추가/수량 변경/삭제를 바뀐 줄만 고쳐 총 금액에 반영한다")
+    void applyChange_증분반영() {
+        // given
+        cartItemRepository.save(CartItem.create(1L, laptop.getId(), 1));
+        cartReadModel.getCartView(1L);
+
+        // when: 마우스 추가, 노트북 수량 증가, 마우스 삭제 순서로 변경
+        cartReadModel.applyChange(1L, mouse.getId(),
+                () -> cartItemRepository.upsertQuantity(1L, mouse.getId(), 2));
+        cartReadModel.applyChange(1L, laptop.getId(),
+                () -> cartItemRepository.upsertQuantity(1L, laptop.getId(), 1));
+        CartView afterAdd = cartReadModel.getCartView(1L);
+        cartReadModel.applyChange(1L, mouse.getId(),
+                () -> cartItemRepository.upsertQuantity(1L, mouse.getId(), -2));
+        CartView afterRemove = cartReadModel.getCartView(1L);
+
+        // then
+        assertThat(afterAdd.getTotalAmount()).isEqualTo(2100000);
+        assertThat(afterRemove.getLines()).extracting(CartLine::getProductId).containsExactly(laptop.getId());
+        assertThat(afterRemove.getTotalAmount()).isEqualTo(2000000);
+    }
+
+    @Test
+    @DisplayName("장바구니를 비우면 보기를 버리고, 이후 조회한 빈 보기는 보관하지 않는다")
+    void applyClear_보기제거() {
+        // given
+        cartItemRepository.save(CartItem.create(1L, laptop.getId(), 1));
+        cartReadModel.getCartView(1L);
+
+        // when
+        cartReadModel.applyClear(1L, () -> cartItemRepository.deleteAllByUserId(1L));
+
+        // then
+        assertThat(cartReadModel.getViewCount()).isZero();
+        assertThat(cartReadModel.getCartView(1L).getLines()).isEmpty();
+        assertThat(cartReadModel.getCartView(1L).getTotalAmount()).isZero();
+        assertThat(cartReadModel.getViewCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("빈 장바구니를 여러 사용자가 조회해도 보기를 보관하지 않는다")
+    void getCartView_빈장바구니_보관안함() {
+        // when
+        for (long userId = 1; userId <= 100; userId++) {
+            assertThat(cartReadModel.getCartView(userId).getLines()).isEmpty();
+        }
+
+        // then
+        assertThat(cartReadModel.getViewCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("마지막 항목을 삭제하면 보기를 버린다")
+    void applyChange_마지막항목삭제_보기제거() {
+        // given
+        cartItemRepository.save(CartItem.create(1L, laptop.getId(), 1));
+        cartReadModel.getCartView(1L);
+
+        // when
+        cartReadModel.applyChange(1L, laptop.getId(),
+                () -> cartItemRepository.upsertQuantity(1L, laptop.getId(), -1));
+
+        // then
+        assertThat(cartReadModel.getViewCount()).isZero();
+        assertThat(cartReadModel.getCartView(1L).getLines()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품 가격이 바뀌면 그 상품이 담긴 보기만 다시 합쳐 바뀐 가격으로 계산한다")
+    void onProductPriceChanged_무효화() {
+        // given
+        cartItemRepository.save(CartItem.create(1L, laptop.getId(), 2));
+        cartItemRepository.save(CartItem.create(2L, mouse.getId(), 1));
+        CartView laptopCart = cartReadModel.getCartView(1L);
+        CartView mouseCart = cartReadModel.getCartView(2L);
+
+        // when
+        Product changed = productRepository.findById(laptop.getId()).orElseThrow();
+        changed.changePrice(900000);
+        productRepository.save(changed);
+        cartReadModel.onProductPriceChanged(new ProductPriceChangedEvent(laptop.getId(), 1000000, 900000));
+
+        // then
+        assertThat(cartReadModel.getCartView(1L)).isNotSameAs(laptopCart);
+        assertThat(cartReadModel.getCartView(1L).getTotalAmount()).isEqualTo(1800000);
+        assertThat(cartReadModel.getCartView(2L)).isSameAs(mouseCart);
+    }
+
+    @Test
+    @DisplayName("장바구니가 정리되면 보기를 버리고, 그 사이 변경되어 남겨 두었으면 보기를 유지한다")
+    void applyEviction_정리된경우만_무효화() {
+        // given
+        cartItemRepository.save(CartItem.create(1L, laptop.getId(), 2));
+        cartItemRepository.save(CartItem.create(2L, mouse.getId(), 1));
+        CartView mouseCart = cartReadModel.getCartView(2L);
+        cartReadModel.getCartView(1L);
+
+        // when
+        long kept = cartReadModel.applyEviction(2L, () -> 0L);
+        long evicted = cartReadModel.applyEviction(1L, () -> {
+            cartItemRepository.deleteAllByUserId(1L);
+            return 1L;
+        });
+
+        // then
+        assertThat(kept).isZero();
+        assertThat(evicted).isEqualTo(1L);
+        assertThat(cartReadModel.getViewCount()).isEqualTo(1);
+        assertThat(cartReadModel.getCartView(2L)).isSameAs(mouseCart);
+        assertThat(cartReadModel.getCartView(1L).getLines()).isEmpty();
+    }
+}
@@ -1,6 +1,8 @@
 package com.hhplus.hhplus_ecommerce.cart.application;
 
 import com.hhplus.hhplus_ecommerce.cart.domain.CartItem;
+import com.hhplus.hhplus_ecommerce.cart.domain.CartLine;
+import com.hhplus.hhplus_ecommerce.cart.domain.CartView;
 import com.hhplus.hhplus_ecommerce.cart.repository.CartItemRepository;
 import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
 import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
@@ -16,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -31,6 +34,9 @@ class CartServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private CartReadModel cartReadModel;
+
     @InjectMocks
     private CartService cartService;
 
@@ -58,6 +64,14 @@ class CartServiceTest {
                 .productId(productId)
                 .quantity(2)
                 .build();
+
+        // 읽기 모델은 전달받은 변경을 그대로 수행
+        lenient().when(cartReadModel.applyChange(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<CartItem>>getArgument(2).get());
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(cartReadModel).applyClear(any(), any());
     }
 
     @Test
@@ -65,10 +79,8 @@ class CartServiceTest {
     void addCartItem_새상품_성공() {
         // given
         given(productRepository.findById(productId)).willReturn(Optional.of(product));
-        given(cartItemRepository.findByUserIdAndProductId(userId, productId))
-                .willReturn(Optional.empty());
-        given(cartItemRepository.save(any(CartItem.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
+        given(cartItemRepository.upsertQuantity(userId, productId, 3))
+                .willReturn(CartItem.create(userId, productId, 3));
 
         // when
         CartItem result = cartService.addCartItem(userId, productId, 3);
@@ -80,7 +92,7 @@ class CartServiceTest {
                 () -> assertThat(result.getProductId()).isEqualTo(productId),
                 () -> assertThat(result.getQuantity()).isEqualTo(3)
         );
-        verify(cartItemRepository).save(any(CartItem.class));
+        verify(cartItemRepository).upsertQuantity(userId, productId, 3);
     }
 
     @Test
@@ -88,17 +100,15 @@ class CartServiceTest {
     void addCartItem_기존상품_수량증가() {
         // given
         given(productRepository.findById(productId)).willReturn(Optional.of(product));
-        given(cartItemRepository.findByUserIdAndProductId(userId, productId))
-                .willReturn(Optional.of(cartItem));
-        given(cartItemRepository.save(any(CartItem.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
+        given(cartItemRepository.upsertQuantity(userId, productId, 3))
+                .willReturn(CartItem.builder().id(1L).userId(userId).productId(productId).quantity(5).build());
 
         // when
         CartItem result = cartService.addCartItem(userId, productId, 3);
 
         // then
         assertThat(result.getQuantity()).isEqualTo(5);  // 2 + 3
-        verify(cartItemRepository).save(cartItem);
+        verify(cartItemRepository, never()).save(any(CartItem.class));
     }
 
     @Test
@@ -131,6 +141,7 @@ class CartServiceTest {
         assertThatThrownBy(() -> cartService.addCartItem(userId, productId, 5))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_INSUFFICIENT_STOCK);
+        verify(cartItemRepository, never()).upsertQuantity(any(), any(), anyInt());
     }
 
     @Test
@@ -148,6 +159,21 @@ class CartServiceTest {
         assertThat(result).hasSize(2);
     }
 
+    @Test
+    @DisplayName("상품 정보가 합쳐진 장바구니 보기를 조회할 수 있다")
+    void getCartView_성공() {
+        // given
+        CartView cartView = CartView.of(userId, List.of(CartLine.of(cartItem, "노트북", 1000000)));
+        given(cartReadModel.getCartView(userId)).willReturn(cartView);
+
+        // when
+        CartView result = cartService.getCartView(userId);
+
+        // then
+        assertThat(result.getTotalAmount()).isEqualTo(2000000);
+        assertThat(result.getLines()).extracting(CartLine::getProductName).containsExactly("노트북");
+    }
+
     @Test
     @DisplayName("장바구니 항목을 삭제할 수 있다")
     void removeCartItem_성공() {
@@ -195,16 +221,18 @@ class CartServiceTest {
         // given
         Long cartItemId = 1L;
         given(cartItemRepository.findById(cartItemId)).willReturn(Optional.of(cartItem));
-        given(cartItemRepository.save(any(CartItem.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
+        given(cartItemRepository.upsertQuantity(userId, productId, -1))
+                .willReturn(CartItem.builder().id(cartItemId).userId(userId).productId(productId).quantity(1).build());
 
         // when
         CartItem result = cartService.decreaseCartItemQuantity(userId, cartItemId, 1);
 
-        // then
+        // then: 조회한 항목은 고치지 않고 저장소에서 원자적으로 감소
         assertThat(result).isNotNull();
         assertThat(result.getQuantity()).isEqualTo(1);  // 2 - 1
-        verify(cartItemRepository).save(cartItem);
+        assertThat(cartItem.getQuantity()).isEqualTo(2);
+        verify(cartItemRepository).upsertQuantity(userId, productId, -1);
+        verify(cartItemRepository, never()).save(any(CartItem.class));
     }
 
     @Test
@@ -213,13 +241,14 @@ class CartServiceTest {
         // given
         Long cartItemId = 1L;
         given(cartItemRepository.findById(cartItemId)).willReturn(Optional.of(cartItem));
+        given(cartItemRepository.upsertQuantity(userId, productId, -5)).willReturn(null);
 
         // when
         CartItem result = cartService.decreaseCartItemQuantity(userId, cartItemId, 5);
 
         // then
         assertThat(result).isNull();
-        verify(cartItemRepository).delete(cartItemId);
+        verify(cartItemRepository).upsertQuantity(userId, productId, -5);
         verify(cartItemRepository, never()).save(any(CartItem.class));
     }
 
@@ -1,5 +1,6 @@
 package com.hhplus.hhplus_ecommerce.cart.infrastructure;
 
+import com.hhplus.hhplus_ecommerce.cart.domain.CartEvictionResult;
 import com.hhplus.hhplus_ecommerce.cart.domain.CartItem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -121,6 +122,50 @@ class InMemoryCartItemRepositoryTest {
         assertThat(found).isEmpty();
     }
 
+    @Test
+    @DisplayName("장바구니에 없는 상품의 수량을 변경하면 새 항목이 생성된다")
+    void upsertQuantity_신규() {
+        // when
+        CartItem result = repository.upsertQuantity(1L, 10L, 2);
+
+        // then
+        assertThat(result.getId()).isNotNull();
+        assertThat(result.getQuantity()).isEqualTo(2);
+        assertThat(repository.findById(result.getId())).isPresent();
+        assertThat(repository.findByUserIdAndProductId(1L, 10L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("장바구니에 있는 상품의 수량을 변경하면 같은 항목의 수량이 바뀐다")
+    void upsertQuantity_기존() {
+        // given
+        CartItem saved = repository.save(CartItem.create(1L, 10L, 2));
+
+        // when
+        CartItem result = repository.upsertQuantity(1L, 10L, 3);
+
+        // then
+        assertThat(result.getId()).isEqualTo(saved.getId());
+        assertThat(result.getQuantity()).isEqualTo(5);
+        assertThat(repository.findById(saved.getId()).get().getQuantity()).isEqualTo(5);
+        assertThat(repository.findByUserId(1L)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("수량이 0 이하가 되면 항목이 삭제된다")
+    void upsertQuantity_삭제() {
+        // given
+        CartItem saved = repository.save(CartItem.create(1L, 10L, 2));
+
+        // when
+        CartItem result = repository.upsertQuantity(1L, 10L, -2);
+
+        // then
+        assertThat(result).isNull();
+        assertThat(repository.findById(saved.getId())).isEmpty();
+        assertThat(repository.findByUserId(1L)).isEmpty();
+    }
+
     @Test
     @DisplayName("장바구니 항목을 삭제할 수 있다")
     void delete_성공() {
@@ -135,6 +180,37 @@ class InMemoryCartItemRepositoryTest {
         assertThat(repository.findById(saved.getId())).isEmpty();
     }
 
+    @Test
+    @DisplayName("항목을 삭제하면 사용자/상품 기준 조회에서도 사라진다")
+    void delete_색인반영() {
+        // given
+        CartItem saved = repository.save(CartItem.create(1L, 10L, 2));
+        repository.save(CartItem.create(1L, 11L, 1));
+
+        // when
+        repository.delete(saved.getId());
+
+        // then
+        assertThat(repository.findByUserIdAndProductId(1L, 10L)).isEmpty();
+        assertThat(repository.findByUserId(1L)).extracting(CartItem::getProductId).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("수량을 바꿔 저장하면 사용자/상품 기준 조회에 바뀐 항목이 보인다")
+    void save_업데이트_색인반영() {
+        // given
+        CartItem saved = repository.save(CartItem.create(1L, 10L, 2));
+        saved.increaseQuantity(3);
+
+        // when
+        repository.save(saved);
+
+        // then
+        assertThat(repository.findByUserIdAndProductId(1L, 10L)).get()
+                .extracting(CartItem::getQuantity).isEqualTo(5);
+        assertThat(repository.findByUserId(1L)).hasSize(1);
+    }
+
     @Test
     @DisplayName("사용자의 모든 장바구니 항목을 삭제할 수 있다")
     void deleteAllByUserId_성공() {
@@ -148,6 +224,81 @@ class InMemoryCartItemRepositoryTest {
 
         // then
         assertThat(repository.findByUserId(1L)).isEmpty();
+        assertThat(repository.findByUserIdAndProductId(1L, 10L)).isEmpty();
+        assertThat(repository.findByUserId(2L)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("장바구니 메모리 사용량 추정치를 항목/장바구니 단위로 관리한다")
+    void usedBytes_추정() {
+        // given
+        repository.save(CartItem.create(1L, 10L, 2));
+        repository.save(CartItem.create(1L, 11L, 1));
+        repository.upsertQuantity(2L, 10L, 3);
+
+        // when & then
+        assertThat(repository.getUsedBytes())
+                .isEqualTo(2 * InMemoryCartItemRepository.CART_BYTES + 3 * InMemoryCartItemRepository.ITEM_BYTES);
+
+        repository.deleteAllByUserId(1L);
+        repository.upsertQuantity(2L, 10L, -3);
+        assertThat(repository.getUsedBytes()).isZero();
+        assertThat(repository.getCartCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전에 마지막으로 변경된 장바구니를 통째로 정리한다")
+    void evictIdleCarts_성공() {
+        // given
+        CartItem item = repository.save(CartItem.create(1L, 10L, 2));
+        repository.save(CartItem.create(1L, 11L, 1));
+        repository.save(CartItem.create(2L, 10L, 3));
+
+        // when
+        CartEvictionResult notYet = repository.evictIdleCarts(System.currentTimeMillis() - 60_000, 10);
+        CartEvictionResult idle = repository.evictIdleCarts(System.currentTimeMillis() + 1, 10);
+
+        // then
+        assertThat(notYet.getEvictedCarts()).isZero();
+        assertThat(idle.getUserIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(idle.getReclaimedBytes())
+                .isEqualTo(2 * InMemoryCartItemRepository.CART_BYTES + 3 * InMemoryCartItemRepository.ITEM_BYTES);
+        assertThat(repository.findById(item.getId())).isEmpty();
+        assertThat(repository.findByUserId(1L)).isEmpty();
+        assertThat(repository.getUsedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 번에 정리하는 장바구니 수는 maxCarts를 넘지 않는다")
+    void evictIdleCarts_조각단위() {
+        // given
+        for (long userId = 1; userId <= 5; userId++) {
+            repository.save(CartItem.create(userId, 10L, 1));
+        }
+
+        // when
+        CartEvictionResult first = repository.evictIdleCarts(System.currentTimeMillis() + 1, 2);
+
+        // then
+        assertThat(first.getEvictedCarts()).isEqualTo(2);
+        assertThat(repository.getCartCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 넘으면 가장 오래 변경되지 않은 장바구니부터 정리한다")
+    void evictOverBudget_LRU() {
+        // given: 사용자 1의 장바구니가 가장 오래됨
+        repository.save(CartItem.create(1L, 10L, 1));
+        repository.save(CartItem.create(2L, 10L, 1));
+        repository.save(CartItem.create(3L, 10L, 1));
+        long budget = repository.getUsedBytes() - 1;
+
+        // when
+        CartEvictionResult result = repository.evictOverBudget(budget, 10);
+
+        // then
+        assertThat(result.getUserIds()).containsExactly(1L);
+        assertThat(repository.getUsedBytes()).isLessThanOrEqualTo(budget);
         assertThat(repository.findByUserId(2L)).hasSize(1);
     }
 
@@ -0,0 +1,113 @@
+package com.hhplus.hhplus_ecommerce.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class WTinyLfuCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 항목을 제거하여 크기를 유지한다")
+    void putIfUnchanged_최대크기유지() {
+        // given
+        WTinyLfuCache<Integer, String> cache = new WTinyLfuCache<>(100);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            load(cache, i);
+        }
+
+        // then
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.stats().getEvictions()).isEqualTo(900);
+    }
+
+    @Test
+    @DisplayName("자주 조회되는 항목은 한 번씩만 조회되는 항목이 대량으로 들어와도 남는다")
+    void evict_스캔저항() {
+        // given
+        WTinyLfuCache<Integer, String> cache = new WTinyLfuCache<>(100);
+        for (int round = 0; round < 5; round++) {
+            for (int key = 0; key < 50; key++) {
+                if (cache.getIfPresent(key) == null) {
+                    load(cache, key);
+                }
+            }
+        }
+
+        // when
+        for (int key = 1_000; key < 11_000; key++) {
+            load(cache, key);
+        }
+
+        // then (LRU였다면 모두 밀려남, window에 있던 항목 정도만 빠질 수 있음)
+        int survived = 0;
+        for (int key = 0; key < 50; key++) {
+            if (cache.getIfPresent(key) != null) {
+                survived++;
+            }
+        }
+        assertThat(survived).isGreaterThanOrEqualTo(45);
+        assertThat(cache.stats().getAdmissionRejections()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("원본 조회 도중 쓰기가 있었으면 조회 결과를 캐시에 넣지 않는다")
+    void putIfUnchanged_쓰기와겹친조회_무시() {
+        // given
+        WTinyLfuCache<Integer, String> cache = new WTinyLfuCache<>(10);
+        long stamp = cache.startLoad(1);
+
+        // when
+        cache.beginWrite(1);
+        cache.endWrite(1, null);
+        cache.putIfUnchanged(1, "old", stamp);
+
+        // then
+        assertThat(cache.getIfPresent(1)).isNull();
+        assertThat(cache.stats().getStaleLoads()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기가 진행 중일 때 시작한 원본 조회는 캐시에 넣지 않는다")
+    void startLoad_진행중인쓰기_무시() {
+        // given
+        WTinyLfuCache<Integer, String> cache = new WTinyLfuCache<>(10);
+        cache.beginWrite(1);
+
+        // when
+        long stamp = cache.startLoad(1);
+        cache.putIfUnchanged(1, "value", stamp);
+        cache.endWrite(1, null);
+
+        // then
+        assertThat(cache.getIfPresent(1)).isNull();
+    }
+
+    @Test
+    @DisplayName("쓰기 완료 시 캐시된 값에 변경을 적용하거나 항목을 제거한다")
+    void endWrite_변경적용_제거() {
+        // given
+        WTinyLfuCache<Integer, String> cache = new WTinyLfuCache<>(10);
+        load(cache, 1);
+        load(cache, 2);
+
+        // when
+        cache.beginWrite(1);
+        cache.endWrite(1, value -> value + "-updated");
+        cache.beginWrite(2);
+        cache.endWrite(2, null);
+
+        // then
+        assertThat(cache.getIfPresent(1)).isEqualTo("value-1-updated");
+        assertThat(cache.getIfPresent(2)).isNull();
+        assertThat(cache.stats().getInvalidations()).isEqualTo(1);
+        assertThat(cache.stats().getHitRate()).isEqualTo(0.5);
+    }
+
+    private static void load(WTinyLfuCache<Integer, String> cache, int key) {
+        long stamp = cache.startLoad(key);
+        cache.putIfUnchanged(key, "value-" + key, stamp);
+    }
+}
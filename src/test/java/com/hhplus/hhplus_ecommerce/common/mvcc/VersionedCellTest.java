@@ -0,0 +1,79 @@
+package com.hhplus.hhplus_ecommerce.common.mvcc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VersionedCellTest {
+
+    @Test
+    @DisplayName("스냅샷은 연 이후의 변경을 보지 않는다")
+    void asOf_스냅샷이후변경_무시() {
+        // given
+        VersionClock clock = new VersionClock();
+        VersionedCell<String> cell = new VersionedCell<>(clock, "v1");
+        cell.publish();
+        VersionClock.Snapshot snapshot = clock.openSnapshot();
+
+        // when
+        cell.update(value -> "v2");
+        cell.update(value -> "v3");
+
+        // then
+        assertThat(cell.asOf(snapshot.getVersion())).isEqualTo("v1");
+        assertThat(cell.latest()).isEqualTo("v3");
+        snapshot.close();
+        assertThat(clock.getOpenSnapshotCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("스냅샷을 연 뒤에 만든 값은 스냅샷에서 보이지 않는다")
+    void asOf_스냅샷이후생성_없음() {
+        // given
+        VersionClock clock = new VersionClock();
+        VersionClock.Snapshot snapshot = clock.openSnapshot();
+
+        // when
+        VersionedCell<String> cell = new VersionedCell<>(clock, "created");
+        cell.publish();
+
+        // then
+        assertThat(cell.asOf(snapshot.getVersion())).isNull();
+        assertThat(cell.asOf(clock.currentVersion())).isEqualTo("created");
+    }
+
+    @Test
+    @DisplayName("변경 함수가 null을 반환하면 새 버전을 기록하지 않는다")
+    void update_변경취소() {
+        // given
+        VersionClock clock = new VersionClock();
+        VersionedCell<Integer> cell = new VersionedCell<>(clock, 5);
+        cell.publish();
+        long before = clock.currentVersion();
+
+        // when
+        Integer previous = cell.update(value -> value < 10 ? null : value - 10);
+
+        // then
+        assertThat(previous).isNull();
+        assertThat(cell.latest()).isEqualTo(5);
+        assertThat(clock.currentVersion()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("변경에 성공하면 교체된 이전 값을 반환한다")
+    void update_이전값반환() {
+        // given
+        VersionClock clock = new VersionClock();
+        VersionedCell<Integer> cell = new VersionedCell<>(clock, 5);
+        cell.publish();
+
+        // when
+        Integer previous = cell.update(value -> value + 1);
+
+        // then
+        assertThat(previous).isEqualTo(5);
+        assertThat(cell.latest()).isEqualTo(6);
+    }
+}
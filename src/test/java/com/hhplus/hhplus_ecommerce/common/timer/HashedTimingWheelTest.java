@@ -0,0 +1,78 @@
+package com.hhplus.hhplus_ecommerce.common.timer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("만료 시각이 지난 항목만 꺼낸다")
+    void advance_만료된항목만반환() {
+        // given
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofMillis(10), 8, START);
+        wheel.schedule("a", START + 25);
+        wheel.schedule("b", START + 55);
+
+        // when
+        List<String> first = wheel.advance(START + 30);
+        List<String> second = wheel.advance(START + 60);
+
+        // then
+        assertThat(first).containsExactly("a");
+        assertThat(second).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 항목은 남은 바퀴 수만큼 지난 뒤 만료된다")
+    void advance_여러바퀴() {
+        // given: 슬롯 4개 x 10ms = 한 바퀴 40ms
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofMillis(10), 4, START);
+        wheel.schedule("far", START + 105);
+
+        // when & then
+        assertThat(wheel.advance(START + 100)).isEmpty();
+        assertThat(wheel.advance(START + 110)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("이미 지난 만료 시각으로 등록한 항목은 다음 tick에 만료된다")
+    void advance_지난시각등록() {
+        // given
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofMillis(10), 8, START);
+        wheel.advance(START + 100);
+        wheel.schedule("late", START + 10);
+
+        // when
+        List<String> expired = wheel.advance(START + 110);
+
+        // then
+        assertThat(expired).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 만료되지 않고, 만료된 항목은 취소할 수 없다")
+    void cancel_만료와경쟁() {
+        // given
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofMillis(10), 8, START);
+        HashedTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", START + 15);
+        HashedTimingWheel.Timeout<String> expired = wheel.schedule("expired", START + 15);
+
+        // when
+        boolean cancelResult = cancelled.cancel();
+        List<String> result = wheel.advance(START + 20);
+
+        // then
+        assertThat(cancelResult).isTrue();
+        assertThat(result).containsExactly("expired");
+        assertThat(expired.isExpired()).isTrue();
+        assertThat(expired.cancel()).isFalse();
+    }
+}
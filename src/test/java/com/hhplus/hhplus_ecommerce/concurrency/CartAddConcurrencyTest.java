@@ -0,0 +1,127 @@
+package com.hhplus.hhplus_ecommerce.concurrency;
+
+import com.hhplus.hhplus_ecommerce.cart.application.CartReadModel;
+import com.hhplus.hhplus_ecommerce.cart.application.CartService;
+import com.hhplus.hhplus_ecommerce.cart.domain.CartItem;
+import com.hhplus.hhplus_ecommerce.cart.domain.CartView;
+import com.hhplus.hhplus_ecommerce.cart.infrastructure.InMemoryCartItemRepository;
+import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 장바구니 추가 동시성 테스트
+ * - 같은 사용자가 여러 탭/중복 클릭으로 같은 상품을 동시에 담는 시나리오
+ * - 수량 증가가 유실되거나 같은 상품의 항목이 중복 생성되지 않는지 검증
+ * - 장바구니 보기가 만들어진 상태에서 동시에 변경해도 보기의 총 금액이 실제 장바구니와 일치하는지 검증
+ */
+class CartAddConcurrencyTest {
+
+    private CartService cartService;
+    private InMemoryCartItemRepository cartItemRepository;
+    private InMemoryProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        cartItemRepository = new InMemoryCartItemRepository();
+        productRepository = new InMemoryProductRepository();
+        CartReadModel cartReadModel = new CartReadModel(cartItemRepository, productRepository);
+        cartService = new CartService(cartItemRepository, productRepository, cartReadModel);
+    }
+
+    @Test
+    @DisplayName("한 사용자가 같은 상품을 1000번 동시에 담아도 항목은 하나이고 수량은 1000이다")
+    void concurrentAddSameProduct_shouldNotLoseUpdates() throws InterruptedException {
+        // Given
+        Product product = productRepository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+        Long userId = 1L;
+
+        int threadCount = 32;
+        int addCount = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(addCount);
+
+        // When
+        for (int i = 0; i < addCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    cartService.addCartItem(userId, product.getId(), 1);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        List<CartItem> items = cartService.getCartItems(userId);
+        assertEquals(1, items.size(), "같은 상품의 항목은 하나만 있어야 합니다.");
+        assertEquals(addCount, items.get(0).getQuantity());
+    }
+
+    @Test
+    @DisplayName("장바구니 보기가 있는 상태에서 동시에 담고 빼도 보기의 총 금액이 다시 합친 값과 같다")
+    void concurrentChangesWithView_shouldKeepTotalExact() throws InterruptedException {
+        // Given: 상품 5개, 장바구니 보기 생성
+        Long userId = 1L;
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            products.add(productRepository.save(Product.create("상품" + i, "설명", 1000 * (i + 1), 100, "전자제품")));
+        }
+        cartService.getCartView(userId);
+
+        int threadCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // When: 임의의 상품을 담거나(70%) 담긴 항목의 수량을 줄임(30%)
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int j = 0; j < 2_000; j++) {
+                        Product product = products.get(random.nextInt(products.size()));
+                        if (random.nextInt(10) < 7) {
+                            cartService.addCartItem(userId, product.getId(), 1 + random.nextInt(3));
+                        } else {
+                            cartItemRepository.findByUserIdAndProductId(userId, product.getId())
+                                    .ifPresent(item -> decreaseIgnoringMissing(userId, item.getId(), 1 + random.nextInt(3)));
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then: 증분으로 고친 보기와 처음부터 다시 합친 보기가 같음
+        CartView incremental = cartService.getCartView(userId);
+        CartView rebuilt = new CartReadModel(cartItemRepository, productRepository).getCartView(userId);
+        assertEquals(rebuilt.getTotalAmount(), incremental.getTotalAmount());
+        assertEquals(rebuilt.getLines().size(), incremental.getLines().size());
+    }
+
+    // 다른 스레드가 먼저 항목을 삭제했으면 무시
+    private void decreaseIgnoringMissing(Long userId, Long cartItemId, int quantity) {
+        try {
+            cartService.decreaseCartItemQuantity(userId, cartItemId, quantity);
+        } catch (BusinessException e) {
+            // 이미 삭제된 항목
+        }
+    }
+}
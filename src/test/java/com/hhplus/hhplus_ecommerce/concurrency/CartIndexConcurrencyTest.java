@@ -0,0 +1,145 @@
+package com.hhplus.hhplus_ecommerce.concurrency;
+
+import com.hhplus.hhplus_ecommerce.cart.domain.CartItem;
+import com.hhplus.hhplus_ecommerce.cart.infrastructure.InMemoryCartItemRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 장바구니 사용자별 색인 동시성 테스트
+ * - 여러 스레드가 같은 사용자들의 장바구니에 항목 저장/삭제/전체 삭제를 섞어 호출해도 색인과 저장소가 일치함
+ * - 같은 사용자/상품 조합을 동시에 추가하면 마지막 항목만 남음
+ * - 변경 중에 메모리 예산 초과 정리가 함께 돌아도 메모리 사용량 추정치가 남은 장바구니와 일치함
+ */
+class CartIndexConcurrencyTest {
+
+    private static final int USER_COUNT = 20;
+    private static final int PRODUCT_COUNT = 10;
+
+    @Test
+    @DisplayName("16개 스레드가 동시에 장바구니를 바꿔도 사용자별 색인과 저장된 항목이 일치한다")
+    void concurrentCartChanges_shouldKeepIndexConsistent() throws InterruptedException {
+        // Given
+        InMemoryCartItemRepository repository = new InMemoryCartItemRepository();
+        Queue<Long> savedIds = new ConcurrentLinkedQueue<>();
+        int threadCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // When: 임의의 사용자에 대해 저장(80%), 항목 삭제(15%), 전체 삭제(5%)를 반복
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int j = 0; j < 5_000; j++) {
+                        long userId = random.nextInt(USER_COUNT);
+                        long productId = random.nextInt(PRODUCT_COUNT);
+                        int action = random.nextInt(100);
+                        if (action < 80) {
+                            savedIds.add(repository.save(CartItem.create(userId, productId, 1)).getId());
+                        } else if (action < 95) {
+                            repository.findByUserIdAndProductId(userId, productId)
+                                    .ifPresent(item -> repository.delete(item.getId()));
+                        } else {
+                            repository.deleteAllByUserId(userId);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then: 색인에 있는 항목은 저장소에도 있고, 사용자/상품 조합마다 최대 한 항목
+        int indexedCount = 0;
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            List<CartItem> items = repository.findByUserId(userId);
+            assertTrue(items.size() <= PRODUCT_COUNT, "사용자당 상품별 항목은 하나뿐이어야 합니다.");
+            for (CartItem item : items) {
+                assertEquals(userId, item.getUserId().longValue());
+                assertTrue(repository.findById(item.getId()).isPresent(), "색인에만 남은 항목이 있으면 안 됩니다.");
+                indexedCount++;
+            }
+        }
+
+        // 저장소에 남은 항목은 모두 색인에서 찾을 수 있어야 함 (대체된 중복 항목이 저장소에 남으면 안 됨)
+        int storedCount = 0;
+        for (Long id : savedIds) {
+            Optional<CartItem> stored = repository.findById(id);
+            if (stored.isPresent()) {
+                CartItem item = stored.get();
+                Optional<CartItem> indexed = repository.findByUserIdAndProductId(item.getUserId(), item.getProductId());
+                assertTrue(indexed.isPresent() && indexed.get().getId().equals(id), "저장소에만 남은 항목이 있으면 안 됩니다.");
+                storedCount++;
+            }
+        }
+        assertEquals(indexedCount, storedCount);
+    }
+
+    @Test
+    @DisplayName("장바구니 변경과 메모리 예산 초과 정리가 동시에 일어나도 사용량 추정치가 남은 장바구니와 일치한다")
+    void concurrentChangesWithEviction_shouldKeepUsageConsistent() throws InterruptedException {
+        // Given: 장바구니 10개 분량의 예산
+        InMemoryCartItemRepository repository = new InMemoryCartItemRepository();
+        long budget = 10 * (InMemoryCartItemRepository.CART_BYTES + InMemoryCartItemRepository.ITEM_BYTES);
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount + 1);
+        CountDownLatch writers = new CountDownLatch(threadCount);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // When: 변경 스레드들이 담고 빼는 동안 정리 스레드가 조각 단위로 예산 초과분 정리
+        executorService.submit(() -> {
+            while (running.get()) {
+                repository.evictOverBudget(budget, 5);
+            }
+        });
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int j = 0; j < 5_000; j++) {
+                        long userId = random.nextInt(USER_COUNT * 5);
+                        long productId = random.nextInt(PRODUCT_COUNT);
+                        repository.upsertQuantity(userId, productId, random.nextInt(10) < 8 ? 1 : -1);
+                    }
+                } finally {
+                    writers.countDown();
+                }
+            });
+        }
+        writers.await();
+        running.set(false);
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+        repository.evictOverBudget(budget, Integer.MAX_VALUE);
+
+        // Then
+        long expectedBytes = 0;
+        int carts = 0;
+        for (long userId = 0; userId < USER_COUNT * 5; userId++) {
+            List<CartItem> items = repository.findByUserId(userId);
+            if (!items.isEmpty()) {
+                carts++;
+                expectedBytes += InMemoryCartItemRepository.CART_BYTES + items.size() * InMemoryCartItemRepository.ITEM_BYTES;
+            }
+        }
+        assertEquals(carts, repository.getCartCount());
+        assertEquals(expectedBytes, repository.getUsedBytes());
+        assertTrue(repository.getUsedBytes() <= budget, "정리 후 사용량은 예산 이하여야 합니다.");
+    }
+}
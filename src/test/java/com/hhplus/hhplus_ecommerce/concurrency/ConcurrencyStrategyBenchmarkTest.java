@@ -0,0 +1,249 @@
+package com.hhplus.hhplus_ecommerce.concurrency;
+
+import com.hhplus.hhplus_ecommerce.common.concurrency.ConcurrencyStrategy;
+import com.hhplus.hhplus_ecommerce.common.concurrency.LockConcurrencyStrategy;
+import com.hhplus.hhplus_ecommerce.common.concurrency.MailboxConcurrencyStrategy;
+import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
+import com.hhplus.hhplus_ecommerce.common.lock.LockManager;
+import com.hhplus.hhplus_ecommerce.coupon.application.CouponService;
+import com.hhplus.hhplus_ecommerce.coupon.domain.Coupon;
+import com.hhplus.hhplus_ecommerce.coupon.infrastructure.InMemoryCouponRepository;
+import com.hhplus.hhplus_ecommerce.coupon.infrastructure.InMemoryUserCouponRepository;
+import com.hhplus.hhplus_ecommerce.product.application.PopularProductSnapshotRefresher;
+import com.hhplus.hhplus_ecommerce.product.application.ProductService;
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 동시성 제어 전략 비교 테스트 (Lock vs Mailbox)
+ * - 1000명 이상이 하나의 인기 상품 재고/쿠폰에 동시에 몰리는 상황에서 두 전략 모두 정확한 결과를 내는지 검증
+ * - ProductService.decreaseStock, CouponService.issueCoupon이 선택된 전략을 거쳐 실행되는지 호출 횟수로 확인
+ * - 인기 상품 재고 차감 처리 시간 비교 (@Tag("benchmark"), ./gradlew benchmark로 실행)
+ */
+class ConcurrencyStrategyBenchmarkTest {
+
+    private static final int CALLER_COUNT = 2000;
+    private static final int DECREASES_PER_CALLER = 50;
+    private static final int BENCHMARK_ROUNDS = 3;
+
+    private final LockManager lockManager = new LockManager();
+    private final InMemoryCouponRepository couponRepository = new InMemoryCouponRepository();
+    private final InMemoryProductRepository productRepository = new InMemoryProductRepository();
+    private final AtomicInteger strategyCalls = new AtomicInteger();
+    private MailboxConcurrencyStrategy mailboxStrategy;
+
+    @AfterEach
+    void tearDown() {
+        if (mailboxStrategy != null) {
+            mailboxStrategy.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Mailbox 전략: 2000명이 재고 1000개인 상품을 동시에 차감하면 정확히 1000명만 성공한다")
+    void mailbox_hotProduct_shouldDecreaseExactly() throws InterruptedException {
+        mailboxStrategy = new MailboxConcurrencyStrategy(lockManager, 4, 64);
+        Product product = productRepository.save(Product.create("한정판", "설명", 10000, 1000, "전자제품"));
+
+        int successCount = runHotProduct(counted(mailboxStrategy), product.getId());
+
+        assertEquals(1000, successCount);
+        assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getStock());
+        assertEquals(CALLER_COUNT, strategyCalls.get(), "모든 재고 차감이 전략을 거쳐야 함");
+        assertEquals(0, mailboxStrategy.getMailboxCount(), "처리가 끝난 우편함은 제거되어야 함");
+    }
+
+    @Test
+    @DisplayName("Lock 전략: 2000명이 재고 1000개인 상품을 동시에 차감하면 정확히 1000명만 성공한다")
+    void lock_hotProduct_shouldDecreaseExactly() throws InterruptedException {
+        Product product = productRepository.save(Product.create("한정판", "설명", 10000, 1000, "전자제품"));
+
+        int successCount = runHotProduct(counted(new LockConcurrencyStrategy(lockManager)), product.getId());
+
+        assertEquals(1000, successCount);
+        assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getStock());
+        assertEquals(CALLER_COUNT, strategyCalls.get(), "모든 재고 차감이 전략을 거쳐야 함");
+        assertEquals(0, lockManager.getLockCount(), "처리가 끝난 Lock은 회수되어야 함");
+    }
+
+    @Test
+    @DisplayName("Mailbox 전략: 2000명이 100개 한정 쿠폰을 동시에 발급받으면 정확히 100명만 성공한다")
+    void mailbox_hotCoupon_shouldIssueExactly() throws InterruptedException {
+        mailboxStrategy = new MailboxConcurrencyStrategy(lockManager, 4, 64);
+        Coupon coupon = createCoupon();
+
+        int successCount = runHotCoupon(counted(mailboxStrategy), coupon.getId());
+
+        assertEquals(100, successCount);
+        assertEquals(100, couponRepository.findById(coupon.getId()).orElseThrow().getIssuedQuantity());
+        assertEquals(CALLER_COUNT, strategyCalls.get(), "모든 발급 요청이 전략을 거쳐야 함");
+        assertEquals(0, mailboxStrategy.getMailboxCount(), "처리가 끝난 우편함은 제거되어야 함");
+    }
+
+    @Test
+    @DisplayName("Lock 전략: 2000명이 100개 한정 쿠폰을 동시에 발급받으면 정확히 100명만 성공한다")
+    void lock_hotCoupon_shouldIssueExactly() throws InterruptedException {
+        Coupon coupon = createCoupon();
+
+        int successCount = runHotCoupon(counted(new LockConcurrencyStrategy(lockManager)), coupon.getId());
+
+        assertEquals(100, successCount);
+        assertEquals(100, couponRepository.findById(coupon.getId()).orElseThrow().getIssuedQuantity());
+        assertEquals(CALLER_COUNT, strategyCalls.get(), "모든 발급 요청이 전략을 거쳐야 함");
+        assertEquals(0, lockManager.getLockCount(), "처리가 끝난 Lock은 회수되어야 함");
+    }
+
+    @Test
+    @DisplayName("Mailbox 전략: 같은 키로 재진입하면 교착 없이 바로 실행된다")
+    void mailbox_reentrantCall_shouldRunInline() {
+        mailboxStrategy = new MailboxConcurrencyStrategy(lockManager, 2, 16);
+
+        Integer result = mailboxStrategy.execute("product:1",
+                () -> mailboxStrategy.execute("product:1", () -> 42));
+
+        assertEquals(42, result);
+    }
+
+    @Test
+    @DisplayName("Mailbox 전략: 작업에서 발생한 BusinessException은 호출자에게 그대로 전달된다")
+    void mailbox_businessException_shouldPropagateToCaller() {
+        mailboxStrategy = new MailboxConcurrencyStrategy(lockManager, 2, 16);
+        CouponService couponService = new CouponService(couponRepository, new InMemoryUserCouponRepository(), mailboxStrategy);
+        Coupon coupon = couponService.createCoupon("쿠폰", 10, 10, 30, LocalDateTime.now(), LocalDateTime.now().plusDays(7));
+        couponService.issueCoupon(1L, coupon.getId());
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> couponService.issueCoupon(1L, coupon.getId()));
+        assertEquals(ErrorCode.COUPON_ALREADY_ISSUED, exception.getErrorCode());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("[벤치마크] 2000명이 하나의 인기 상품 재고를 동시에 차감할 때 Lock 전략과 Mailbox 전략의 처리 시간 비교")
+    void hotProduct_benchmark() throws InterruptedException {
+        mailboxStrategy = new MailboxConcurrencyStrategy(lockManager, 4, 64);
+        ConcurrencyStrategy lockStrategy = new LockConcurrencyStrategy(lockManager);
+
+        // 첫 회차는 JIT 예열용으로 출력하지 않음
+        for (int round = 0; round <= BENCHMARK_ROUNDS; round++) {
+            long lockNanos = timeHotProduct(lockStrategy);
+            long mailboxNanos = timeHotProduct(mailboxStrategy);
+            if (round > 0) {
+                System.out.printf("[Strategy #%d] callers=%d, ops=%d / Lock: %dms / Mailbox: %dms%n",
+                        round, CALLER_COUNT, CALLER_COUNT * DECREASES_PER_CALLER,
+                        lockNanos / 1_000_000, mailboxNanos / 1_000_000);
+            }
+        }
+    }
+
+    // CALLER_COUNT명이 같은 상품의 재고를 DECREASES_PER_CALLER번씩 동시에 차감하고 걸린 시간(ns) 반환 (재고는 딱 맞게 준비)
+    private long timeHotProduct(ConcurrencyStrategy strategy) throws InterruptedException {
+        Product product = productRepository.save(Product.create("한정판", "설명", 10000,
+                CALLER_COUNT * DECREASES_PER_CALLER, "전자제품"));
+        ProductService productService = newProductService(strategy);
+
+        long elapsed = runConcurrently(() -> {
+            for (int i = 0; i < DECREASES_PER_CALLER; i++) {
+                productService.decreaseStock(product.getId(), 1);
+            }
+        });
+
+        assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getStock());
+        return elapsed;
+    }
+
+    // CALLER_COUNT명이 같은 상품의 재고를 1개씩 동시에 차감 (성공 건수 반환)
+    private int runHotProduct(ConcurrencyStrategy strategy, Long productId) throws InterruptedException {
+        ProductService productService = newProductService(strategy);
+
+        AtomicInteger successCount = new AtomicInteger();
+        runConcurrently(() -> {
+            try {
+                productService.decreaseStock(productId, 1);
+                successCount.incrementAndGet();
+            } catch (BusinessException ignored) {
+            }
+        });
+        return successCount.get();
+    }
+
+    // 서로 다른 사용자 CALLER_COUNT명이 같은 쿠폰을 동시에 발급 요청 (성공 건수 반환)
+    private int runHotCoupon(ConcurrencyStrategy strategy, Long couponId) throws InterruptedException {
+        CouponService couponService = new CouponService(couponRepository, new InMemoryUserCouponRepository(), strategy);
+
+        AtomicInteger userIds = new AtomicInteger();
+        AtomicInteger successCount = new AtomicInteger();
+        runConcurrently(() -> {
+            try {
+                couponService.issueCoupon((long) userIds.incrementAndGet(), couponId);
+                successCount.incrementAndGet();
+            } catch (BusinessException ignored) {
+            }
+        });
+        return successCount.get();
+    }
+
+    private ProductService newProductService(ConcurrencyStrategy strategy) {
+        return new ProductService(productRepository,
+                new PopularProductSnapshotRefresher(productRepository), event -> { }, strategy);
+    }
+
+    private Coupon createCoupon() {
+        return couponRepository.save(Coupon.create("선착순 쿠폰", 10, 100, 30,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(7)));
+    }
+
+    // 전략 호출 횟수를 기록하도록 감쌈
+    private ConcurrencyStrategy counted(ConcurrencyStrategy strategy) {
+        return new ConcurrencyStrategy() {
+            @Override
+            public <T> T execute(String key, Supplier<T> action) {
+                strategyCalls.incrementAndGet();
+                return strategy.execute(key, action);
+            }
+        };
+    }
+
+    // CALLER_COUNT개의 호출을 동시에 출발시키고 모두 끝날 때까지 걸린 시간(ns) 반환
+    private long runConcurrently(Runnable call) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(CALLER_COUNT);
+        CountDownLatch ready = new CountDownLatch(CALLER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CALLER_COUNT);
+
+        for (int i = 0; i < CALLER_COUNT; i++) {
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    call.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - startedAt;
+        executorService.shutdown();
+        return elapsed;
+    }
+}
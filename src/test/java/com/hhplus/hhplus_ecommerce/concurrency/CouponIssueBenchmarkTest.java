@@ -0,0 +1,154 @@
+package com.hhplus.hhplus_ecommerce.concurrency;
+
+import com.hhplus.hhplus_ecommerce.common.concurrency.LockConcurrencyStrategy;
+import com.hhplus.hhplus_ecommerce.common.concurrency.LockFreeConcurrencyStrategy;
+import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
+import com.hhplus.hhplus_ecommerce.common.lock.LockManager;
+import com.hhplus.hhplus_ecommerce.coupon.application.CouponService;
+import com.hhplus.hhplus_ecommerce.coupon.domain.Coupon;
+import com.hhplus.hhplus_ecommerce.coupon.domain.UserCoupon;
+import com.hhplus.hhplus_ecommerce.coupon.infrastructure.InMemoryCouponRepository;
+import com.hhplus.hhplus_ecommerce.coupon.infrastructure.InMemoryUserCouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 선착순 쿠폰 발급 테스트 (Lock 없는 슬롯 선점 vs 쿠폰 Lock 직렬화)
+ * - 발급 도중 저장이 실패해 슬롯이 반환되어도 totalQuantity를 넘지 않고 정확히 채워지는지 검증
+ * - 두 방식의 처리 시간 비교 (@Tag("benchmark"), ./gradlew benchmark로 실행)
+ */
+class CouponIssueBenchmarkTest {
+
+    private static final int USER_COUNT = 20_000;
+    private static final int TOTAL_QUANTITY = 5_000;
+    private static final int THREAD_COUNT = 32;
+    private static final int BENCHMARK_ROUNDS = 3;
+
+    @Test
+    @DisplayName("저장 실패로 슬롯이 반환되어도 정확히 totalQuantity만큼 발급된다")
+    void issueCoupon_저장실패_슬롯반환() throws InterruptedException {
+        // given: 짝수 사용자의 발급 저장은 실패
+        InMemoryCouponRepository couponRepository = new InMemoryCouponRepository();
+        InMemoryUserCouponRepository userCouponRepository = new InMemoryUserCouponRepository() {
+            @Override
+            public UserCoupon save(UserCoupon userCoupon) {
+                if (userCoupon.getId() == null && userCoupon.getUserId() % 2 == 0) {
+                    throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+                }
+                return super.save(userCoupon);
+            }
+        };
+        CouponService couponService = new CouponService(couponRepository, userCouponRepository,
+                new LockFreeConcurrencyStrategy());
+        Coupon coupon = createCoupon(couponService);
+
+        // when
+        AtomicInteger successCount = new AtomicInteger();
+        runConcurrently(couponService, coupon.getId(), successCount);
+
+        // then: 홀수 사용자(10,000명) 중 정확히 5,000명만 발급
+        assertEquals(TOTAL_QUANTITY, successCount.get());
+        assertEquals(TOTAL_QUANTITY, couponRepository.findById(coupon.getId()).orElseThrow().getIssuedQuantity());
+        for (long userId = 2; userId <= USER_COUNT; userId += 2) {
+            assertTrue(userCouponRepository.findByUserIdAndCouponId(userId, coupon.getId()).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Lock 없는 발급과 쿠폰 Lock 직렬화 발급의 결과가 같다")
+    void issueCoupon_직렬화와_비교() throws InterruptedException {
+        // 쿠폰 Lock 직렬화
+        InMemoryCouponRepository lockedRepository = new InMemoryCouponRepository();
+        CouponService lockedService = new CouponService(lockedRepository, new InMemoryUserCouponRepository(),
+                new LockConcurrencyStrategy(new LockManager()));
+        Coupon lockedCoupon = createCoupon(lockedService);
+        AtomicInteger lockedSuccess = new AtomicInteger();
+        runConcurrently(lockedService, lockedCoupon.getId(), lockedSuccess);
+
+        // Lock 없는 슬롯 선점
+        InMemoryCouponRepository slotRepository = new InMemoryCouponRepository();
+        CouponService slotService = new CouponService(slotRepository, new InMemoryUserCouponRepository(),
+                new LockFreeConcurrencyStrategy());
+        Coupon slotCoupon = createCoupon(slotService);
+        AtomicInteger slotSuccess = new AtomicInteger();
+        runConcurrently(slotService, slotCoupon.getId(), slotSuccess);
+
+        assertEquals(TOTAL_QUANTITY, lockedSuccess.get());
+        assertEquals(TOTAL_QUANTITY, slotSuccess.get());
+        assertEquals(TOTAL_QUANTITY, lockedRepository.findById(lockedCoupon.getId()).orElseThrow().getIssuedQuantity());
+        assertEquals(TOTAL_QUANTITY, slotRepository.findById(slotCoupon.getId()).orElseThrow().getIssuedQuantity());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("[벤치마크] 20,000명이 5,000개 한정 쿠폰을 동시에 요청할 때 쿠폰 Lock 직렬화와 Lock 없는 슬롯 선점의 처리 시간 비교")
+    void issueCoupon_benchmark() throws InterruptedException {
+        // 첫 회차는 JIT 예열용으로 출력하지 않음
+        for (int round = 0; round <= BENCHMARK_ROUNDS; round++) {
+            CouponService lockedService = new CouponService(new InMemoryCouponRepository(), new InMemoryUserCouponRepository(),
+                    new LockConcurrencyStrategy(new LockManager()));
+            Coupon lockedCoupon = createCoupon(lockedService);
+            AtomicInteger lockedSuccess = new AtomicInteger();
+            long lockedNanos = runConcurrently(lockedService, lockedCoupon.getId(), lockedSuccess);
+
+            CouponService slotService = new CouponService(new InMemoryCouponRepository(), new InMemoryUserCouponRepository(),
+                    new LockFreeConcurrencyStrategy());
+            Coupon slotCoupon = createCoupon(slotService);
+            AtomicInteger slotSuccess = new AtomicInteger();
+            long slotNanos = runConcurrently(slotService, slotCoupon.getId(), slotSuccess);
+
+            assertEquals(TOTAL_QUANTITY, lockedSuccess.get());
+            assertEquals(TOTAL_QUANTITY, slotSuccess.get());
+            if (round > 0) {
+                System.out.printf("[CouponIssue #%d] users=%d, quantity=%d, threads=%d / 쿠폰 Lock 직렬화: %dms / Lock 없는 슬롯 선점: %dms%n",
+                        round, USER_COUNT, TOTAL_QUANTITY, THREAD_COUNT, lockedNanos / 1_000_000, slotNanos / 1_000_000);
+            }
+        }
+    }
+
+    private Coupon createCoupon(CouponService couponService) {
+        return couponService.createCoupon("선착순 쿠폰", 10, TOTAL_QUANTITY, 30,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(7));
+    }
+
+    // USER_COUNT명이 동시에 발급을 요청하고 모두 끝날 때까지 걸린 시간(ns) 반환
+    private long runConcurrently(CouponService couponService, Long couponId, AtomicInteger successCount)
+            throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(USER_COUNT);
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    couponService.issueCoupon(userId, couponId);
+                    successCount.incrementAndGet();
+                } catch (BusinessException ignored) {
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - startedAt;
+        executorService.shutdown();
+        return elapsed;
+    }
+}
@@ -1,6 +1,8 @@
 package com.hhplus.hhplus_ecommerce.concurrency;
 
+import com.hhplus.hhplus_ecommerce.common.concurrency.LockConcurrencyStrategy;
 import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.lock.LockMetricsSnapshot;
 import com.hhplus.hhplus_ecommerce.coupon.application.CouponService;
 import com.hhplus.hhplus_ecommerce.coupon.domain.Coupon;
 import com.hhplus.hhplus_ecommerce.coupon.infrastructure.InMemoryCouponRepository;
@@ -34,7 +36,7 @@ class CouponIssueConcurrencyTest {
         couponRepository = new InMemoryCouponRepository();
         userCouponRepository = new InMemoryUserCouponRepository();
         lockManager = new com.hhplus.hhplus_ecommerce.common.lock.LockManager();
-        couponService = new CouponService(couponRepository, userCouponRepository, lockManager);
+        couponService = new CouponService(couponRepository, userCouponRepository, new LockConcurrencyStrategy(lockManager));
     }
 
     @Test
@@ -173,4 +175,39 @@ class CouponIssueConcurrencyTest {
         Coupon updatedCoupon = couponRepository.findById(coupon.getId()).orElseThrow();
         assertEquals(1, updatedCoupon.getIssuedQuantity(), "발급된 수량이 1개여야 함");
     }
+
+    @Test
+    @DisplayName("쿠폰 발급은 쿠폰 Lock을 거치므로 Lock 경합 지표에 쿠폰 키의 획득과 경합이 기록된다")
+    void concurrentCouponIssue_shouldRecordLockMetrics() throws InterruptedException {
+        // Given
+        Coupon coupon = couponService.createCoupon("지표 확인 쿠폰", 10, 100, 30,
+                LocalDateTime.now(), LocalDateTime.now().plusDays(7));
+        int threadCount = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(50);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    couponService.issueCoupon(userId, coupon.getId());
+                } catch (BusinessException ignored) {
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then: 모든 발급 요청이 쿠폰 Lock을 한 번씩 획득
+        LockMetricsSnapshot.PrefixMetrics couponMetrics = lockManager.getMetrics(5).getPrefixes().stream()
+                .filter(prefix -> prefix.getPrefix().equals("coupon:"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(threadCount, couponMetrics.getAcquisitions());
+        assertEquals(threadCount, couponMetrics.getHoldTime().getCount());
+        assertEquals(0, couponMetrics.getCurrentWaiting());
+    }
 }
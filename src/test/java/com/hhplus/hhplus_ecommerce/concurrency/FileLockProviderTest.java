@@ -0,0 +1,269 @@
+package com.hhplus.hhplus_ecommerce.concurrency;
+
+import com.hhplus.hhplus_ecommerce.common.concurrency.LeaseConcurrencyStrategy;
+import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
+import com.hhplus.hhplus_ecommerce.common.lock.FileLockProvider;
+import com.hhplus.hhplus_ecommerce.common.lock.Lease;
+import com.hhplus.hhplus_ecommerce.coupon.application.CouponService;
+import com.hhplus.hhplus_ecommerce.coupon.domain.Coupon;
+import com.hhplus.hhplus_ecommerce.coupon.infrastructure.InMemoryCouponRepository;
+import com.hhplus.hhplus_ecommerce.coupon.infrastructure.InMemoryUserCouponRepository;
+import com.hhplus.hhplus_ecommerce.product.application.PopularProductSnapshotRefresher;
+import com.hhplus.hhplus_ecommerce.product.application.ProductService;
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 공유 파일 기반 Lease Lock 테스트
+ * - 같은 JVM의 여러 노드(Provider 인스턴스), 실제 별도 JVM 프로세스 간 상호 배제
+ * - TTL 만료 후 인계, 연장 실패, 펜싱 토큰으로 이전 소유자의 저장 차단
+ */
+class FileLockProviderTest {
+
+    private static final Duration TTL = Duration.ofSeconds(10);
+    private static final Duration MAX_WAIT = Duration.ofSeconds(30);
+
+    private Path stateFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stateFile = Files.createTempFile("lease-lock", ".state");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(stateFile);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보유한 Lease는 획득할 수 없고, 반납 후 더 큰 펜싱 토큰으로 획득된다")
+    void acquire_shouldBeExclusiveAndIssueIncreasingTokens() {
+        FileLockProvider nodeA = new FileLockProvider(stateFile);
+        FileLockProvider nodeB = new FileLockProvider(stateFile);
+
+        Lease leaseA = nodeA.acquire("product:1", TTL, Duration.ZERO);
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> nodeB.acquire("product:1", TTL, Duration.ofMillis(50)));
+        assertEquals(ErrorCode.LOCK_ACQUISITION_TIMEOUT, exception.getErrorCode());
+
+        assertTrue(nodeA.release(leaseA));
+        Lease leaseB = nodeB.acquire("product:1", TTL, Duration.ZERO);
+        assertTrue(leaseB.getFencingToken() > leaseA.getFencingToken());
+    }
+
+    @Test
+    @DisplayName("상태 파일이 줄어들 때 남은 뒷부분만 잘라내고, 마지막 펜싱 토큰은 유지된다")
+    void stateFile_shouldShrinkAndKeepLastToken() throws IOException {
+        FileLockProvider node = new FileLockProvider(stateFile);
+        List<Lease> leases = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            leases.add(node.acquire("product:" + i, TTL, Duration.ZERO));
+        }
+        long lastToken = leases.get(leases.size() - 1).getFencingToken();
+
+        for (Lease lease : leases) {
+            assertTrue(node.release(lease));
+        }
+
+        // 보유 중인 Lease가 없으면 마지막 토큰 한 줄만 남음
+        assertEquals(lastToken + "\n", Files.readString(stateFile));
+        Lease next = new FileLockProvider(stateFile).acquire("product:0", TTL, Duration.ZERO);
+        assertEquals(lastToken + 1, next.getFencingToken());
+    }
+
+    @Test
+    @DisplayName("만료된 Lease는 다른 노드가 이어받고, 이전 소유자는 연장/반납/저장이 모두 거부된다")
+    void expiredLease_shouldBeTakenOverAndStaleOwnerFenced() throws InterruptedException {
+        FileLockProvider nodeA = new FileLockProvider(stateFile);
+        FileLockProvider nodeB = new FileLockProvider(stateFile);
+        InMemoryProductRepository productRepository = new InMemoryProductRepository();
+        Product product = productRepository.save(Product.create("상품", "설명", 10000, 10, "전자기기"));
+
+        Lease staleLease = nodeA.acquire("product:1", Duration.ofMillis(100), Duration.ZERO);
+        Thread.sleep(150);
+        Lease currentLease = nodeB.acquire("product:1", TTL, Duration.ZERO);
+
+        BusinessException renewException = assertThrows(BusinessException.class,
+                () -> nodeA.renew(staleLease, TTL));
+        assertEquals(ErrorCode.LOCK_LEASE_EXPIRED, renewException.getErrorCode());
+        assertFalse(nodeA.release(staleLease));
+
+        productRepository.writeFenced(product.getId(), currentLease.getFencingToken(),
+                () -> productRepository.tryDecreaseStock(product.getId(), 1));
+        BusinessException saveException = assertThrows(BusinessException.class,
+                () -> productRepository.writeFenced(product.getId(), staleLease.getFencingToken(),
+                        () -> productRepository.tryDecreaseStock(product.getId(), 1)));
+        assertEquals(ErrorCode.STALE_FENCING_TOKEN, saveException.getErrorCode());
+        assertEquals(9, productRepository.findById(product.getId()).orElseThrow().getStock());
+    }
+
+    @Test
+    @DisplayName("Lease를 연장하면 토큰은 유지되고 만료 시각만 늦춰진다")
+    void renew_shouldExtendExpiryAndKeepToken() {
+        FileLockProvider node = new FileLockProvider(stateFile);
+        Lease lease = node.acquire("coupon:1", Duration.ofMillis(200), Duration.ZERO);
+
+        Lease renewed = node.renew(lease, TTL);
+
+        assertEquals(lease.getFencingToken(), renewed.getFencingToken());
+        assertTrue(renewed.getExpiresAt().isAfter(lease.getExpiresAt()));
+        assertTrue(node.release(renewed));
+    }
+
+    @Test
+    @DisplayName("Lease 전략: 두 노드에서 200명이 100개 한정 쿠폰을 동시에 발급받으면 정확히 100명만 성공한다")
+    void leaseStrategy_twoNodes_shouldNotOverIssue() throws InterruptedException {
+        InMemoryCouponRepository couponRepository = new InMemoryCouponRepository();
+        InMemoryUserCouponRepository userCouponRepository = new InMemoryUserCouponRepository();
+        CouponService node1 = new CouponService(couponRepository, userCouponRepository,
+                new LeaseConcurrencyStrategy(new FileLockProvider(stateFile), TTL, MAX_WAIT));
+        CouponService node2 = new CouponService(couponRepository, userCouponRepository,
+                new LeaseConcurrencyStrategy(new FileLockProvider(stateFile), TTL, MAX_WAIT));
+        Coupon coupon = node1.createCoupon("선착순 쿠폰", 10, 100, 30, LocalDateTime.now(), LocalDateTime.now().plusDays(7));
+
+        int threadCount = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            CouponService node = i % 2 == 0 ? node1 : node2;
+            long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    node.issueCoupon(userId, coupon.getId());
+                    successCount.incrementAndGet();
+                } catch (BusinessException ignored) {
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        assertEquals(100, successCount.get());
+        assertEquals(100, couponRepository.findById(coupon.getId()).orElseThrow().getIssuedQuantity());
+    }
+
+    @Test
+    @DisplayName("Lease 전략: 두 노드에서 200명이 두 상품을 함께 예약하면 재고가 적은 상품만큼만 성공하고 일부만 차감되지 않는다")
+    void leaseStrategy_twoNodes_shouldReserveAllOrNothing() throws InterruptedException {
+        InMemoryProductRepository productRepository = new InMemoryProductRepository();
+        ProductService node1 = newProductService(productRepository);
+        ProductService node2 = newProductService(productRepository);
+        Product many = productRepository.save(Product.create("상품 A", "재고 100개", 10000, 100, "전자기기"));
+        Product few = productRepository.save(Product.create("상품 B", "재고 50개", 10000, 50, "전자기기"));
+
+        int threadCount = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            ProductService node = i % 2 == 0 ? node1 : node2;
+            // 상품 순서를 바꿔 요청해도 Lease를 정렬된 순서로 잡으므로 교착 상태 없음
+            Map<Long, Integer> quantities = new LinkedHashMap<>();
+            if (i % 3 == 0) {
+                quantities.put(few.getId(), 1);
+                quantities.put(many.getId(), 1);
+            } else {
+                quantities.put(many.getId(), 1);
+                quantities.put(few.getId(), 1);
+            }
+            executorService.submit(() -> {
+                try {
+                    node.decreaseStocks(quantities);
+                    successCount.incrementAndGet();
+                } catch (BusinessException ignored) {
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        assertEquals(50, successCount.get());
+        assertEquals(50, productRepository.findById(many.getId()).orElseThrow().getStock());
+        assertEquals(0, productRepository.findById(few.getId()).orElseThrow().getStock());
+    }
+
+    private ProductService newProductService(InMemoryProductRepository productRepository) {
+        return new ProductService(productRepository, new PopularProductSnapshotRefresher(productRepository), event -> { },
+                new LeaseConcurrencyStrategy(new FileLockProvider(stateFile), TTL, MAX_WAIT));
+    }
+
+    @Test
+    @DisplayName("별도 JVM 프로세스 3개가 같은 키로 공유 카운터를 증가시켜도 유실 없이 합산된다")
+    void multipleJvms_shouldBeMutuallyExclusive() throws Exception {
+        Path counterFile = Files.createTempFile("lease-counter", ".txt");
+        Files.writeString(counterFile, "0");
+        int processCount = 3;
+        int iterations = 50;
+
+        try {
+            List<Process> processes = new ArrayList<>();
+            for (int i = 0; i < processCount; i++) {
+                processes.add(new ProcessBuilder(
+                        Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                        "-cp", System.getProperty("java.class.path"),
+                        FileLockProviderTest.class.getName(),
+                        stateFile.toString(), counterFile.toString(), String.valueOf(iterations))
+                        .inheritIO()
+                        .start());
+            }
+            for (Process process : processes) {
+                assertTrue(process.waitFor(60, TimeUnit.SECONDS), "자식 프로세스가 제한 시간 안에 끝나야 함");
+                assertEquals(0, process.exitValue());
+            }
+
+            assertEquals(processCount * iterations, Integer.parseInt(Files.readString(counterFile).trim()));
+        } finally {
+            Files.deleteIfExists(counterFile);
+        }
+    }
+
+    // 자식 JVM 진입점: Lease를 잡은 상태에서 카운터 파일을 읽고-증가-쓰기 (Lock이 없으면 증가분이 유실됨)
+    public static void main(String[] args) throws IOException {
+        FileLockProvider provider = new FileLockProvider(Path.of(args[0]));
+        Path counterFile = Path.of(args[1]);
+        int iterations = Integer.parseInt(args[2]);
+
+        for (int i = 0; i < iterations; i++) {
+            Lease lease = provider.acquire("counter", TTL, MAX_WAIT);
+            try {
+                int value = Integer.parseInt(Files.readString(counterFile).trim());
+                Thread.onSpinWait();
+                Files.writeString(counterFile, String.valueOf(value + 1));
+            } finally {
+                provider.release(lease);
+            }
+        }
+    }
+}
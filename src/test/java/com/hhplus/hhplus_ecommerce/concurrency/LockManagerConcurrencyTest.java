@@ -0,0 +1,430 @@
+package com.hhplus.hhplus_ecommerce.concurrency;
+
+import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
+import com.hhplus.hhplus_ecommerce.common.lock.LockManager;
+import com.hhplus.hhplus_ecommerce.common.lock.LockMetricsSnapshot;
+import com.hhplus.hhplus_ecommerce.common.lock.LockPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LockManager 동시성 테스트
+ * - 참조 카운트 기반 Lock 엔트리 회수 검증
+ * - 다중 키 Lock의 교착 상태 방지 및 제한 시간 검증
+ * - 키 접두사별 Lock 정책(최대 대기, 공정성, 즉시 실패) 검증
+ * - 경합 지표(대기/점유 시간, 대기열, 상위 경합 키) 집계 검증
+ * - 기존 무한 증가 맵 방식과 힙 사용량/처리량 비교 (@Tag("benchmark"), ./gradlew benchmark로 실행)
+ */
+class LockManagerConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int KEYS_PER_THREAD = 20_000;
+    private static final int BENCHMARK_ROUNDS = 3;
+
+    private LockManager lockManager;
+
+    @BeforeEach
+    void setUp() {
+        lockManager = new LockManager();
+    }
+
+    @Test
+    @DisplayName("100개 스레드가 같은 키로 동시에 접근해도 임계 영역이 보호된다")
+    void sameKey_shouldBeMutuallyExclusive() throws InterruptedException {
+        // Given
+        int threadCount = 100;
+        int incrementsPerThread = 1_000;
+        int[] counter = {0};
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // When: 동기화 없는 카운터를 Lock 안에서만 증가
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < incrementsPerThread; j++) {
+                        lockManager.executeWithLock("product:1", () -> {
+                            counter[0]++;
+                        });
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertEquals(threadCount * incrementsPerThread, counter[0], "모든 증가가 유실 없이 반영되어야 함");
+        assertEquals(0, lockManager.getLockCount(), "사용이 끝난 Lock은 모두 회수되어야 함");
+    }
+
+    @Test
+    @DisplayName("재진입 Lock을 사용해도 가장 바깥 Lock 해제 시점에 엔트리가 회수된다")
+    void reentrantLock_shouldBeReleasedAfterOutermost() {
+        // When
+        lockManager.executeWithLock("coupon:1", () -> {
+            lockManager.executeWithLock("coupon:1", () -> {
+                assertEquals(1, lockManager.getLockCount(), "같은 키는 엔트리를 공유해야 함");
+            });
+            assertEquals(1, lockManager.getLockCount(), "바깥 Lock이 남아 있으면 엔트리도 유지되어야 함");
+        });
+
+        // Then
+        assertEquals(0, lockManager.getLockCount());
+    }
+
+    @Test
+    @DisplayName("작업 중 예외가 발생해도 Lock 엔트리가 회수된다")
+    void exception_shouldReleaseEntry() {
+        // When
+        assertThrows(IllegalStateException.class, () ->
+                lockManager.executeWithLock("product:1", () -> {
+                    throw new IllegalStateException("실패");
+                }));
+
+        // Then
+        assertEquals(0, lockManager.getLockCount());
+    }
+
+    @Test
+    @DisplayName("여러 키를 서로 다른 순서로 요청해도 교착 상태 없이 모두 처리된다")
+    void executeWithLocks_reversedOrder_shouldNotDeadlock() throws InterruptedException {
+        // Given
+        int threadCount = 50;
+        int iterations = 200;
+        int[] counter = {0};
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // When: 절반은 [1, 2, 3], 절반은 [3, 2, 1] 순서로 요청
+        for (int i = 0; i < threadCount; i++) {
+            List<String> keys = i % 2 == 0
+                    ? List.of("product:1", "product:2", "product:3")
+                    : List.of("product:3", "product:2", "product:1");
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < iterations; j++) {
+                        lockManager.executeWithLocks(keys, () -> {
+                            counter[0]++;
+                        });
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        boolean completed = latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdownNow();
+
+        // Then
+        assertTrue(completed, "교착 상태 없이 모든 작업이 끝나야 함");
+        assertEquals(threadCount * iterations, counter[0]);
+        assertEquals(0, lockManager.getLockCount());
+    }
+
+    @Test
+    @DisplayName("여러 키 중 하나라도 제한 시간 안에 획득하지 못하면 예외가 발생하고 획득한 Lock은 반납된다")
+    void executeWithLocks_timeout_shouldReleaseAcquiredLocks() throws InterruptedException {
+        // Given: 다른 스레드가 product:2 를 점유
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> lockManager.executeWithLock("product:2", () -> {
+            holding.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        holding.await();
+
+        // When
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                lockManager.executeWithLocks(List.of("product:1", "product:2"), Duration.ofMillis(50), () -> "주문"));
+
+        // Then: product:1 은 반납되고 점유 중인 product:2 만 남음
+        assertEquals(ErrorCode.LOCK_ACQUISITION_TIMEOUT, exception.getErrorCode());
+        assertEquals(1, lockManager.getLockCount());
+        assertEquals("주문", lockManager.executeWithLocks(List.of("product:1"), Duration.ofMillis(50), () -> "주문"));
+
+        release.countDown();
+        holder.join();
+        assertEquals(0, lockManager.getLockCount());
+    }
+
+    @Test
+    @DisplayName("즉시 실패 정책이 적용된 키는 다른 스레드가 점유 중이면 대기 없이 예외가 발생한다")
+    void failFastPolicy_shouldRejectImmediately() throws InterruptedException {
+        // Given
+        lockManager.registerPolicy("coupon:", LockPolicy.failFast());
+        CountDownLatch release = holdLockInAnotherThread("coupon:1");
+
+        // When
+        long start = System.nanoTime();
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                lockManager.executeWithLock("coupon:1", () -> "발급"));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertEquals(ErrorCode.LOCK_ACQUISITION_TIMEOUT, exception.getErrorCode());
+        assertTrue(elapsedMillis < 100, "대기 없이 즉시 실패해야 함");
+        assertEquals("발급", lockManager.executeWithLock("coupon:2", () -> "발급"), "점유되지 않은 키는 정상 처리");
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간 정책이 적용된 키는 제한 시간이 지나면 예외가 발생한다")
+    void maxWaitPolicy_shouldTimeout() throws InterruptedException {
+        // Given: product: 는 100ms, 더 긴 접두사 product:hot 은 즉시 실패
+        lockManager.registerPolicy("product:", LockPolicy.waitAtMost(Duration.ofMillis(100)));
+        lockManager.registerPolicy("product:hot", LockPolicy.failFast());
+        CountDownLatch release = holdLockInAnotherThread("product:1");
+
+        // When
+        long start = System.nanoTime();
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                lockManager.executeWithLock("product:1", () -> "차감"));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertEquals(ErrorCode.LOCK_ACQUISITION_TIMEOUT, exception.getErrorCode());
+        assertTrue(elapsedMillis >= 90, "정책의 최대 대기 시간만큼 기다려야 함");
+        assertTrue(lockManager.getPolicy("product:hot-1").isFailFast(), "가장 긴 접두사 정책이 우선 적용");
+        assertEquals(1, lockManager.getLockCount(), "실패한 대기자의 엔트리 참조는 반납되어야 함");
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("공정 Lock 정책을 적용해도 임계 영역이 보호된다")
+    void fairPolicy_shouldBeMutuallyExclusive() throws InterruptedException {
+        // Given
+        lockManager.registerPolicy("coupon:", LockPolicy.waitAtMost(Duration.ofSeconds(10)).withFairness(true));
+        int threadCount = 50;
+        int[] counter = {0};
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < 100; j++) {
+                        lockManager.executeWithLock("coupon:1", () -> {
+                            counter[0]++;
+                        });
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertEquals(threadCount * 100, counter[0]);
+        assertEquals(0, lockManager.getLockCount());
+    }
+
+    @Test
+    @DisplayName("경합이 발생한 키와 접두사별 대기/점유 시간이 지표로 집계된다")
+    void metrics_shouldReportHotKeysAndPrefixStats() throws InterruptedException {
+        // Given
+        lockManager.registerPolicy("coupon:", LockPolicy.failFast());
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // When: product:1 에 경합 집중, product:2 는 단일 스레드
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < 50; j++) {
+                        lockManager.executeWithLock("product:1", this::sleepBriefly);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        lockManager.executeWithLock("product:2", () -> {
+        });
+        CountDownLatch release = holdLockInAnotherThread("coupon:1");
+        assertThrows(BusinessException.class, () -> lockManager.executeWithLock("coupon:1", () -> "발급"));
+        release.countDown();
+
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        LockMetricsSnapshot snapshot = lockManager.getMetrics(5);
+        LockMetricsSnapshot.PrefixMetrics product = snapshot.getPrefixes().stream()
+                .filter(prefix -> prefix.getPrefix().equals("product:"))
+                .findFirst()
+                .orElseThrow();
+        LockMetricsSnapshot.PrefixMetrics coupon = snapshot.getPrefixes().stream()
+                .filter(prefix -> prefix.getPrefix().equals("coupon:"))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(threadCount * 50 + 1, product.getAcquisitions());
+        assertEquals(threadCount * 50 + 1, product.getHoldTime().getCount());
+        assertTrue(product.getContendedAcquisitions() > 0, "경합이 기록되어야 함");
+        assertTrue(product.getMaxWaiting() > 1, "대기열 길이가 기록되어야 함");
+        assertEquals(0, product.getCurrentWaiting());
+        assertEquals(1, coupon.getTimeouts());
+        assertEquals("product:1", snapshot.getHotKeys().get(0).getKey(), "가장 경합이 심한 키가 1위여야 함");
+        assertTrue(snapshot.getHotKeys().stream().noneMatch(key -> key.getKey().equals("product:2")),
+                "경합이 없던 키는 추적하지 않음");
+    }
+
+    @Test
+    @DisplayName("상위 경합 키 개수가 음수면 지표 조회가 INVALID_INPUT_VALUE로 거절된다")
+    void getMetrics_negativeTop_shouldBeRejected() {
+        BusinessException exception = assertThrows(BusinessException.class, () -> lockManager.getMetrics(-1));
+
+        assertEquals(ErrorCode.INVALID_INPUT_VALUE, exception.getErrorCode());
+        assertTrue(lockManager.getMetrics(0).getHotKeys().isEmpty());
+    }
+
+    @Test
+    @DisplayName("수십만 개의 서로 다른 키를 사용해도 Lock 테이블이 증가하지 않는다 (기존 방식과 비교)")
+    void distinctKeys_shouldKeepLockTableFlat() throws InterruptedException {
+        // Given: 기존 방식 (키별 Lock을 영구 보관)
+        Map<String, Lock> legacyLocks = new ConcurrentHashMap<>();
+        Consumer<String> legacy = legacyLockAction(legacyLocks);
+        Consumer<String> current = key -> lockManager.executeWithLock(key, () -> {
+        });
+
+        // When
+        runDistinctKeys(legacy);
+        runDistinctKeys(current);
+
+        int totalKeys = THREAD_COUNT * KEYS_PER_THREAD;
+
+        // Then
+        assertEquals(totalKeys, legacyLocks.size(), "기존 방식은 모든 키의 Lock이 남아 있음");
+        assertEquals(0, lockManager.getLockCount(), "참조 카운트 방식은 유휴 Lock을 모두 회수해야 함");
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("[벤치마크] 서로 다른 키를 사용할 때 기존 무한 증가 맵과 참조 카운트 방식의 처리 시간/힙 증가량 비교")
+    void distinctKeys_benchmark() throws InterruptedException {
+        int totalKeys = THREAD_COUNT * KEYS_PER_THREAD;
+        // 첫 회차는 JIT 예열용으로 출력하지 않음
+        for (int round = 0; round <= BENCHMARK_ROUNDS; round++) {
+            Map<String, Lock> legacyLocks = new ConcurrentHashMap<>();
+            long legacyHeapBefore = usedHeap();
+            long legacyNanos = runDistinctKeys(legacyLockAction(legacyLocks));
+            long legacyHeapGrowth = usedHeap() - legacyHeapBefore;
+
+            LockManager current = new LockManager();
+            long currentHeapBefore = usedHeap();
+            long currentNanos = runDistinctKeys(key -> current.executeWithLock(key, () -> {
+            }));
+            long currentHeapGrowth = usedHeap() - currentHeapBefore;
+
+            if (round > 0) {
+                System.out.printf("[LockTable #%d] keys=%d / 기존: %dms, 잔여 Lock=%d, 힙 증가=%dKB / 참조 카운트: %dms, 잔여 Lock=%d, 힙 증가=%dKB%n",
+                        round, totalKeys,
+                        legacyNanos / 1_000_000, legacyLocks.size(), legacyHeapGrowth / 1024,
+                        currentNanos / 1_000_000, current.getLockCount(), currentHeapGrowth / 1024);
+            }
+            assertEquals(0, current.getLockCount());
+        }
+    }
+
+    private void sleepBriefly() {
+        try {
+            Thread.sleep(0, 100_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 다른 스레드에서 Lock을 점유하고, 반환된 래치가 해제될 때까지 유지
+    private CountDownLatch holdLockInAnotherThread(String key) throws InterruptedException {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        new Thread(() -> lockManager.executeWithLock(key, () -> {
+            holding.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        })).start();
+        holding.await();
+        return release;
+    }
+
+    // 기존 방식: 키별 Lock을 맵에 영구 보관
+    private Consumer<String> legacyLockAction(Map<String, Lock> legacyLocks) {
+        return key -> {
+            Lock lock = legacyLocks.computeIfAbsent(key, k -> new ReentrantLock());
+            lock.lock();
+            try {
+                // 임계 영역
+            } finally {
+                lock.unlock();
+            }
+        };
+    }
+
+    // 스레드마다 서로 다른 키 KEYS_PER_THREAD개로 Lock을 획득/해제하고 모두 끝날 때까지 걸린 시간(ns) 반환
+    private long runDistinctKeys(Consumer<String> lockAction) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+
+        long start = System.nanoTime();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            int threadIndex = t;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                        lockAction.accept("product:" + threadIndex + "-" + i);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        long elapsed = System.nanoTime() - start;
+        executorService.shutdown();
+        return elapsed;
+    }
+
+    private long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
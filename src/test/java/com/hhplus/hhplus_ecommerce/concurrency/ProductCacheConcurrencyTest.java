@@ -0,0 +1,87 @@
+package com.hhplus.hhplus_ecommerce.concurrency;
+
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.CachingProductRepository;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 상품 조회 캐시 동시성 테스트
+ * - 재고 차감/증가와 캐시 조회(캐시 채우기)가 겹쳐도 캐시된 재고가 원본과 어긋나지 않는지 검증
+ */
+class ProductCacheConcurrencyTest {
+
+    @Test
+    @DisplayName("재고 차감/증가와 조회가 동시에 일어나도 캐시된 재고는 원본 재고와 같다")
+    void 재고변경과_조회_동시() throws InterruptedException {
+        // given
+        InMemoryProductRepository delegate = new InMemoryProductRepository();
+        // 크기를 작게 잡아 제거와 다시 채우기가 자주 일어나도록 함
+        CachingProductRepository repository = new CachingProductRepository(delegate, 4);
+        int productCount = 8;
+        for (int i = 0; i < productCount; i++) {
+            repository.save(Product.create("상품" + i, "설명", 1000, 10_000, "전자제품"));
+        }
+
+        int threads = 16;
+        int operations = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger decreased = new AtomicInteger();
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            int threadIndex = t;
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    for (int i = 0; i < operations; i++) {
+                        long productId = 1 + (threadIndex + i) % productCount;
+                        switch (i % 4) {
+                            case 0:
+                                if (repository.tryDecreaseStock(productId, 2)) {
+                                    decreased.incrementAndGet();
+                                }
+                                break;
+                            case 1:
+                                repository.increaseStock(productId, 1);
+                                break;
+                            default:
+                                repository.findById(productId);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        long totalStock = 0;
+        for (long productId = 1; productId <= productCount; productId++) {
+            int actual = delegate.findById(productId).orElseThrow().getStock();
+            assertEquals(actual, repository.findById(productId).orElseThrow().getStock());
+            totalStock += actual;
+        }
+        long expected = (long) productCount * 10_000 - 2L * decreased.get() + (long) threads * operations / 4;
+        assertEquals(expected, totalStock);
+    }
+}
@@ -0,0 +1,80 @@
+package com.hhplus.hhplus_ecommerce.concurrency;
+
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 카테고리 인덱스 동시성 테스트
+ * - 여러 스레드가 동시에 상품의 카테고리를 바꿔도 각 상품은 정확히 한 카테고리 목록에만 조회됨
+ */
+class ProductCategoryIndexConcurrencyTest {
+
+    private static final String[] CATEGORIES = {"전자제품", "사무용품", "생활용품", "식품"};
+
+    private InMemoryProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = new InMemoryProductRepository();
+    }
+
+    @Test
+    @DisplayName("16개 스레드가 동시에 상품 카테고리를 바꿔도 인덱스와 저장된 상품이 일치한다")
+    void concurrentCategoryMoves_shouldKeepIndexConsistent() throws InterruptedException {
+        // Given: 상품 200개
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            products.add(productRepository.save(Product.create("상품" + i, "설명", 1000, 10, CATEGORIES[i % CATEGORIES.length])));
+        }
+
+        int threadCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // When: 임의의 상품을 임의의 카테고리로 반복 이동
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int j = 0; j < 5_000; j++) {
+                        Product product = products.get(random.nextInt(products.size()));
+                        productRepository.save(Product.builder()
+                                .id(product.getId())
+                                .name(product.getName())
+                                .price(product.getPrice())
+                                .stock(product.getStock())
+                                .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                                .build());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then: 카테고리별 조회 결과의 합이 전체 상품 수와 같고, 각 상품은 저장된 카테고리에서만 조회됨
+        int total = 0;
+        for (String category : CATEGORIES) {
+            List<Product> listed = productRepository.findByCategory(category);
+            total += listed.size();
+            for (Product product : listed) {
+                assertEquals(category, productRepository.findById(product.getId()).orElseThrow().getCategory());
+            }
+        }
+        assertEquals(products.size(), total);
+    }
+}
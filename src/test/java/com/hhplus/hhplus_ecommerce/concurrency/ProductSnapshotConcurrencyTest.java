@@ -0,0 +1,102 @@
+package com.hhplus.hhplus_ecommerce.concurrency;
+
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryProductRepository;
+import com.hhplus.hhplus_ecommerce.product.repository.ProductSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 상품 스냅샷(MVCC) 동시성 테스트
+ * - 재고 차감이 계속되는 동안 연 스냅샷이 같은 값을 반복해서 읽는지, 나중에 연 스냅샷이 과거 상태를 보지 않는지 검증
+ */
+class ProductSnapshotConcurrencyTest {
+
+    @Test
+    @DisplayName("재고 차감 중에 연 스냅샷은 몇 번을 읽어도 같은 재고를 보고, 나중에 연 스냅샷일수록 재고가 같거나 적다")
+    void 차감중_스냅샷_반복읽기() throws InterruptedException {
+        // given
+        InMemoryProductRepository repository = new InMemoryProductRepository();
+        Product first = repository.save(Product.create("상품A", "설명", 1000, 200_000, "전자제품"));
+        Product second = repository.save(Product.create("상품B", "설명", 1000, 200_000, "전자제품"));
+        List<Long> ids = List.of(first.getId(), second.getId());
+
+        int writers = 4;
+        int readers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(writers + readers);
+        AtomicReference<String> failure = new AtomicReference<>();
+        AtomicInteger snapshots = new AtomicInteger();
+
+        // when
+        for (int w = 0; w < writers; w++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < 40_000; i++) {
+                        repository.tryDecreaseStock(ids.get(i % 2), 1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        for (int r = 0; r < readers; r++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    int lastFirst = Integer.MAX_VALUE;
+                    int lastSecond = Integer.MAX_VALUE;
+                    for (int i = 0; i < 2_000; i++) {
+                        try (ProductSnapshot snapshot = repository.openSnapshot()) {
+                            Map<Long, Product> before = snapshot.findAllById(ids);
+                            Thread.yield();
+                            Map<Long, Product> after = snapshot.findAllById(ids);
+                            int firstStock = before.get(first.getId()).getStock();
+                            int secondStock = before.get(second.getId()).getStock();
+                            if (firstStock != after.get(first.getId()).getStock()
+                                    || secondStock != after.get(second.getId()).getStock()) {
+                                failure.compareAndSet(null, "같은 스냅샷에서 재고가 달라짐");
+                            }
+                            if (firstStock > lastFirst || secondStock > lastSecond) {
+                                failure.compareAndSet(null, "나중에 연 스냅샷이 과거 재고를 봄");
+                            }
+                            lastFirst = firstStock;
+                            lastSecond = secondStock;
+                            snapshots.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e.toString());
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        assertNull(failure.get(), failure.get());
+        assertEquals(readers * 2_000, snapshots.get());
+        assertEquals(200_000 - writers * 20_000, repository.findById(first.getId()).orElseThrow().getStock());
+        assertEquals(200_000 - writers * 20_000, repository.findById(second.getId()).orElseThrow().getStock());
+    }
+}
@@ -1,13 +1,20 @@
 package com.hhplus.hhplus_ecommerce.concurrency;
 
+import com.hhplus.hhplus_ecommerce.common.concurrency.LockConcurrencyStrategy;
+import com.hhplus.hhplus_ecommerce.common.concurrency.LockFreeConcurrencyStrategy;
 import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
+import com.hhplus.hhplus_ecommerce.common.lock.LockPolicy;
+import com.hhplus.hhplus_ecommerce.product.application.PopularProductSnapshotRefresher;
 import com.hhplus.hhplus_ecommerce.product.application.ProductService;
 import com.hhplus.hhplus_ecommerce.product.domain.Product;
 import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -19,9 +26,13 @@ import static org.junit.jupiter.api.Assertions.*;
  * 재고 차감 동시성 테스트
  * - 100명이 동시에 재고 50개 상품을 주문하는 시나리오
  * - Race Condition 방지 검증
+ * - CAS 기반 원자적 차감과 기존 Lock 기반 차감의 결과 비교, 처리 시간 비교 (@Tag("benchmark"), ./gradlew benchmark로 실행)
+ * - 인기 상품 분할 재고(셀 여러 개)의 초과 판매 방지 검증
  */
 class ProductStockConcurrencyTest {
 
+    private static final int BENCHMARK_ROUNDS = 3;
+
     private ProductService productService;
     private InMemoryProductRepository productRepository;
     private com.hhplus.hhplus_ecommerce.common.lock.LockManager lockManager;
@@ -30,7 +41,8 @@ class ProductStockConcurrencyTest {
     void setUp() {
         productRepository = new InMemoryProductRepository();
         lockManager = new com.hhplus.hhplus_ecommerce.common.lock.LockManager();
-        productService = new ProductService(productRepository, lockManager);
+        productService = new ProductService(productRepository, new PopularProductSnapshotRefresher(productRepository), event -> { },
+                new LockConcurrencyStrategy(lockManager));
     }
 
     @Test
@@ -223,4 +235,198 @@ class ProductStockConcurrencyTest {
         assertEquals(expectedStock, updatedProduct.getStock(),
                 "재고가 (50 - 차감 성공 + 증가 성공)과 일치해야 함");
     }
+
+    @Test
+    @DisplayName("1000명이 동시에 재고를 차감할 때 CAS 방식도 Lock 방식과 같은 결과를 낸다")
+    void casVsLock_highLoad_shouldBothBeExact() throws InterruptedException {
+        // Given: 스레드 1000개 x 20회 = 20,000건 차감, 재고는 15,000개 (5,000건은 재고 부족으로 실패해야 함)
+        int threadCount = 1000;
+        int decreasesPerThread = 20;
+        Product casProduct = productRepository.save(Product.create("CAS 상품", "재고 15000개", 10000, 15_000, "전자기기"));
+        Product lockProduct = productRepository.save(Product.create("Lock 상품", "재고 15000개", 10000, 15_000, "전자기기"));
+
+        // When: Lock 없는 전략으로 CAS 차감만 수행
+        AtomicInteger casSuccess = new AtomicInteger();
+        runConcurrently(threadCount, decreasesPerThread, countSuccess(lockFreeDecrease(casProduct.getId()), casSuccess));
+
+        // 기존 방식: 키 Lock 안에서 조회-확인-차감
+        AtomicInteger lockSuccess = new AtomicInteger();
+        runConcurrently(threadCount, decreasesPerThread, countSuccess(lockedDecrease(lockProduct.getId()), lockSuccess));
+
+        // Then
+        assertEquals(15_000, casSuccess.get());
+        assertEquals(15_000, lockSuccess.get());
+        assertEquals(0, productRepository.findById(casProduct.getId()).orElseThrow().getStock());
+        assertEquals(0, productRepository.findById(lockProduct.getId()).orElseThrow().getStock());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("[벤치마크] 1000명이 동시에 재고를 차감할 때 CAS 방식과 기존 Lock 방식의 처리 시간 비교")
+    void casVsLock_benchmark() throws InterruptedException {
+        int threadCount = 1000;
+        int decreasesPerThread = 100;
+        int stock = threadCount * decreasesPerThread;
+
+        // 첫 회차는 JIT 예열용으로 출력하지 않음
+        for (int round = 0; round <= BENCHMARK_ROUNDS; round++) {
+            Product casProduct = productRepository.save(Product.create("CAS 상품", "벤치마크", 10000, stock, "전자기기"));
+            Product lockProduct = productRepository.save(Product.create("Lock 상품", "벤치마크", 10000, stock, "전자기기"));
+
+            long casNanos = runConcurrently(threadCount, decreasesPerThread, lockFreeDecrease(casProduct.getId()));
+            long lockNanos = runConcurrently(threadCount, decreasesPerThread, lockedDecrease(lockProduct.getId()));
+
+            assertEquals(0, productRepository.findById(casProduct.getId()).orElseThrow().getStock());
+            assertEquals(0, productRepository.findById(lockProduct.getId()).orElseThrow().getStock());
+            if (round > 0) {
+                System.out.printf("[StockDecrease #%d] threads=%d, ops=%d / CAS: %dms / Lock: %dms%n",
+                        round, threadCount, stock, casNanos / 1_000_000, lockNanos / 1_000_000);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("인기 상품 분할 재고: 모든 코어에서 동시에 차감해도 단일 CAS 재고처럼 재고 수만큼만 성공한다")
+    void hotProduct_stripedStock_shouldNeverOversell() throws InterruptedException {
+        // Given: 스레드마다 20,000회 차감 시도, 재고는 전체 시도 수의 절반 (절반은 재고 부족으로 실패해야 함)
+        int threadCount = Math.max(4, Runtime.getRuntime().availableProcessors());
+        int decreasesPerThread = 20_000;
+        int stock = threadCount * decreasesPerThread / 2;
+        Product singleProduct = productRepository.save(Product.create("단일 재고 상품", "CAS 1개", 10000, stock, "전자기기"));
+        Product hotProduct = productRepository.save(Product.create("분할 재고 상품", "셀 여러 개", 10000, stock, "전자기기"));
+        productRepository.markHot(hotProduct.getId(), threadCount);
+
+        // When
+        AtomicInteger singleSuccess = new AtomicInteger();
+        runConcurrently(threadCount, decreasesPerThread, () -> {
+            if (productRepository.tryDecreaseStock(singleProduct.getId(), 1)) {
+                singleSuccess.incrementAndGet();
+            }
+        });
+        AtomicInteger hotSuccess = new AtomicInteger();
+        runConcurrently(threadCount, decreasesPerThread, () -> {
+            if (productRepository.tryDecreaseStock(hotProduct.getId(), 1)) {
+                hotSuccess.incrementAndGet();
+            }
+        });
+
+        // Then: 정확히 재고 수만큼만 성공
+        assertEquals(stock, singleSuccess.get());
+        assertEquals(stock, hotSuccess.get(), "분할 재고도 초과 판매가 없어야 함");
+        assertEquals(0, productRepository.findById(hotProduct.getId()).orElseThrow().getStock());
+    }
+
+    @Test
+    @DisplayName("차감이 진행 중인 상품을 인기 상품으로 전환해도 재고가 유실되거나 초과 판매되지 않는다")
+    void markHot_duringDecrease_shouldKeepStockExact() throws InterruptedException {
+        // Given
+        Product product = productRepository.save(Product.create("전환 상품", "재고 30000개", 10000, 30_000, "전자기기"));
+        int threadCount = 8;
+        AtomicInteger success = new AtomicInteger();
+
+        // When: 차감 도중 다른 스레드에서 분할 재고로 전환
+        Thread converter = new Thread(() -> {
+            Thread.onSpinWait();
+            productRepository.markHot(product.getId(), 4);
+        });
+        converter.start();
+        runConcurrently(threadCount, 5_000, () -> {
+            if (productRepository.tryDecreaseStock(product.getId(), 1)) {
+                success.incrementAndGet();
+            }
+        });
+        converter.join();
+
+        // Then
+        assertEquals(30_000, success.get() + productRepository.findById(product.getId()).orElseThrow().getStock());
+    }
+
+    @Test
+    @DisplayName("상품 키에 즉시 실패 정책이 있으면 다른 요청이 상품 Lock을 보유한 동안 재고 차감은 대기하지 않고 실패한다")
+    void productLockPolicy_failFast_shouldRejectWithoutWaiting() throws InterruptedException {
+        // Given: 다른 스레드가 상품 Lock을 보유
+        lockManager.registerPolicy("product:", LockPolicy.failFast());
+        Product product = productRepository.save(Product.create("인기 상품", "재고 10개", 10000, 10, "전자기기"));
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> lockManager.executeWithLock("product:" + product.getId(), () -> {
+            held.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        held.await();
+
+        // When
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> productService.decreaseStock(product.getId(), 1));
+        release.countDown();
+        holder.join();
+
+        // Then: 시간 초과로 거절되고 재고는 그대로
+        assertEquals(ErrorCode.LOCK_ACQUISITION_TIMEOUT, exception.getErrorCode());
+        assertEquals(10, productRepository.findById(product.getId()).orElseThrow().getStock());
+        productService.decreaseStock(product.getId(), 1);
+        assertEquals(9, productRepository.findById(product.getId()).orElseThrow().getStock());
+    }
+
+    // threadCount개 스레드가 동시에 출발하여 각각 repeat회 작업 실행
+    // Lock 없는 전략의 ProductService로 CAS 차감 1개
+    private Runnable lockFreeDecrease(Long productId) {
+        ProductService lockFreeService = new ProductService(productRepository, new PopularProductSnapshotRefresher(productRepository),
+                event -> { }, new LockFreeConcurrencyStrategy());
+        return () -> lockFreeService.decreaseStock(productId, 1);
+    }
+
+    // 기존 방식: 키 Lock 안에서 조회-확인-차감 1개
+    private Runnable lockedDecrease(Long productId) {
+        return () -> lockManager.executeWithLock("product:" + productId, () -> {
+            Product product = productRepository.findById(productId).orElseThrow();
+            product.decreaseStock(1);
+            productRepository.adjustStock(productId, List.of(-1));
+        });
+    }
+
+    // 재고 부족 예외는 실패로 보고 성공 건수만 셈
+    private Runnable countSuccess(Runnable decrease, AtomicInteger successCount) {
+        return () -> {
+            try {
+                decrease.run();
+                successCount.incrementAndGet();
+            } catch (BusinessException ignored) {
+            }
+        };
+    }
+
+    // threadCount개 스레드가 동시에 task를 repeat번씩 실행하고 모두 끝날 때까지 걸린 시간(ns) 반환
+    private long runConcurrently(int threadCount, int repeat, Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < repeat; j++) {
+                        task.run();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - startedAt;
+        executorService.shutdown();
+        return elapsed;
+    }
 }
@@ -0,0 +1,190 @@
+package com.hhplus.hhplus_ecommerce.concurrency;
+
+import com.hhplus.hhplus_ecommerce.common.concurrency.LockConcurrencyStrategy;
+import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.lock.LockManager;
+import com.hhplus.hhplus_ecommerce.product.StockAdjustmentStatus;
+import com.hhplus.hhplus_ecommerce.product.application.PopularProductSnapshotRefresher;
+import com.hhplus.hhplus_ecommerce.product.application.ProductService;
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.domain.StockAdjustment;
+import com.hhplus.hhplus_ecommerce.product.domain.StockAdjustmentResult;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재고 일괄 조정 테스트 (일괄 조정 vs 단건 호출 반복)
+ * - 10,000건의 조정을 상품별로 묶어 한 번에 반영한 결과가 단건 호출을 반복한 결과와 같은지 검증
+ * - 두 방식의 처리 시간 비교 (@Tag("benchmark"), ./gradlew benchmark로 실행)
+ */
+class StockAdjustmentBenchmarkTest {
+
+    private static final int PRODUCT_COUNT = 100;
+    private static final int LINE_COUNT = 10_000;
+    private static final int INITIAL_STOCK = 200;
+    private static final int BENCHMARK_ROUNDS = 5;
+
+    @Test
+    @DisplayName("10,000건 일괄 조정 결과가 단건 호출 반복과 같다")
+    void adjustStocks_단건반복과_비교() {
+        List<StockAdjustment> adjustments = randomAdjustments(new Random(42));
+
+        // 단건 호출 반복
+        InMemoryProductRepository loopRepository = new InMemoryProductRepository();
+        ProductService loopService = newService(loopRepository);
+        List<Long> loopIds = saveProducts(loopRepository);
+        List<StockAdjustmentStatus> loopStatuses = new ArrayList<>(LINE_COUNT);
+        for (StockAdjustment adjustment : adjustments) {
+            loopStatuses.add(adjustOne(loopService, loopIds, adjustment));
+        }
+
+        // 일괄 조정
+        InMemoryProductRepository batchRepository = new InMemoryProductRepository();
+        ProductService batchService = newService(batchRepository);
+        List<Long> batchIds = saveProducts(batchRepository);
+        List<StockAdjustmentResult> results = batchService.adjustStocks(remap(adjustments, batchIds));
+
+        // 같은 상품의 건은 요청 순서대로 적용되므로 건별 결과와 최종 재고가 모두 같아야 함
+        assertEquals(LINE_COUNT, results.size());
+        for (int i = 0; i < LINE_COUNT; i++) {
+            assertEquals(loopStatuses.get(i), results.get(i).getStatus(), "건별 결과 불일치: " + i);
+        }
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            assertEquals(loopService.getStock(loopIds.get(i)), batchService.getStock(batchIds.get(i)));
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("[벤치마크] 10,000건 재고 조정을 일괄 조정과 단건 호출 반복으로 처리할 때 처리 시간 비교")
+    void adjustStocks_benchmark() {
+        List<StockAdjustment> adjustments = randomAdjustments(new Random(42));
+
+        // 첫 회차는 JIT 예열용으로 출력하지 않음
+        for (int round = 0; round <= BENCHMARK_ROUNDS; round++) {
+            InMemoryProductRepository loopRepository = new InMemoryProductRepository();
+            ProductService loopService = newService(loopRepository);
+            List<Long> loopIds = saveProducts(loopRepository);
+            long loopStart = System.nanoTime();
+            for (StockAdjustment adjustment : adjustments) {
+                adjustOne(loopService, loopIds, adjustment);
+            }
+            long loopNanos = System.nanoTime() - loopStart;
+
+            InMemoryProductRepository batchRepository = new InMemoryProductRepository();
+            ProductService batchService = newService(batchRepository);
+            List<StockAdjustment> batchAdjustments = remap(adjustments, saveProducts(batchRepository));
+            long batchStart = System.nanoTime();
+            batchService.adjustStocks(batchAdjustments);
+            long batchNanos = System.nanoTime() - batchStart;
+
+            if (round > 0) {
+                System.out.printf("[StockAdjustment #%d] lines=%d, products=%d / 단건 호출 반복: %.1fms / 일괄 조정: %.1fms%n",
+                        round, LINE_COUNT, PRODUCT_COUNT, loopNanos / 1e6, batchNanos / 1e6);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 상품들을 동시에 일괄 조정해도 재고가 정확하다")
+    void adjustStocks_동시성() throws InterruptedException {
+        // given
+        InMemoryProductRepository repository = new InMemoryProductRepository();
+        ProductService productService = newService(repository);
+        List<Long> productIds = saveProducts(repository);
+        int threadCount = 16;
+        AtomicLong appliedTotal = new AtomicLong();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when: 스레드마다 다른 조정 목록을 일괄 반영하고, 적용된 건의 합계를 누적
+        for (int t = 0; t < threadCount; t++) {
+            Random random = new Random(t);
+            executorService.submit(() -> {
+                try {
+                    List<StockAdjustment> adjustments = remap(randomAdjustments(random), productIds);
+                    for (StockAdjustmentResult result : productService.adjustStocks(adjustments)) {
+                        if (result.isApplied()) {
+                            appliedTotal.addAndGet(result.getDelta());
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then: 최종 재고 합계 = 초기 재고 합계 + 적용된 조정 합계, 음수 재고 없음
+        long stockTotal = 0;
+        for (Long productId : productIds) {
+            int stock = productService.getStock(productId);
+            assertTrue(stock >= 0, "재고가 음수가 되면 안 됩니다.");
+            stockTotal += stock;
+        }
+        assertEquals((long) INITIAL_STOCK * PRODUCT_COUNT + appliedTotal.get(), stockTotal);
+    }
+
+    private static ProductService newService(InMemoryProductRepository repository) {
+        return new ProductService(repository, new PopularProductSnapshotRefresher(repository), event -> { },
+                new LockConcurrencyStrategy(new LockManager()));
+    }
+
+    private static List<Long> saveProducts(InMemoryProductRepository repository) {
+        List<Long> ids = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            ids.add(repository.save(Product.create("상품" + i, "설명", 10000, INITIAL_STOCK, "전자제품")).getId());
+        }
+        return ids;
+    }
+
+    // 상품 번호(0 ~ PRODUCT_COUNT-1)로 만든 조정 목록 (차감 위주, 일부 복구)
+    private static List<StockAdjustment> randomAdjustments(Random random) {
+        List<StockAdjustment> adjustments = new ArrayList<>(LINE_COUNT);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            long index = random.nextInt(PRODUCT_COUNT);
+            int delta = random.nextInt(10) < 8 ? -(1 + random.nextInt(5)) : 1 + random.nextInt(3);
+            adjustments.add(new StockAdjustment(index, delta));
+        }
+        return adjustments;
+    }
+
+    // 상품 번호를 실제 상품ID로 변환
+    private static List<StockAdjustment> remap(List<StockAdjustment> adjustments, List<Long> productIds) {
+        List<StockAdjustment> remapped = new ArrayList<>(adjustments.size());
+        for (StockAdjustment adjustment : adjustments) {
+            remapped.add(new StockAdjustment(
+                    productIds.get(adjustment.getProductId().intValue()), adjustment.getDelta()));
+        }
+        return remapped;
+    }
+
+    private static StockAdjustmentStatus adjustOne(ProductService productService, List<Long> productIds,
+                                                   StockAdjustment adjustment) {
+        Long productId = productIds.get(adjustment.getProductId().intValue());
+        if (adjustment.getDelta() >= 0) {
+            productService.increaseStock(productId, adjustment.getDelta());
+            return StockAdjustmentStatus.APPLIED;
+        }
+        try {
+            productService.decreaseStock(productId, -adjustment.getDelta());
+            return StockAdjustmentStatus.APPLIED;
+        } catch (BusinessException e) {
+            return StockAdjustmentStatus.INSUFFICIENT_STOCK;
+        }
+    }
+}
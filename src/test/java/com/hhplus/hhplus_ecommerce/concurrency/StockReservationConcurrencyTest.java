@@ -0,0 +1,192 @@
+package com.hhplus.hhplus_ecommerce.concurrency;
+
+import com.hhplus.hhplus_ecommerce.common.concurrency.LockConcurrencyStrategy;
+import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
+import com.hhplus.hhplus_ecommerce.common.lock.LockManager;
+import com.hhplus.hhplus_ecommerce.product.ReservationStatus;
+import com.hhplus.hhplus_ecommerce.product.application.PopularProductSnapshotRefresher;
+import com.hhplus.hhplus_ecommerce.product.application.ProductService;
+import com.hhplus.hhplus_ecommerce.product.application.StockReservationService;
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.domain.StockReservation;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryProductRepository;
+import com.hhplus.hhplus_ecommerce.product.infrastructure.InMemoryStockReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재고 예약 만료 동시성 테스트
+ * - 결제되지 않은 예약은 기한이 지나면 재고가 한꺼번에 복구됨
+ * - 결제 확정 / 주문 취소 / 만료가 동시에 일어나도 재고가 두 번 복구되거나 확정된 재고가 돌아가지 않음
+ */
+class StockReservationConcurrencyTest {
+
+    private InMemoryProductRepository productRepository;
+    private InMemoryStockReservationRepository reservationRepository;
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = new InMemoryProductRepository();
+        reservationRepository = new InMemoryStockReservationRepository();
+        productService = new ProductService(productRepository, new PopularProductSnapshotRefresher(productRepository), event -> { },
+                new LockConcurrencyStrategy(new LockManager()));
+    }
+
+    @Test
+    @DisplayName("100명이 동시에 예약하고 결제하지 않으면 기한이 지난 뒤 재고가 모두 복구된다")
+    void abandonedReservations_shouldRestoreStock() throws InterruptedException {
+        // Given
+        StockReservationService reservationService = new StockReservationService(
+                productService, productRepository, reservationRepository, Duration.ofMillis(100), Duration.ofMillis(10));
+        Product product = productRepository.save(Product.create("한정 상품", "재고 50개", 10000, 50, "전자기기"));
+
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // When: 100명이 1개씩 예약 (50명만 성공)
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    reservationService.reserve(Map.of(product.getId(), 1));
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    // 재고 부족
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        assertEquals(50, successCount.get());
+        assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getStock());
+
+        // 기한 전에는 만료되지 않음
+        assertEquals(0, reservationService.expireReservations());
+
+        Thread.sleep(150);
+        int expired = reservationService.expireReservations();
+
+        // Then: 만료된 예약 50건의 재고가 모두 복구
+        assertEquals(50, expired);
+        assertEquals(50, productRepository.findById(product.getId()).orElseThrow().getStock());
+        assertEquals(0, reservationService.getActiveReservationCount());
+    }
+
+    @Test
+    @DisplayName("결제 작업이 실패하면 예약은 확정되지 않고, 기한 안에 재시도하거나 기한이 지나면 재고가 복구된다")
+    void failedPayment_shouldKeepReservationPending() throws InterruptedException {
+        // Given
+        StockReservationService reservationService = new StockReservationService(
+                productService, productRepository, reservationRepository, Duration.ofMillis(100), Duration.ofMillis(10));
+        Product product = productRepository.save(Product.create("한정 상품", "재고 10개", 10000, 10, "전자기기"));
+        StockReservation retried = reservationService.reserve(Map.of(product.getId(), 3));
+        StockReservation abandoned = reservationService.reserve(Map.of(product.getId(), 2));
+
+        // When: 두 예약 모두 결제 작업이 실패
+        for (StockReservation reservation : List.of(retried, abandoned)) {
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> reservationService.commit(reservation.getId(), () -> {
+                        throw new BusinessException(ErrorCode.POINT_INSUFFICIENT_BALANCE);
+                    }));
+            assertEquals(ErrorCode.POINT_INSUFFICIENT_BALANCE, exception.getErrorCode());
+            assertEquals(ReservationStatus.RESERVED, reservationRepository.findById(reservation.getId()).orElseThrow().getStatus());
+        }
+
+        // Then: 확정되지 않았으므로 판매량 기록 없음, 재고는 예약된 채로 유지
+        assertTrue(productRepository.findPopularProducts(LocalDateTime.now().minusDays(1), 10).isEmpty());
+        assertEquals(5, productRepository.findById(product.getId()).orElseThrow().getStock());
+        assertEquals(2, reservationService.getActiveReservationCount());
+
+        // 기한 안에 재시도하면 확정
+        reservationService.commit(retried.getId(), () -> { });
+        assertEquals(ReservationStatus.COMMITTED, reservationRepository.findById(retried.getId()).orElseThrow().getStatus());
+
+        // 재시도하지 않은 예약은 기한이 지나면 만료되어 재고 복구
+        Thread.sleep(150);
+        assertEquals(1, reservationService.expireReservations());
+        assertEquals(7, productRepository.findById(product.getId()).orElseThrow().getStock());
+        assertEquals(ReservationStatus.EXPIRED, reservationRepository.findById(abandoned.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("결제 확정, 주문 취소와 만료 처리가 동시에 일어나도 확정된 예약의 재고만 차감된 채로 남는다")
+    void commitReleaseAndExpire_shouldNeverDoubleRestore() throws InterruptedException {
+        // Given: 기한이 짧아 결제/취소 도중 만료가 끼어드는 상황
+        StockReservationService reservationService = new StockReservationService(
+                productService, productRepository, reservationRepository, Duration.ofMillis(20), Duration.ofMillis(1));
+        Product product = productRepository.save(Product.create("한정 상품", "재고 1000개", 10000, 1000, "전자기기"));
+
+        int threadCount = 8;
+        int repeat = 100;
+        List<StockReservation> reservations = new CopyOnWriteArrayList<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount + 1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        // 만료 처리 스레드
+        executorService.submit(() -> {
+            while (done.getCount() > 0) {
+                reservationService.expireReservations();
+            }
+        });
+
+        // When: 예약 후 임의 시간 뒤 결제 확정 또는 취소
+        for (int i = 0; i < threadCount; i++) {
+            int worker = i;
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < repeat; j++) {
+                        StockReservation reservation = reservationService.reserve(Map.of(product.getId(), 1));
+                        reservations.add(reservation);
+                        Thread.sleep(j % 30);
+                        if ((worker + j) % 2 == 0) {
+                            try {
+                                reservationService.commit(reservation.getId(), () -> { });
+                            } catch (BusinessException e) {
+                                assertEquals(ErrorCode.STOCK_RESERVATION_EXPIRED, e.getErrorCode());
+                            }
+                        } else {
+                            reservationService.release(reservation.getId());
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        executorService.shutdown();
+
+        // 남은 예약까지 모두 만료
+        Thread.sleep(50);
+        reservationService.expireReservations();
+
+        // Then: 재고 = 초기 재고 - 확정된 예약 수
+        long committed = reservations.stream()
+                .filter(reservation -> reservationRepository.findById(reservation.getId()).orElseThrow().getStatus() == ReservationStatus.COMMITTED)
+                .count();
+        assertTrue(reservations.stream()
+                .noneMatch(reservation -> reservationRepository.findById(reservation.getId()).orElseThrow().isReserved()));
+        assertEquals((int) (1000 - committed), productRepository.findById(product.getId()).orElseThrow().getStock());
+    }
+}
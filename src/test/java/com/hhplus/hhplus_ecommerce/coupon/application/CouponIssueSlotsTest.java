@@ -0,0 +1,180 @@
+package com.hhplus.hhplus_ecommerce.coupon.application;
+
+import com.hhplus.hhplus_ecommerce.coupon.domain.Coupon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CouponIssueSlotsTest {
+
+    private final CouponIssueSlots issueSlots = new CouponIssueSlots();
+
+    private Coupon coupon(Long id, int totalQuantity, int issuedQuantity) {
+        return coupon(id, totalQuantity, issuedQuantity, null);
+    }
+
+    private Coupon coupon(Long id, int totalQuantity, int issuedQuantity, LocalDateTime createdAt) {
+        return Coupon.builder()
+                .id(id)
+                .name("10% 할인")
+                .discountRate(10)
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(issuedQuantity)
+                .validityDays(7)
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(30))
+                .createdAt(createdAt)
+                .build();
+    }
+
+    // 대기 스레드가 조건에서 잠들 때까지 기다림
+    private void awaitParked(Thread thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (thread.getState() != Thread.State.WAITING) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    @DisplayName("저장된 발급 수량부터 totalQuantity까지만 슬롯을 선점할 수 있다")
+    void claimSlot_수량제한() {
+        // given
+        CouponIssueSlots.Slots slots = issueSlots.of(coupon(1L, 3, 1));
+
+        // when & then
+        assertThat(slots.claimSlot()).isTrue();
+        assertThat(slots.claimSlot()).isTrue();
+        slots.commitSlot();
+        slots.commitSlot();
+        assertThat(slots.claimSlot()).isFalse();
+        assertThat(slots.getIssuedQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("모든 슬롯이 선점되었어도 확정되지 않은 슬롯이 있으면 잠들어 기다렸다가 반환된 슬롯을 선점한다")
+    void claimSlot_미확정슬롯_반환대기() throws InterruptedException {
+        // given
+        CouponIssueSlots.Slots slots = issueSlots.of(coupon(1L, 1, 0));
+        slots.claimSlot();
+        AtomicBoolean claimed = new AtomicBoolean();
+        Thread waiter = new Thread(() -> claimed.set(slots.claimSlot()));
+
+        // when: 대기 스레드가 잠든 뒤 선점한 슬롯을 반환
+        waiter.start();
+        awaitParked(waiter);
+        slots.releaseSlot();
+        waiter.join(5_000);
+
+        // then
+        assertThat(waiter.isAlive()).isFalse();
+        assertThat(claimed).isTrue();
+        assertThat(slots.getIssuedQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기다리던 슬롯이 확정되면 매진으로 거절한다")
+    void claimSlot_미확정슬롯_확정시_매진() throws InterruptedException {
+        // given
+        CouponIssueSlots.Slots slots = issueSlots.of(coupon(1L, 1, 0));
+        slots.claimSlot();
+        AtomicBoolean claimed = new AtomicBoolean(true);
+        Thread waiter = new Thread(() -> claimed.set(slots.claimSlot()));
+
+        // when
+        waiter.start();
+        awaitParked(waiter);
+        slots.commitSlot();
+        waiter.join(5_000);
+
+        // then
+        assertThat(waiter.isAlive()).isFalse();
+        assertThat(claimed).isFalse();
+    }
+
+    @Test
+    @DisplayName("반환한 슬롯은 다시 선점할 수 있다")
+    void releaseSlot_재선점() {
+        // given
+        CouponIssueSlots.Slots slots = issueSlots.of(coupon(1L, 1, 0));
+        slots.claimSlot();
+
+        // when
+        slots.releaseSlot();
+
+        // then
+        assertThat(slots.getIssuedQuantity()).isZero();
+        assertThat(slots.claimSlot()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 사용자는 등록을 해제하기 전까지 한 번만 등록된다")
+    void claimUser_중복() {
+        // given
+        CouponIssueSlots.Slots slots = issueSlots.of(coupon(1L, 10, 0));
+
+        // when & then
+        assertThat(slots.claimUser(1L)).isTrue();
+        assertThat(slots.claimUser(1L)).isFalse();
+        assertThat(slots.claimUser(2L)).isTrue();
+        slots.releaseUser(1L);
+        assertThat(slots.claimUser(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("쿠폰별 발급 상태는 처음 사용할 때 한 번만 만들어진다")
+    void of_쿠폰별_상태() {
+        // given
+        CouponIssueSlots.Slots first = issueSlots.of(coupon(1L, 10, 0));
+        first.claimSlot();
+
+        // when: 이후 조회한 쿠폰의 발급 수량과 관계없이 같은 상태 사용
+        CouponIssueSlots.Slots again = issueSlots.of(coupon(1L, 10, 5));
+        CouponIssueSlots.Slots other = issueSlots.of(coupon(2L, 10, 0));
+
+        // then
+        assertThat(again).isSameAs(first);
+        assertThat(again.getIssuedQuantity()).isEqualTo(1);
+        assertThat(other).isNotSameAs(first);
+        assertThat(other.getIssuedQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("쿠폰의 총 수량이 수정되면 저장된 발급 수량 기준으로 상태를 새로 만든다")
+    void of_총수량변경_새상태() {
+        // given
+        CouponIssueSlots.Slots first = issueSlots.of(coupon(1L, 1, 0));
+        first.claimSlot();
+        first.commitSlot();
+
+        // when
+        CouponIssueSlots.Slots edited = issueSlots.of(coupon(1L, 3, 1));
+
+        // then
+        assertThat(edited).isNotSameAs(first);
+        assertThat(edited.claimSlot()).isTrue();
+        assertThat(edited.getIssuedQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 ID로 다시 등록된 쿠폰은 이전 발급 상태를 쓰지 않는다")
+    void of_재등록_새상태() {
+        // given
+        LocalDateTime seededAt = LocalDateTime.now().minusDays(1);
+        CouponIssueSlots.Slots first = issueSlots.of(coupon(1L, 10, 0, seededAt));
+        first.claimSlot();
+        first.claimUser(1L);
+
+        // when
+        CouponIssueSlots.Slots reseeded = issueSlots.of(coupon(1L, 10, 0, seededAt.plusDays(1)));
+
+        // then
+        assertThat(reseeded).isNotSameAs(first);
+        assertThat(reseeded.getIssuedQuantity()).isZero();
+        assertThat(reseeded.claimUser(1L)).isTrue();
+    }
+}
@@ -1,5 +1,6 @@
 package com.hhplus.hhplus_ecommerce.coupon.application;
 
+import com.hhplus.hhplus_ecommerce.common.concurrency.ConcurrencyStrategy;
 import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
 import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
 import com.hhplus.hhplus_ecommerce.coupon.CouponStatus;
@@ -11,13 +12,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -33,10 +36,8 @@ class CouponServiceTest {
     @Mock
     private UserCouponRepository userCouponRepository;
 
-    @Mock
-    private com.hhplus.hhplus_ecommerce.common.lock.LockManager lockManager;
+    private RecordingConcurrencyStrategy concurrencyStrategy;
 
-    @InjectMocks
     private CouponService couponService;
 
     private Coupon validCoupon;
@@ -59,12 +60,9 @@ class CouponServiceTest {
                 .endDate(LocalDateTime.now().plusDays(30))
                 .build();
 
-        // LockManager Mock 공통 설정: executeWithLock 호출 시 action 실행 (lenient)
-        lenient().when(lockManager.executeWithLock(anyString(), any(java.util.function.Supplier.class)))
-                .thenAnswer(invocation -> {
-                    java.util.function.Supplier<?> action = invocation.getArgument(1);
-                    return action.get();
-                });
+        // ConcurrencyStrategy 대역: execute 호출 시 키를 기록하고 action을 바로 실행
+        concurrencyStrategy = new RecordingConcurrencyStrategy();
+        couponService = new CouponService(couponRepository, userCouponRepository, concurrencyStrategy);
     }
 
     @Test
@@ -86,8 +84,103 @@ class CouponServiceTest {
                 () -> assertThat(result.getCouponId()).isEqualTo(couponId),
                 () -> assertThat(result.getStatus()).isEqualTo(CouponStatus.AVAILABLE)
         );
+        InOrder inOrder = inOrder(couponRepository, userCouponRepository);
+        inOrder.verify(couponRepository).increaseIssuedQuantity(couponId);
+        inOrder.verify(userCouponRepository).save(any(UserCoupon.class));
+        assertThat(concurrencyStrategy.executedKeys).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자 쿠폰 저장이 실패하면 반영한 발급 수량을 되돌리고 다시 발급받을 수 있다")
+    void issueCoupon_저장실패_수량복구() {
+        // given
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(validCoupon));
+        given(userCouponRepository.findByUserIdAndCouponId(userId, couponId))
+                .willReturn(Optional.empty());
+        given(userCouponRepository.save(any(UserCoupon.class)))
+                .willThrow(new BusinessException(ErrorCode.INVALID_INPUT_VALUE))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        assertThatThrownBy(() -> couponService.issueCoupon(userId, couponId))
+                .isInstanceOf(BusinessException.class);
+        UserCoupon retried = couponService.issueCoupon(userId, couponId);
+
+        // then
+        assertThat(retried.getUserId()).isEqualTo(userId);
+        verify(couponRepository).decreaseIssuedQuantity(couponId);
+        verify(couponRepository, times(2)).increaseIssuedQuantity(couponId);
+    }
+
+    @Test
+    @DisplayName("이미 발급받은 사용자가 다시 요청하면 저장소를 조회하지 않고 거절한다")
+    void issueCoupon_발급사용자_재요청_예외() {
+        // given
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(validCoupon));
+        given(userCouponRepository.findByUserIdAndCouponId(userId, couponId))
+                .willReturn(Optional.empty());
+        given(userCouponRepository.save(any(UserCoupon.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        couponService.issueCoupon(userId, couponId);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(userId, couponId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_ALREADY_ISSUED);
+        verify(userCouponRepository, times(1)).findByUserIdAndCouponId(userId, couponId);
+        verify(userCouponRepository, times(1)).save(any(UserCoupon.class));
+    }
+
+    @Test
+    @DisplayName("유효기간 검증에 실패하면 선점한 수량과 사용자 등록을 되돌린다")
+    void issueCoupon_유효기간실패_슬롯반환() {
+        // given: 1개 한정 쿠폰이 아직 시작 전
+        Coupon notStartedCoupon = Coupon.builder()
+                .id(couponId)
+                .name("10% 할인")
+                .discountRate(10)
+                .totalQuantity(1)
+                .issuedQuantity(0)
+                .validityDays(7)
+                .startDate(LocalDateTime.now().plusDays(1))
+                .endDate(LocalDateTime.now().plusDays(30))
+                .build();
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(notStartedCoupon));
+        given(userCouponRepository.findByUserIdAndCouponId(anyLong(), eq(couponId)))
+                .willReturn(Optional.empty());
+
+        // when & then: 수량이 반환되므로 두 번째 요청도 소진이 아닌 유효기간 예외
+        assertThatThrownBy(() -> couponService.issueCoupon(userId, couponId))
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_AVAILABLE);
+        assertThatThrownBy(() -> couponService.issueCoupon(2L, couponId))
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_AVAILABLE);
+        // 같은 사용자도 다시 요청할 수 있음
+        assertThatThrownBy(() -> couponService.issueCoupon(userId, couponId))
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_AVAILABLE);
+        verify(userCouponRepository, never()).save(any(UserCoupon.class));
+        verify(couponRepository, never()).increaseIssuedQuantity(couponId);
+    }
+
+    @Test
+    @DisplayName("배타적 전략이면 쿠폰 키로 직렬화하여 발급한다")
+    void issueCoupon_배타적전략_직렬화() {
+        // given
+        concurrencyStrategy.exclusive = true;
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(validCoupon));
+        given(userCouponRepository.findByUserIdAndCouponId(userId, couponId))
+                .willReturn(Optional.empty());
+        given(userCouponRepository.save(any(UserCoupon.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        UserCoupon result = couponService.issueCoupon(userId, couponId);
+
+        // then
+        assertThat(result.getUserId()).isEqualTo(userId);
+        assertThat(validCoupon.getIssuedQuantity()).isEqualTo(1);
+        assertThat(concurrencyStrategy.executedKeys).containsExactly("coupon:" + couponId);
         verify(couponRepository).save(validCoupon);
-        verify(userCouponRepository).save(any(UserCoupon.class));
+        verify(couponRepository, never()).increaseIssuedQuantity(couponId);
     }
 
     @Test
@@ -142,6 +235,49 @@ class CouponServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_SOLD_OUT);
     }
 
+    @Test
+    @DisplayName("매진된 쿠폰의 총 수량을 늘려 저장하면 늘어난 수량만큼 다시 발급한다")
+    void issueCoupon_총수량변경_재발급() {
+        // given: 매진 상태로 한 번 발급 상태가 만들어진 뒤 총 수량이 100 -> 150으로 수정됨
+        Coupon soldOutCoupon = Coupon.builder()
+                .id(couponId)
+                .name("10% 할인")
+                .discountRate(10)
+                .totalQuantity(100)
+                .issuedQuantity(100)
+                .validityDays(7)
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(30))
+                .build();
+        Coupon editedCoupon = Coupon.builder()
+                .id(couponId)
+                .name("10% 할인")
+                .discountRate(10)
+                .totalQuantity(150)
+                .issuedQuantity(100)
+                .validityDays(7)
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(30))
+                .build();
+        given(couponRepository.findById(couponId))
+                .willReturn(Optional.of(soldOutCoupon))
+                .willReturn(Optional.of(editedCoupon));
+        given(userCouponRepository.findByUserIdAndCouponId(userId, couponId))
+                .willReturn(Optional.empty());
+        given(userCouponRepository.save(any(UserCoupon.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        assertThatThrownBy(() -> couponService.issueCoupon(userId, couponId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_SOLD_OUT);
+        UserCoupon result = couponService.issueCoupon(userId, couponId);
+
+        // then
+        assertThat(result.getCouponId()).isEqualTo(couponId);
+        verify(couponRepository).increaseIssuedQuantity(couponId);
+    }
+
     @Test
     @DisplayName("유효기간이 지난 쿠폰은 발급할 수 없다")
     void issueCoupon_유효기간지남_예외() {
@@ -264,4 +400,21 @@ class CouponServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_FOUND);
     }
-}
\ No newline at end of file
+
+    // 실행한 키를 기록하고 작업을 바로 실행하는 동시성 제어 전략 대역 (기본은 Lock 없는 전략)
+    private static class RecordingConcurrencyStrategy implements ConcurrencyStrategy {
+        private final List<String> executedKeys = new ArrayList<>();
+        private boolean exclusive;
+
+        @Override
+        public <T> T execute(String key, Supplier<T> action) {
+            executedKeys.add(key);
+            return action.get();
+        }
+
+        @Override
+        public boolean isExclusive() {
+            return exclusive;
+        }
+    }
+}
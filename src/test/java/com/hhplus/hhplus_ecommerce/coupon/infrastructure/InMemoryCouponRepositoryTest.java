@@ -140,6 +140,32 @@ class InMemoryCouponRepositoryTest {
         assertThat(availableCoupons.get(0).getName()).isEqualTo("10% 할인");
     }
 
+    @Test
+    @DisplayName("발급 수량을 1 증가시킬 수 있다")
+    void increaseIssuedQuantity_성공() {
+        // given
+        Coupon saved = repository.save(Coupon.create("10% 할인", 10, 100, 7,
+                LocalDateTime.now(), LocalDateTime.now().plusDays(30)));
+
+        // when
+        Optional<Coupon> increased = repository.increaseIssuedQuantity(saved.getId());
+
+        // then
+        assertThat(increased).isPresent();
+        assertThat(repository.findById(saved.getId()).orElseThrow().getIssuedQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 쿠폰의 발급 수량은 증가시킬 수 없다")
+    void increaseIssuedQuantity_없음() {
+        // when
+        Optional<Coupon> increased = repository.increaseIssuedQuantity(999L);
+
+        // then
+        assertThat(increased).isEmpty();
+        assertThat(repository.findAll()).isEmpty();
+    }
+
     @Test
     @DisplayName("저장소를 초기화할 수 있다")
     void clear_성공() {
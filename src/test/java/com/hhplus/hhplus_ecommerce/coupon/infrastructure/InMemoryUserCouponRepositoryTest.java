@@ -137,6 +137,22 @@ class InMemoryUserCouponRepositoryTest {
         assertThat(found).isPresent();
     }
 
+    @Test
+    @DisplayName("사용자 ID와 쿠폰 ID가 모두 일치하는 사용자 쿠폰만 조회된다")
+    void findByUserIdAndCouponId_다른사용자_다른쿠폰() {
+        // given
+        Coupon coupon10 = Coupon.builder().id(10L).name("10% 할인").discountRate(10).validityDays(7).build();
+        Coupon coupon20 = Coupon.builder().id(20L).name("20% 할인").discountRate(20).validityDays(7).build();
+        repository.save(UserCoupon.issue(1L, coupon10));
+        repository.save(UserCoupon.issue(2L, coupon20));
+
+        // when & then
+        assertThat(repository.findByUserIdAndCouponId(1L, 20L)).isEmpty();
+        assertThat(repository.findByUserIdAndCouponId(2L, 10L)).isEmpty();
+        assertThat(repository.findByUserIdAndCouponId(3L, 10L)).isEmpty();
+        assertThat(repository.findByUserIdAndCouponId(2L, 20L)).isPresent();
+    }
+
     @Test
     @DisplayName("사용자 ID와 상태로 쿠폰 목록을 조회할 수 있다")
     void findByUserIdAndStatus_성공() {
@@ -8,8 +8,13 @@ import com.hhplus.hhplus_ecommerce.coupon.domain.UserCoupon;
 import com.hhplus.hhplus_ecommerce.coupon.repository.UserCouponRepository;
 import com.hhplus.hhplus_ecommerce.order.OrderStatus;
 import com.hhplus.hhplus_ecommerce.order.domain.Order;
+import com.hhplus.hhplus_ecommerce.order.domain.OrderItem;
 import com.hhplus.hhplus_ecommerce.order.repository.OrderRepository;
+import com.hhplus.hhplus_ecommerce.product.ReservationStatus;
+import com.hhplus.hhplus_ecommerce.product.application.ProductService;
+import com.hhplus.hhplus_ecommerce.product.application.StockReservationService;
 import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.domain.StockReservation;
 import com.hhplus.hhplus_ecommerce.product.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,8 +24,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -43,7 +51,10 @@ class OrderServiceTest {
     private UserCouponRepository userCouponRepository;
 
     @Mock
-    private com.hhplus.hhplus_ecommerce.common.lock.LockManager lockManager;
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private ProductService productService;
 
     @InjectMocks
     private OrderService orderService;
@@ -53,6 +64,7 @@ class OrderServiceTest {
     private Long cartItemId;
     private Product product;
     private CartItem cartItem;
+    private StockReservation reservation;
 
     @BeforeEach
     void setUp() {
@@ -77,12 +89,12 @@ class OrderServiceTest {
                 .quantity(2)
                 .build();
 
-        // LockManager Mock 공통 설정 (lenient)
-        lenient().doAnswer(invocation -> {
-            Runnable action = invocation.getArgument(1);
-            action.run();
-            return null;
-        }).when(lockManager).executeWithLock(anyString(), any(Runnable.class));
+        reservation = StockReservation.builder()
+                .id(1L)
+                .quantities(Map.of(productId, 2))
+                .status(ReservationStatus.RESERVED)
+                .expiresAt(LocalDateTime.now().plusMinutes(15))
+                .build();
     }
 
     @Test
@@ -90,16 +102,8 @@ class OrderServiceTest {
     void createOrder_성공() {
         // given
         given(cartItemRepository.findById(cartItemId)).willReturn(Optional.of(cartItem));
-        given(productRepository.findById(productId)).willReturn(Optional.of(product));
-
-        // LockManager Mock: executeWithLock 호출 시 action 실행
-        willAnswer(invocation -> {
-            Runnable action = invocation.getArgument(1);
-            action.run();
-            return null;
-        }).given(lockManager).executeWithLock(anyString(), any(Runnable.class));
-
-        given(productRepository.save(any(Product.class))).willReturn(product);
+        given(productRepository.findAllById(Set.of(productId))).willReturn(Map.of(productId, product));
+        given(stockReservationService.reserve(Map.of(productId, 2))).willReturn(reservation);
         given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -112,7 +116,7 @@ class OrderServiceTest {
                 () -> assertThat(result.getTotalAmount()).isEqualTo(2000000),
                 () -> assertThat(result.getStatus()).isEqualTo(OrderStatus.PENDING)
         );
-        verify(lockManager).executeWithLock(eq("product:" + productId), any(Runnable.class));
+        assertThat(result.getReservationId()).isEqualTo(reservation.getId());
         verify(orderRepository).save(any(Order.class));
     }
 
@@ -132,16 +136,8 @@ class OrderServiceTest {
                 .build();
 
         given(cartItemRepository.findById(cartItemId)).willReturn(Optional.of(cartItem));
-        given(productRepository.findById(productId)).willReturn(Optional.of(product));
-
-        // LockManager Mock
-        willAnswer(invocation -> {
-            Runnable action = invocation.getArgument(1);
-            action.run();
-            return null;
-        }).given(lockManager).executeWithLock(anyString(), any(Runnable.class));
-
-        given(productRepository.save(any(Product.class))).willReturn(product);
+        given(productRepository.findAllById(Set.of(productId))).willReturn(Map.of(productId, product));
+        given(stockReservationService.reserve(Map.of(productId, 2))).willReturn(reservation);
         given(userCouponRepository.findByUserIdAndCouponId(userId, couponId))
                 .willReturn(Optional.of(userCoupon));
         given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
@@ -201,12 +197,33 @@ class OrderServiceTest {
                 .build();
 
         given(cartItemRepository.findById(cartItemId)).willReturn(Optional.of(cartItem));
-        given(productRepository.findById(productId)).willReturn(Optional.of(lowStockProduct));
+        given(productRepository.findAllById(Set.of(productId))).willReturn(Map.of(productId, lowStockProduct));
+        given(stockReservationService.reserve(Map.of(productId, 2)))
+                .willThrow(new BusinessException(ErrorCode.PRODUCT_INSUFFICIENT_STOCK));
 
         // when & then
         assertThatThrownBy(() -> orderService.createOrder(userId, List.of(cartItemId), null))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_INSUFFICIENT_STOCK);
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("쿠폰을 사용할 수 없어 주문이 실패하면 예약한 재고를 반환한다")
+    void createOrder_쿠폰사용불가_재고반환() {
+        // given
+        Long couponId = 1L;
+        given(cartItemRepository.findById(cartItemId)).willReturn(Optional.of(cartItem));
+        given(productRepository.findAllById(Set.of(productId))).willReturn(Map.of(productId, product));
+        given(stockReservationService.reserve(Map.of(productId, 2))).willReturn(reservation);
+        given(userCouponRepository.findByUserIdAndCouponId(userId, couponId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder(userId, List.of(cartItemId), couponId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_FOUND);
+        verify(stockReservationService).release(reservation.getId());
+        verify(orderRepository, never()).save(any(Order.class));
     }
 
     @Test
@@ -279,4 +296,144 @@ class OrderServiceTest {
         verify(orderRepository).save(order);
         assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("주문을 취소하면 재고 예약을 반환한다")
+    void cancelOrder_재고예약반환() {
+        // given
+        Long orderId = 1L;
+        Order order = Order.builder()
+                .id(orderId)
+                .userId(userId)
+                .reservationId(reservation.getId())
+                .status(OrderStatus.PENDING)
+                .items(List.of())
+                .build();
+
+        given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+        given(stockReservationService.release(reservation.getId())).willReturn(true);
+
+        // when
+        orderService.cancelOrder(orderId);
+
+        // then
+        verify(stockReservationService).release(reservation.getId());
+        verify(productService, never()).increaseStock(any(), anyInt());
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("재고 예약이 없는 주문을 취소하면 ProductService로 상품별 재고를 복구한다")
+    void cancelOrder_예약없음_재고복구() {
+        // given
+        Long orderId = 1L;
+        Order order = Order.builder()
+                .id(orderId)
+                .userId(userId)
+                .status(OrderStatus.PENDING)
+                .items(List.of(OrderItem.create(product, 2)))
+                .build();
+
+        given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+
+        // when
+        orderService.cancelOrder(orderId);
+
+        // then
+        verify(productService).increaseStock(productId, 2);
+        verify(productRepository, never()).increaseStock(any(), anyInt());
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("재고 예약이 이미 만료되어 재고가 돌아갔으면 복구 없이 취소한다")
+    void cancelOrder_예약만료_복구없이취소() {
+        // given
+        Long orderId = 1L;
+        Order order = Order.builder()
+                .id(orderId)
+                .userId(userId)
+                .reservationId(reservation.getId())
+                .status(OrderStatus.PENDING)
+                .items(List.of(OrderItem.create(product, 2)))
+                .build();
+        reservation.expire();
+
+        given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+        given(stockReservationService.release(reservation.getId())).willReturn(false);
+        given(stockReservationService.getReservation(reservation.getId())).willReturn(reservation);
+
+        // when
+        orderService.cancelOrder(orderId);
+
+        // then
+        verify(productService, never()).increaseStock(any(), anyInt());
+        verify(orderRepository).save(order);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("재고 예약이 확정되었거나 결제가 진행 중이면 취소할 수 없다")
+    void cancelOrder_예약확정_예외() {
+        // given
+        Long orderId = 1L;
+        Order order = Order.builder()
+                .id(orderId)
+                .userId(userId)
+                .reservationId(reservation.getId())
+                .status(OrderStatus.PENDING)
+                .items(List.of())
+                .build();
+        StockReservation paying = StockReservation.builder()
+                .id(2L)
+                .status(ReservationStatus.RESERVED)
+                .build();
+        Order payingOrder = Order.builder()
+                .id(2L)
+                .userId(userId)
+                .reservationId(paying.getId())
+                .status(OrderStatus.PENDING)
+                .items(List.of())
+                .build();
+        reservation.commit();
+
+        given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+        given(orderRepository.findById(2L)).willReturn(Optional.of(payingOrder));
+        given(stockReservationService.release(anyLong())).willReturn(false);
+        given(stockReservationService.getReservation(reservation.getId())).willReturn(reservation);
+        given(stockReservationService.getReservation(paying.getId())).willReturn(paying);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.cancelOrder(orderId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_CANNOT_CANCEL);
+        assertThatThrownBy(() -> orderService.cancelOrder(2L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_CANNOT_CANCEL);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(payingOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("완료된 주문은 재고를 건드리지 않고 취소를 거절한다")
+    void cancelOrder_완료된주문_예외() {
+        // given
+        Long orderId = 1L;
+        Order order = Order.builder()
+                .id(orderId)
+                .userId(userId)
+                .status(OrderStatus.COMPLETED)
+                .items(List.of(OrderItem.create(product, 2)))
+                .build();
+
+        given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.cancelOrder(orderId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_CANNOT_CANCEL);
+        verify(productService, never()).increaseStock(any(), anyInt());
+        verify(stockReservationService, never()).release(any());
+    }
+}
@@ -12,8 +12,7 @@ import com.hhplus.hhplus_ecommerce.point.domain.Point;
 import com.hhplus.hhplus_ecommerce.point.domain.PointTransaction;
 import com.hhplus.hhplus_ecommerce.point.repository.PointRepository;
 import com.hhplus.hhplus_ecommerce.point.repository.PointTransactionRepository;
-import com.hhplus.hhplus_ecommerce.product.domain.Product;
-import com.hhplus.hhplus_ecommerce.product.repository.ProductRepository;
+import com.hhplus.hhplus_ecommerce.product.application.StockReservationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -45,7 +44,7 @@ class PaymentServiceTest {
     private UserCouponRepository userCouponRepository;
 
     @Mock
-    private ProductRepository productRepository;
+    private StockReservationService stockReservationService;
 
     @InjectMocks
     private PaymentService paymentService;
@@ -54,20 +53,14 @@ class PaymentServiceTest {
     private Long orderId;
     private Order order;
     private Point point;
-    private Product product;
+    private Long reservationId;
 
     @BeforeEach
     void setUp() {
         userId = 1L;
         orderId = 1L;
 
-        product = Product.builder()
-                .id(1L)
-                .name("노트북")
-                .price(1000000)
-                .stock(10)
-                .category("전자제품")
-                .build();
+        reservationId = 1L;
 
         OrderItem orderItem = OrderItem.builder()
                 .productId(1L)
@@ -80,6 +73,7 @@ class PaymentServiceTest {
         order = Order.builder()
                 .id(orderId)
                 .userId(userId)
+                .reservationId(reservationId)
                 .items(List.of(orderItem))
                 .totalAmount(1000000)
                 .discountAmount(0)
@@ -92,6 +86,13 @@ class PaymentServiceTest {
                 .userId(userId)
                 .amount(1500000)
                 .build();
+
+        // 재고 예약 확정 시 결제 작업을 바로 실행 (lenient)
+        lenient().when(stockReservationService.commit(eq(reservationId), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(1).run();
+                    return null;
+                });
     }
 
     @Test
@@ -100,7 +101,6 @@ class PaymentServiceTest {
         // given
         given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
         given(pointRepository.findByUserId(userId)).willReturn(Optional.of(point));
-        given(productRepository.findById(1L)).willReturn(Optional.of(product));
         given(pointRepository.save(any(Point.class))).willAnswer(inv -> inv.getArgument(0));
         given(pointTransactionRepository.save(any(PointTransaction.class))).willAnswer(inv -> inv.getArgument(0));
         given(orderRepository.save(any(Order.class))).willAnswer(inv -> inv.getArgument(0));
@@ -112,6 +112,7 @@ class PaymentServiceTest {
         verify(pointRepository).save(point);
         verify(pointTransactionRepository).save(any(PointTransaction.class));
         verify(orderRepository).save(order);
+        verify(stockReservationService).commit(eq(reservationId), any(Runnable.class));
         assertThat(order.getStatus()).isEqualTo(OrderStatus.COMPLETED);
         assertThat(point.getAmount()).isEqualTo(500000);  // 1500000 - 1000000
     }
@@ -143,7 +144,6 @@ class PaymentServiceTest {
 
         given(orderRepository.findById(orderId)).willReturn(Optional.of(orderWithCoupon));
         given(pointRepository.findByUserId(userId)).willReturn(Optional.of(point));
-        given(productRepository.findById(1L)).willReturn(Optional.of(product));
         given(userCouponRepository.findByUserIdAndCouponId(userId, couponId))
                 .willReturn(Optional.of(userCoupon));
         given(pointRepository.save(any(Point.class))).willAnswer(inv -> inv.getArgument(0));
@@ -223,24 +223,20 @@ class PaymentServiceTest {
     }
 
     @Test
-    @DisplayName("재고가 부족하면 결제할 수 없다")
-    void executePayment_재고부족_예외() {
+    @DisplayName("재고 예약이 만료된 주문은 결제할 수 없고 취소된다")
+    void executePayment_재고예약만료_예외() {
         // given
-        Product lowStockProduct = Product.builder()
-                .id(1L)
-                .name("노트북")
-                .price(1000000)
-                .stock(0)  // 재고 없음
-                .category("전자제품")
-                .build();
-
         given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
         given(pointRepository.findByUserId(userId)).willReturn(Optional.of(point));
-        given(productRepository.findById(1L)).willReturn(Optional.of(lowStockProduct));
+        given(stockReservationService.commit(eq(reservationId), any(Runnable.class)))
+                .willThrow(new BusinessException(ErrorCode.STOCK_RESERVATION_EXPIRED));
 
         // when & then
         assertThatThrownBy(() -> paymentService.executePayment(userId, orderId))
                 .isInstanceOf(BusinessException.class)
-                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_INSUFFICIENT_STOCK);
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STOCK_RESERVATION_EXPIRED);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(point.getAmount()).isEqualTo(1500000);
+        verify(orderRepository).save(order);
     }
-}
\ No newline at end of file
+}
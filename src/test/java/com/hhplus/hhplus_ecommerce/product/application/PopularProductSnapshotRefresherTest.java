@@ -0,0 +1,102 @@
+package com.hhplus.hhplus_ecommerce.product.application;
+
+import com.hhplus.hhplus_ecommerce.product.domain.PopularProduct;
+import com.hhplus.hhplus_ecommerce.product.domain.PopularProductSnapshot;
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopularProductSnapshotRefresherTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private PopularProductSnapshotRefresher refresher;
+
+    private List<PopularProduct> popularProducts;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.builder()
+                .id(1L)
+                .name("노트북")
+                .price(1000000)
+                .stock(10)
+                .category("전자제품")
+                .build();
+        popularProducts = List.of(new PopularProduct(product, 30));
+    }
+
+    @Test
+    @DisplayName("갱신하면 지원하는 기간마다 스냅샷을 만들고, 조회 시 저장소를 다시 조회하지 않는다")
+    void refresh_스냅샷조회() {
+        // given
+        given(productRepository.findPopularProducts(any(LocalDateTime.class), eq(5))).willReturn(popularProducts);
+
+        // when
+        refresher.refresh();
+        PopularProductSnapshot first = refresher.getSnapshot(3);
+        PopularProductSnapshot second = refresher.getSnapshot(3);
+
+        // then
+        verify(productRepository, times(3)).findPopularProducts(any(LocalDateTime.class), eq(5));
+        assertThat(first).isSameAs(second);
+        assertThat(first.getDays()).isEqualTo(3);
+        assertThat(first.getProducts()).extracting(PopularProduct::getSalesCount).containsExactly(30L);
+    }
+
+    @Test
+    @DisplayName("다시 갱신하면 새 스냅샷으로 교체된다")
+    void refresh_교체() {
+        // given
+        given(productRepository.findPopularProducts(any(LocalDateTime.class), eq(5))).willReturn(popularProducts);
+        refresher.refresh();
+        PopularProductSnapshot before = refresher.getSnapshot(7);
+
+        // when
+        refresher.refresh();
+
+        // then
+        assertThat(refresher.getSnapshot(7)).isNotSameAs(before);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 기간은 바로 계산한다")
+    void getSnapshot_미지원기간() {
+        // given
+        given(productRepository.findPopularProducts(any(LocalDateTime.class), eq(5))).willReturn(popularProducts);
+
+        // when
+        PopularProductSnapshot snapshot = refresher.getSnapshot(14);
+
+        // then
+        assertThat(snapshot.getDays()).isEqualTo(14);
+        verify(productRepository).findPopularProducts(any(LocalDateTime.class), eq(5));
+    }
+
+    @Test
+    @DisplayName("스냅샷 목록은 변경할 수 없다")
+    void snapshot_불변() {
+        // given
+        PopularProductSnapshot snapshot = new PopularProductSnapshot(3, popularProducts, LocalDateTime.now());
+
+        // when & then
+        assertThatThrownBy(() -> snapshot.getProducts().add(popularProducts.get(0)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
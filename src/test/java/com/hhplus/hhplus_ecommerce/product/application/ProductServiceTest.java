@@ -1,20 +1,36 @@
 package com.hhplus.hhplus_ecommerce.product.application;
 
+import com.hhplus.hhplus_ecommerce.common.concurrency.ConcurrencyStrategy;
 import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
 import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
+import com.hhplus.hhplus_ecommerce.product.StockAdjustmentStatus;
+import com.hhplus.hhplus_ecommerce.product.domain.PopularProduct;
+import com.hhplus.hhplus_ecommerce.product.domain.PopularProductSnapshot;
 import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductCursor;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductPage;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductPriceChangedEvent;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductSlice;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductSort;
+import com.hhplus.hhplus_ecommerce.product.domain.StockAdjustment;
+import com.hhplus.hhplus_ecommerce.product.domain.StockAdjustmentResult;
 import com.hhplus.hhplus_ecommerce.product.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -26,7 +42,13 @@ class ProductServiceTest {
     private ProductRepository productRepository;
 
     @Mock
-    private com.hhplus.hhplus_ecommerce.common.lock.LockManager lockManager;
+    private PopularProductSnapshotRefresher popularProductSnapshotRefresher;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ConcurrencyStrategy concurrencyStrategy;
 
     @InjectMocks
     private ProductService productService;
@@ -46,12 +68,11 @@ class ProductServiceTest {
                 .category("전자제품")
                 .build();
 
-        // LockManager Mock 공통 설정 (lenient)
-        lenient().doAnswer(invocation -> {
-            Runnable action = invocation.getArgument(1);
-            action.run();
-            return null;
-        }).when(lockManager).executeWithLock(anyString(), any(Runnable.class));
+        // 동시성 제어 전략 대역: 키를 보유한 것처럼 작업을 바로 실행
+        lenient().when(concurrencyStrategy.execute(anyString(), BDDMockito.<Supplier<Object>>any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(concurrencyStrategy.executeAll(anyCollection(), BDDMockito.<Supplier<Object>>any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
     }
 
     @Test
@@ -81,6 +102,132 @@ class ProductServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("상품 재고를 조회할 수 있다")
+    void getStock_성공() {
+        // given
+        given(productRepository.findById(productId)).willReturn(Optional.of(product));
+
+        // when
+        int stock = productService.getStock(productId);
+
+        // then
+        assertThat(stock).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("재고를 원자적으로 차감할 수 있다")
+    void decreaseStock_성공() {
+        // given
+        given(productRepository.tryDecreaseStock(productId, 3)).willReturn(true);
+
+        // when
+        productService.decreaseStock(productId, 3);
+
+        // then
+        verify(productRepository).tryDecreaseStock(productId, 3);
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 차감되지 않고 예외가 발생한다")
+    void decreaseStock_재고부족_예외() {
+        // given
+        given(productRepository.tryDecreaseStock(productId, 30)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> productService.decreaseStock(productId, 30))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_INSUFFICIENT_STOCK);
+    }
+
+    @Test
+    @DisplayName("선택된 동시성 제어 전략으로 상품 키를 보유한 상태에서 차감한다")
+    void decreaseStock_전략_상품키로_실행() {
+        // given
+        given(productRepository.tryDecreaseStock(productId, 3)).willReturn(true);
+
+        // when
+        productService.decreaseStock(productId, 3);
+
+        // then
+        verify(concurrencyStrategy).execute(eq("product:" + productId), BDDMockito.<Supplier<Object>>any());
+        verify(productRepository).tryDecreaseStock(productId, 3);
+    }
+
+    @Test
+    @DisplayName("차감 수량이 0 이하면 재고를 건드리지 않고 예외가 발생한다")
+    void decreaseStock_수량0이하_예외() {
+        // when & then
+        assertThatThrownBy(() -> productService.decreaseStock(productId, 0))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> productService.decreaseStock(productId, -3))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        verify(productRepository, never()).tryDecreaseStock(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("재고를 원자적으로 증가시킬 수 있다")
+    void increaseStock_성공() {
+        // when
+        productService.increaseStock(productId, 3);
+
+        // then
+        verify(concurrencyStrategy).execute(eq("product:" + productId), BDDMockito.<Supplier<Object>>any());
+        verify(productRepository).increaseStock(productId, 3);
+    }
+
+    @Test
+    @DisplayName("증가 수량이 0 이하면 재고를 건드리지 않고 예외가 발생한다")
+    void increaseStock_수량0이하_예외() {
+        // when & then
+        assertThatThrownBy(() -> productService.increaseStock(productId, 0))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> productService.increaseStock(productId, null))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        verify(productRepository, never()).increaseStock(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("배타적 전략이면 주문 상품 키를 모두 보유한 상태에서 재고를 먼저 확인하고 하나라도 부족하면 차감하지 않는다")
+    void decreaseStocks_배타적전략_재고확인() {
+        // given
+        Product mouse = Product.builder().id(2L).name("마우스").price(50000).stock(1).category("전자제품").build();
+        given(concurrencyStrategy.isExclusive()).willReturn(true);
+        given(productRepository.findAllById(anyCollection())).willReturn(Map.of(productId, product, 2L, mouse));
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(productId, 2);
+        quantities.put(2L, 5);
+
+        // when & then
+        assertThatThrownBy(() -> productService.decreaseStocks(quantities))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_INSUFFICIENT_STOCK);
+        verify(concurrencyStrategy).executeAll(eq(List.of("product:1", "product:2")), BDDMockito.<Supplier<Object>>any());
+        verify(productRepository, never()).tryDecreaseStock(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Lock 없는 전략에서 여러 상품 재고 차감 중 하나라도 부족하면 이미 차감한 재고를 복구한다")
+    void decreaseStocks_재고부족_복구() {
+        // given
+        given(productRepository.tryDecreaseStock(1L, 2)).willReturn(true);
+        given(productRepository.tryDecreaseStock(2L, 5)).willReturn(false);
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(1L, 2);
+        quantities.put(2L, 5);
+
+        // when & then
+        assertThatThrownBy(() -> productService.decreaseStocks(quantities))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_INSUFFICIENT_STOCK);
+        verify(productRepository).increaseStock(1L, 2);
+        verify(productRepository, never()).increaseStock(eq(2L), anyInt());
+    }
+
     @Test
     @DisplayName("모든 상품 목록을 조회할 수 있다")
     void getProducts_성공() {
@@ -130,4 +277,214 @@ class ProductServiceTest {
         assertThat(result).hasSize(1);
         verify(productRepository).findTopSellingProducts(any(LocalDateTime.class), eq(5));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("인기 상품은 미리 계산된 스냅샷으로 조회한다")
+    void getPopularProducts_스냅샷() {
+        // given
+        PopularProductSnapshot snapshot = new PopularProductSnapshot(
+                3, List.of(new PopularProduct(product, 10)), LocalDateTime.now());
+        given(popularProductSnapshotRefresher.getSnapshot(3)).willReturn(snapshot);
+
+        // when
+        PopularProductSnapshot result = productService.getPopularProducts(3);
+
+        // then
+        assertThat(result).isSameAs(snapshot);
+        verify(productRepository, never()).findPopularProducts(any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("키워드가 있으면 검색 결과 페이지를 조회한다")
+    void getProducts_키워드검색() {
+        // given
+        ProductPage page = new ProductPage(List.of(product), 1, 0, 10);
+        given(productRepository.search("노트북", 0, 10)).willReturn(page);
+
+        // when
+        ProductPage result = productService.getProducts("노트북", 0, 10);
+
+        // then
+        assertThat(result).isSameAs(page);
+        verify(productRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("키워드가 없으면 상품ID 인덱스를 커서로 이어 읽어 상품ID순 페이지를 조회한다")
+    void getProducts_전체() {
+        // given: 첫 페이지(상품 1)를 커서로 넘기고 두 번째 페이지(상품 2) 조회
+        Product other = Product.builder().id(2L).name("마우스").price(50000).stock(5).category("전자제품").build();
+        ProductCursor afterFirst = new ProductCursor(productId, productId);
+        given(productRepository.findPage(null, 1, ProductSort.ID))
+                .willReturn(new ProductSlice(List.of(product), afterFirst));
+        given(productRepository.findPage(afterFirst, 1, ProductSort.ID))
+                .willReturn(new ProductSlice(List.of(other), null));
+        given(productRepository.count()).willReturn(2L);
+
+        // when
+        ProductPage result = productService.getProducts(null, 1, 1);
+
+        // then
+        assertThat(result.getProducts()).extracting(Product::getId).containsExactly(2L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+        verify(productRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("키워드 없이 마지막 페이지를 넘겨 조회하면 빈 페이지를 반환한다")
+    void getProducts_전체_범위초과() {
+        // given
+        given(productRepository.findPage(null, 10, ProductSort.ID))
+                .willReturn(new ProductSlice(List.of(product), null));
+        given(productRepository.count()).willReturn(1L);
+
+        // when
+        ProductPage result = productService.getProducts(null, 3, 10);
+
+        // then
+        assertThat(result.getProducts()).isEmpty();
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(productRepository, times(1)).findPage(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("페이지 번호가 음수이면 예외가 발생한다")
+    void getProducts_잘못된페이지_예외() {
+        // when & then
+        assertThatThrownBy(() -> productService.getProducts(null, -1, 10))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    @Test
+    @DisplayName("커서 문자열을 해석하여 다음 상품 조각을 조회한다")
+    void getProductSlice_커서() {
+        // given
+        ProductSlice slice = new ProductSlice(List.of(product), null);
+        given(productRepository.findPage(any(ProductCursor.class), eq(10), eq(ProductSort.PRICE_ASC))).willReturn(slice);
+
+        // when
+        ProductSlice result = productService.getProductSlice("2000000_15", 10, ProductSort.PRICE_ASC);
+
+        // then
+        assertThat(result).isSameAs(slice);
+        verify(productRepository).findPage(
+                argThat(cursor -> cursor.getSortValue() == 2000000L && cursor.getProductId() == 15L),
+                eq(10), eq(ProductSort.PRICE_ASC));
+    }
+
+    @Test
+    @DisplayName("커서 형식이 잘못되면 예외가 발생한다")
+    void getProductSlice_잘못된커서_예외() {
+        // when & then
+        assertThatThrownBy(() -> productService.getProductSlice("abc", 10, ProductSort.ID))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        verify(productRepository, never()).findPage(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("여러 상품을 한 번에 조회할 수 있다")
+    void getProducts_일괄조회() {
+        // given
+        given(productRepository.findAllById(List.of(productId))).willReturn(Map.of(productId, product));
+
+        // when
+        Map<Long, Product> result = productService.getProducts(List.of(productId));
+
+        // then
+        assertThat(result).containsEntry(productId, product);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 중 없는 상품이 있으면 예외가 발생한다")
+    void getProducts_일괄조회_상품없음_예외() {
+        // given
+        given(productRepository.findAllById(List.of(productId, 999L))).willReturn(Map.of(productId, product));
+
+        // when & then
+        assertThatThrownBy(() -> productService.getProducts(List.of(productId, 999L)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("재고 일괄 조정은 상품별로 묶어 한 번씩 반영하고 요청 순서대로 결과를 반환한다")
+    void adjustStocks_상품별_묶음() {
+        // given
+        given(productRepository.adjustStock(1L, List.of(-3, -20))).willReturn(new boolean[]{true, false});
+        given(productRepository.adjustStock(2L, List.of(5))).willReturn(new boolean[]{true});
+
+        // when
+        List<StockAdjustmentResult> results = productService.adjustStocks(List.of(
+                new StockAdjustment(1L, -3),
+                new StockAdjustment(2L, 5),
+                new StockAdjustment(1L, -20)));
+
+        // then
+        assertThat(results).extracting(StockAdjustmentResult::getStatus).containsExactly(
+                StockAdjustmentStatus.APPLIED,
+                StockAdjustmentStatus.APPLIED,
+                StockAdjustmentStatus.INSUFFICIENT_STOCK);
+        verify(productRepository, times(2)).adjustStock(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("재고 일괄 조정 중 없는 상품의 건은 실패로 표시하고 나머지는 반영한다")
+    void adjustStocks_상품없음() {
+        // given
+        given(productRepository.adjustStock(999L, List.of(-1)))
+                .willThrow(new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+        given(productRepository.adjustStock(productId, List.of(-1))).willReturn(new boolean[]{true});
+
+        // when
+        List<StockAdjustmentResult> results = productService.adjustStocks(List.of(
+                new StockAdjustment(999L, -1),
+                new StockAdjustment(productId, -1)));
+
+        // then
+        assertThat(results).extracting(StockAdjustmentResult::getStatus).containsExactly(
+                StockAdjustmentStatus.PRODUCT_NOT_FOUND,
+                StockAdjustmentStatus.APPLIED);
+    }
+
+    @Test
+    @DisplayName("가격을 바꾸면 가격만 변경하고 가격 변경 이벤트를 발행한다")
+    void changePrice_이벤트발행() {
+        // given
+        Product changed = Product.builder()
+                .id(productId)
+                .name("노트북")
+                .price(1200000)
+                .stock(7)
+                .build();
+        given(productRepository.changePrice(productId, 1200000)).willReturn(1000000);
+        given(productRepository.findById(productId)).willReturn(Optional.of(changed));
+
+        // when
+        Product result = productService.changePrice(productId, 1200000);
+
+        // then
+        assertThat(result.getPrice()).isEqualTo(1200000);
+        assertThat(result.getStock()).isEqualTo(7);
+        verify(productRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ProductPriceChangedEvent priceChanged
+                && priceChanged.getProductId().equals(productId)
+                && priceChanged.getPrice() == 1200000));
+    }
+
+    @Test
+    @DisplayName("같은 가격으로 바꾸면 이벤트를 발행하지 않는다")
+    void changePrice_같은가격() {
+        // given
+        given(productRepository.changePrice(productId, product.getPrice())).willReturn(product.getPrice());
+        given(productRepository.findById(productId)).willReturn(Optional.of(product));
+
+        // when
+        productService.changePrice(productId, product.getPrice());
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -128,4 +128,29 @@ class ProductTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_INVALID_STOCK);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("가격을 변경할 수 있다")
+    void changePrice_성공() {
+        // given
+        Product product = Product.create("노트북", "고성능", 1000000, 10, "전자제품");
+
+        // when
+        product.changePrice(1200000);
+
+        // then
+        assertThat(product.getPrice()).isEqualTo(1200000);
+    }
+
+    @Test
+    @DisplayName("가격을 음수로 변경하면 예외가 발생한다")
+    void changePrice_음수_예외() {
+        // given
+        Product product = Product.create("노트북", "고성능", 1000000, 10, "전자제품");
+
+        // when & then
+        assertThatThrownBy(() -> product.changePrice(-1))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_INVALID_PRICE);
+    }
+}
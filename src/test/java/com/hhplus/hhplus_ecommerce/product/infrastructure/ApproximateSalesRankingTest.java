@@ -0,0 +1,58 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ApproximateSalesRankingTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long NOW = 1_000 * MINUTE;
+
+    @Test
+    @DisplayName("일부 버킷에서 추적되지 않은 상품도 합산 추정치가 실제 판매량의 상한/하한 범위를 지킨다")
+    void top_추적되지않은버킷_오차범위() {
+        // given: 버킷당 카운터 2개
+        ApproximateSalesRanking ranking = new ApproximateSalesRanking(Duration.ofMinutes(1), Duration.ofMinutes(60), 0.5);
+        // 첫 버킷: 상품 3이 들어오면서 상품 2(8개)의 카운터를 넘겨받음
+        ranking.record(1L, 10, NOW - 5 * MINUTE);
+        ranking.record(2L, 8, NOW - 5 * MINUTE);
+        ranking.record(3L, 1, NOW - 5 * MINUTE);
+        // 다음 버킷: 상품 2만 판매
+        ranking.record(2L, 20, NOW);
+        Map<Long, Long> actual = Map.of(1L, 10L, 2L, 28L, 3L, 1L);
+
+        // when
+        List<SalesEstimate> result = ranking.top(NOW - 10 * MINUTE, NOW, 3);
+
+        // then
+        assertThat(result).isNotEmpty();
+        for (SalesEstimate estimate : result) {
+            long sold = actual.get(estimate.getProductId());
+            assertThat(estimate.getCount()).isGreaterThanOrEqualTo(sold);
+            assertThat(estimate.getCount() - estimate.getError()).isLessThanOrEqualTo(sold);
+        }
+        assertThat(result.get(0).getProductId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("버킷마다 카운터는 capacity개까지만 유지된다")
+    void capacity_오차율() {
+        // given
+        ApproximateSalesRanking ranking = new ApproximateSalesRanking(Duration.ofHours(1), Duration.ofDays(7), 0.001);
+
+        // when
+        for (long productId = 1; productId <= 5_000; productId++) {
+            ranking.record(productId, 1, NOW);
+        }
+
+        // then
+        assertThat(ranking.getCapacity()).isEqualTo(1000);
+        assertThat(ranking.top(NOW, NOW, 5_000)).hasSize(1000);
+    }
+}
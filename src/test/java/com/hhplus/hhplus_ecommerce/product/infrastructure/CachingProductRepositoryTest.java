@@ -0,0 +1,135 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CachingProductRepositoryTest {
+
+    private InMemoryProductRepository delegate;
+    private CachingProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new InMemoryProductRepository();
+        repository = new CachingProductRepository(delegate, 100);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 캐시에서 조회한다")
+    void findById_캐시적중() {
+        // given
+        Product saved = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+
+        // when
+        repository.findById(saved.getId());
+        Product cached = repository.findById(saved.getId()).orElseThrow();
+
+        // then
+        assertThat(cached.getName()).isEqualTo("노트북");
+        assertThat(repository.getCacheStats().getHits()).isEqualTo(1);
+        assertThat(repository.getCacheStats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재고가 바뀌면 캐시된 상품의 재고만 고치고 항목은 유지한다")
+    void tryDecreaseStock_재고만갱신() {
+        // given
+        Product saved = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+        repository.findById(saved.getId());
+
+        // when
+        repository.tryDecreaseStock(saved.getId(), 3);
+        repository.increaseStock(saved.getId(), 1);
+        boolean overdrawn = repository.tryDecreaseStock(saved.getId(), 100);
+        Product cached = repository.findById(saved.getId()).orElseThrow();
+
+        // then
+        assertThat(overdrawn).isFalse();
+        assertThat(cached.getStock()).isEqualTo(8);
+        assertThat(delegate.findById(saved.getId()).orElseThrow().getStock()).isEqualTo(8);
+        assertThat(repository.getCacheStats().getHits()).isEqualTo(1);
+        assertThat(repository.getCacheStats().getInvalidations()).isZero();
+    }
+
+    @Test
+    @DisplayName("재고 여러 건을 조정하면 적용된 건만큼 캐시된 재고를 고친다")
+    void adjustStock_재고만갱신() {
+        // given
+        Product saved = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+        repository.findById(saved.getId());
+
+        // when
+        boolean[] applied = repository.adjustStock(saved.getId(), List.of(-4, -8, 3));
+        Product cached = repository.findById(saved.getId()).orElseThrow();
+
+        // then
+        assertThat(applied).containsExactly(true, false, true);
+        assertThat(cached.getStock()).isEqualTo(9);
+        assertThat(repository.getCacheStats().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상품을 저장하면 캐시된 상품을 제거하여 바뀐 정보를 조회한다")
+    void save_캐시무효화() {
+        // given
+        Product saved = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+        repository.findById(saved.getId());
+
+        // when
+        repository.save(Product.builder()
+                .id(saved.getId())
+                .name("노트북")
+                .description("고성능")
+                .price(900000)
+                .stock(10)
+                .category("전자제품")
+                .build());
+        Product result = repository.findById(saved.getId()).orElseThrow();
+
+        // then
+        assertThat(result.getPrice()).isEqualTo(900000);
+        assertThat(repository.getCacheStats().getInvalidations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 상품 조회 시 하나라도 캐시에 없으면 전체를 원본에서 조회하고 캐시에 채운다")
+    void findAllById_부분적중_전체원본조회() {
+        // given: 첫 상품만 캐시된 뒤 원본에서 직접 재고가 바뀜 (캐시된 값과 원본이 다름)
+        Product first = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+        Product second = repository.save(Product.create("마우스", "무선", 50000, 20, "전자제품"));
+        repository.findById(first.getId());
+        delegate.tryDecreaseStock(first.getId(), 3);
+
+        // when
+        Map<Long, Product> result = repository.findAllById(List.of(first.getId(), second.getId(), 999L));
+
+        // then: 캐시 항목과 섞지 않고 원본 한 시점의 값으로 반환
+        assertThat(result).containsOnlyKeys(first.getId(), second.getId());
+        assertThat(result.get(first.getId()).getStock()).isEqualTo(7);
+        assertThat(repository.getCacheStats().getSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 상품이 모두 캐시에 있으면 원본을 조회하지 않는다")
+    void findAllById_전체적중() {
+        // given
+        Product first = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+        Product second = repository.save(Product.create("마우스", "무선", 50000, 20, "전자제품"));
+        repository.findAllById(List.of(first.getId(), second.getId()));
+        delegate.tryDecreaseStock(first.getId(), 3);
+
+        // when
+        Map<Long, Product> result = repository.findAllById(List.of(first.getId(), second.getId()));
+
+        // then: 원본을 거치지 않은 변경은 보이지 않음 (캐시에서 반환)
+        assertThat(result.get(first.getId()).getStock()).isEqualTo(10);
+        assertThat(repository.getCacheStats().getHits()).isEqualTo(2);
+    }
+}
\ No newline at end of file
@@ -1,12 +1,19 @@
 package com.hhplus.hhplus_ecommerce.product.infrastructure;
 
+import com.hhplus.hhplus_ecommerce.common.exception.BusinessException;
+import com.hhplus.hhplus_ecommerce.common.exception.ErrorCode;
 import com.hhplus.hhplus_ecommerce.product.domain.Product;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductPage;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductSlice;
+import com.hhplus.hhplus_ecommerce.product.domain.ProductSort;
+import com.hhplus.hhplus_ecommerce.product.repository.ProductSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -55,9 +62,114 @@ class InMemoryProductRepositoryTest {
                 .build();
         Product result = repository.save(updated);
 
-        // then
+        // then: 재고는 원자적 재고 연산으로만 바뀌므로 저장해도 현재 재고 유지
         assertThat(result.getPrice()).isEqualTo(900000);
-        assertThat(result.getStock()).isEqualTo(5);
+        assertThat(result.getStock()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("조회 이후 재고가 차감된 상품을 저장해도 차감된 재고가 되돌아가지 않는다")
+    void save_오래된재고_유지() {
+        // given: 일반 상품과 인기 상품(분할 재고)을 조회해 둔 뒤 재고 차감
+        Product normal = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+        Product hot = repository.save(Product.create("마우스", "무선", 50000, 10, "전자제품"));
+        repository.markHot(hot.getId(), 4);
+        Product staleNormal = repository.findById(normal.getId()).get();
+        Product staleHot = repository.findById(hot.getId()).get();
+        repository.tryDecreaseStock(normal.getId(), 3);
+        repository.tryDecreaseStock(hot.getId(), 4);
+
+        // when: 조회해 둔 상품의 가격만 바꿔 저장
+        staleNormal.changePrice(900000);
+        staleHot.changePrice(40000);
+        repository.save(staleNormal);
+        repository.save(staleHot);
+
+        // then
+        assertThat(repository.findById(normal.getId()).get().getStock()).isEqualTo(7);
+        assertThat(repository.findById(normal.getId()).get().getPrice()).isEqualTo(900000);
+        assertThat(repository.findById(hot.getId()).get().getStock()).isEqualTo(6);
+        assertThat(repository.findById(hot.getId()).get().getPrice()).isEqualTo(40000);
+    }
+
+    @Test
+    @DisplayName("재고를 원자적으로 차감/증가할 수 있고, 부족하면 차감하지 않는다")
+    void tryDecreaseStock_increaseStock() {
+        // given
+        Product saved = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+
+        // when & then
+        assertThat(repository.tryDecreaseStock(saved.getId(), 7)).isTrue();
+        assertThat(repository.tryDecreaseStock(saved.getId(), 4)).isFalse();
+        repository.increaseStock(saved.getId(), 2);
+        assertThat(repository.findById(saved.getId()).orElseThrow().getStock()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품의 재고를 차감하면 예외가 발생한다")
+    void tryDecreaseStock_상품없음_예외() {
+        assertThatThrownBy(() -> repository.tryDecreaseStock(999L, 1))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("인기 상품으로 지정해도 조회/차감/증가 결과는 동일하다")
+    void markHot_분할재고_투명성() {
+        // given
+        Product saved = repository.save(Product.create("한정판 운동화", "선착순", 200000, 10, "패션"));
+
+        // when
+        repository.markHot(saved.getId(), 4);
+
+        // then
+        assertThat(repository.findById(saved.getId()).orElseThrow().getStock()).isEqualTo(10);
+        assertThat(repository.tryDecreaseStock(saved.getId(), 9)).isTrue();
+        assertThat(repository.tryDecreaseStock(saved.getId(), 2)).isFalse();
+        repository.increaseStock(saved.getId(), 3);
+        assertThat(repository.findById(saved.getId()).orElseThrow().getStock()).isEqualTo(4);
+        assertThat(repository.findAll().get(0).getStock()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("스냅샷은 연 시점의 가격과 재고를 계속 보여 준다")
+    void openSnapshot_시점고정() {
+        // given
+        Product saved = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+
+        // when
+        try (ProductSnapshot snapshot = repository.openSnapshot()) {
+            repository.tryDecreaseStock(saved.getId(), 3);
+            repository.save(Product.builder()
+                    .id(saved.getId())
+                    .name("노트북")
+                    .description("고성능")
+                    .price(900000)
+                    .stock(7)
+                    .category("전자제품")
+                    .build());
+            Product added = repository.save(Product.create("마우스", "무선", 50000, 20, "전자제품"));
+
+            // then
+            Product asOf = snapshot.findById(saved.getId()).orElseThrow();
+            assertThat(asOf.getPrice()).isEqualTo(1000000);
+            assertThat(asOf.getStock()).isEqualTo(10);
+            assertThat(snapshot.findById(added.getId())).isEmpty();
+            assertThat(repository.findById(saved.getId()).orElseThrow().getPrice()).isEqualTo(900000);
+        }
+    }
+
+    @Test
+    @DisplayName("조회한 상품을 변경해도 저장소의 상품은 바뀌지 않는다")
+    void findById_사본반환() {
+        // given
+        Product saved = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+
+        // when
+        repository.findById(saved.getId()).orElseThrow().decreaseStock(4);
+
+        // then
+        assertThat(repository.findById(saved.getId()).orElseThrow().getStock()).isEqualTo(10);
     }
 
     @Test
@@ -99,6 +211,20 @@ class InMemoryProductRepositoryTest {
         assertThat(products).hasSize(2);
     }
 
+    @Test
+    @DisplayName("전체 상품 수를 조회할 수 있고 기존 상품을 다시 저장해도 늘어나지 않는다")
+    void count_성공() {
+        // given
+        Product laptop = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+        repository.save(Product.create("마우스", "무선", 50000, 20, "전자제품"));
+
+        // when
+        repository.save(laptop);
+
+        // then
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("카테고리로 상품을 조회할 수 있다")
     void findByCategory_성공() {
@@ -114,6 +240,138 @@ class InMemoryProductRepositoryTest {
         assertThat(electronics).hasSize(2);
     }
 
+    @Test
+    @DisplayName("카테고리가 바뀐 상품은 새 카테고리로만 조회된다")
+    void findByCategory_카테고리변경() {
+        // given
+        Product saved = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+        Product moved = Product.builder()
+                .id(saved.getId())
+                .name(saved.getName())
+                .description(saved.getDescription())
+                .price(saved.getPrice())
+                .stock(saved.getStock())
+                .category("사무용품")
+                .build();
+
+        // when
+        repository.save(moved);
+
+        // then
+        assertThat(repository.findByCategory("전자제품")).isEmpty();
+        assertThat(repository.findByCategory("사무용품")).extracting(Product::getId).containsExactly(saved.getId());
+    }
+
+    @Test
+    @DisplayName("키워드로 상품을 검색하고 이름이 바뀌면 새 이름으로 검색된다")
+    void search_이름변경() {
+        // given
+        Product saved = repository.save(Product.create("맥북 프로 16인치", "고성능", 3000000, 10, "전자제품"));
+        repository.save(Product.create("무선 마우스", "맥북 호환", 50000, 20, "전자제품"));
+
+        // when
+        ProductPage before = repository.search("맥북", 0, 10);
+        repository.save(Product.builder()
+                .id(saved.getId())
+                .name("아이패드 프로")
+                .description(saved.getDescription())
+                .price(saved.getPrice())
+                .stock(saved.getStock())
+                .category(saved.getCategory())
+                .build());
+        ProductPage after = repository.search("맥북", 0, 10);
+
+        // then
+        assertThat(before.getTotalElements()).isEqualTo(2);
+        assertThat(before.getProducts().get(0).getId()).isEqualTo(saved.getId());
+        assertThat(after.getProducts()).extracting(Product::getName).containsExactly("무선 마우스");
+    }
+
+    @Test
+    @DisplayName("여러 상품을 한 번에 조회하고 없는 상품ID는 결과에서 제외한다")
+    void findAllById_성공() {
+        // given
+        Product first = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+        Product second = repository.save(Product.create("마우스", "무선", 50000, 20, "전자제품"));
+
+        // when
+        Map<Long, Product> result = repository.findAllById(List.of(first.getId(), second.getId(), 999L));
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(first.getId()).getName()).isEqualTo("노트북");
+        assertThat(result.get(second.getId()).getName()).isEqualTo("마우스");
+    }
+
+    @Test
+    @DisplayName("커서로 상품ID순 목록을 끝까지 이어서 조회할 수 있다")
+    void findPage_상품ID순_커서() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            repository.save(Product.create("상품" + i, "설명", 1000 * i, 10, "전자제품"));
+        }
+
+        // when
+        ProductSlice first = repository.findPage(null, 2, ProductSort.ID);
+        ProductSlice second = repository.findPage(first.getNextCursor(), 2, ProductSort.ID);
+        ProductSlice last = repository.findPage(second.getNextCursor(), 2, ProductSort.ID);
+
+        // then
+        assertThat(first.getProducts()).extracting(Product::getId).containsExactly(1L, 2L);
+        assertThat(second.getProducts()).extracting(Product::getId).containsExactly(3L, 4L);
+        assertThat(last.getProducts()).extracting(Product::getId).containsExactly(5L);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("가격 내림차순 목록은 가격이 같으면 상품ID 내림차순이고 가격이 바뀌면 새 위치에 나온다")
+    void findPage_가격내림차순_가격변경() {
+        // given
+        Product a = repository.save(Product.create("A", "설명", 3000, 10, "전자제품"));
+        Product b = repository.save(Product.create("B", "설명", 1000, 10, "전자제품"));
+        Product c = repository.save(Product.create("C", "설명", 3000, 10, "전자제품"));
+
+        // when
+        ProductSlice before = repository.findPage(null, 10, ProductSort.PRICE_DESC);
+        repository.save(Product.builder()
+                .id(b.getId())
+                .name(b.getName())
+                .description(b.getDescription())
+                .price(5000)
+                .stock(b.getStock())
+                .category(b.getCategory())
+                .createdAt(b.getCreatedAt())
+                .build());
+        ProductSlice after = repository.findPage(null, 10, ProductSort.PRICE_DESC);
+
+        // then
+        assertThat(before.getProducts()).extracting(Product::getId).containsExactly(c.getId(), a.getId(), b.getId());
+        assertThat(after.getProducts()).extracting(Product::getId).containsExactly(b.getId(), c.getId(), a.getId());
+    }
+
+    @Test
+    @DisplayName("가격만 변경하면 이전 가격을 반환하고 재고와 가격 정렬 위치가 함께 맞춰진다")
+    void changePrice_가격만_변경() {
+        // given
+        Product a = repository.save(Product.create("A", "설명", 3000, 10, "전자제품"));
+        Product b = repository.save(Product.create("B", "설명", 1000, 10, "전자제품"));
+        repository.tryDecreaseStock(b.getId(), 4);
+
+        // when
+        Integer previousPrice = repository.changePrice(b.getId(), 5000);
+
+        // then
+        Product changed = repository.findById(b.getId()).orElseThrow();
+        assertThat(previousPrice).isEqualTo(1000);
+        assertThat(changed.getPrice()).isEqualTo(5000);
+        assertThat(changed.getStock()).isEqualTo(6);
+        assertThat(repository.findPage(null, 10, ProductSort.PRICE_DESC).getProducts())
+                .extracting(Product::getId).containsExactly(b.getId(), a.getId());
+        assertThatThrownBy(() -> repository.changePrice(999L, 5000))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_NOT_FOUND);
+    }
+
     @Test
     @DisplayName("인기 상품을 조회할 수 있다")
     void findTopSellingProducts_성공() {
@@ -135,6 +393,44 @@ class InMemoryProductRepositoryTest {
         assertThat(topProducts.get(1).getName()).isEqualTo("노트북");  // 100 sales
     }
 
+    @Test
+    @DisplayName("인기 상품은 조회 기간 안의 판매량만으로 집계한다")
+    void findTopSellingProducts_기간외판매제외() {
+        // given
+        Product p1 = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+        Product p2 = repository.save(Product.create("마우스", "무선", 50000, 20, "전자제품"));
+
+        repository.recordSale(p1.getId(), 500, LocalDateTime.now().minusDays(5));  // 기간 밖
+        repository.recordSale(p1.getId(), 10, LocalDateTime.now().minusDays(1));
+        repository.recordSale(p2.getId(), 30, LocalDateTime.now().minusHours(2));
+
+        // when
+        List<Product> topProducts = repository.findTopSellingProducts(LocalDateTime.now().minusDays(3), 5);
+
+        // then
+        assertThat(topProducts).extracting(Product::getName).containsExactly("마우스", "노트북");
+    }
+
+    @Test
+    @DisplayName("근사 집계 모드에서도 많이 팔린 상품을 조회할 수 있다")
+    void findTopSellingProducts_근사집계() {
+        // given
+        repository.configureRanking(SalesRankingMode.APPROXIMATE, 0.01);
+        Product p1 = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+        Product p2 = repository.save(Product.create("마우스", "무선", 50000, 20, "전자제품"));
+        Product p3 = repository.save(Product.create("키보드", "기계식", 100000, 15, "전자제품"));
+
+        repository.recordSale(p1.getId(), 100);
+        repository.recordSale(p2.getId(), 200);
+        repository.recordSale(p3.getId(), 50);
+
+        // when
+        List<Product> topProducts = repository.findTopSellingProducts(LocalDateTime.now().minusDays(3), 2);
+
+        // then
+        assertThat(topProducts).extracting(Product::getName).containsExactly("마우스", "노트북");
+    }
+
     @Test
     @DisplayName("판매 기록을 누적할 수 있다")
     void recordSale_누적() {
@@ -150,6 +446,35 @@ class InMemoryProductRepositoryTest {
         assertThat(topProducts).hasSize(1);
     }
 
+    @Test
+    @DisplayName("한 상품의 재고 여러 건을 순서대로 조정하고, 재고가 부족한 건은 건너뛴다")
+    void adjustStock_순서대로_적용() {
+        // given
+        Product product = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+
+        // when
+        boolean[] applied = repository.adjustStock(product.getId(), List.of(-4, -8, 3, -8));
+
+        // then: 10 - 4 = 6, -8 건너뜀, 6 + 3 = 9, 9 - 8 = 1
+        assertThat(applied).containsExactly(true, false, true, true);
+        assertThat(repository.findById(product.getId()).get().getStock()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인기 상품도 재고 여러 건을 조정할 수 있다")
+    void adjustStock_인기상품() {
+        // given
+        Product product = repository.save(Product.create("노트북", "고성능", 1000000, 10, "전자제품"));
+        repository.markHot(product.getId(), 4);
+
+        // when
+        boolean[] applied = repository.adjustStock(product.getId(), List.of(-4, -8, 3));
+
+        // then
+        assertThat(applied).containsExactly(true, false, true);
+        assertThat(repository.findById(product.getId()).get().getStock()).isEqualTo(9);
+    }
+
     @Test
     @DisplayName("저장소를 초기화할 수 있다")
     void clear_성공() {
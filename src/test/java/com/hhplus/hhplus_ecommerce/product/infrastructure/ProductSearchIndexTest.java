@@ -0,0 +1,98 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.index(1L, "맥북 프로 16인치", "고성능 노트북");
+        index.index(2L, "맥북 에어", "가벼운 노트북");
+        index.index(3L, "노트북 파우치", "맥북 프로 16인치 호환");
+    }
+
+    @Test
+    @DisplayName("띄어쓰기와 관계없이 이름에 포함된 검색어를 찾는다")
+    void search_띄어쓰기무관() {
+        // when & then
+        assertThat(search("맥북프로")).containsExactly(1L, 3L);
+        assertThat(search("맥북 프로")).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("이름 앞부분 일치 > 이름 포함 > 설명 포함 순으로 정렬한다")
+    void search_순위() {
+        // when & then
+        assertThat(search("노트북")).containsExactly(3L, 1L, 2L);
+        assertThat(search("16인치")).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("검색어의 n-gram이 모두 있어도 이어져 있지 않으면 제외한다")
+    void search_연속되지않은ngram제외() {
+        // given: "프로"와 "에어"는 있지만 "프로에어"는 없음
+        index.index(4L, "프로 에어", "");
+
+        // when & then
+        assertThat(search("에어프로")).isEmpty();
+        assertThat(search("프로에어")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("1글자 검색과 영문 대소문자 무시 검색을 지원한다")
+    void search_한글자_대소문자() {
+        // given
+        index.index(5L, "MacBook Pro", "");
+
+        // when & then
+        assertThat(search("에")).containsExactly(2L);
+        assertThat(search("macbook")).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("이름이 바뀌면 이전 이름으로는 검색되지 않는다")
+    void index_재색인() {
+        // when
+        index.index(2L, "아이패드", "태블릿");
+
+        // then
+        assertThat(search("맥북에어")).isEmpty();
+        assertThat(search("아이패드")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("공백이나 특수문자만 있는 검색어는 결과가 없다")
+    void search_빈검색어() {
+        // when & then
+        assertThat(search("  !! ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("순위순 결과를 구간으로 나눠 조회하고 전체 결과 수를 함께 반환한다")
+    void search_페이지() {
+        // given: 이름이 "케이스"로 시작하는 상품 30개
+        for (long id = 10; id < 40; id++) {
+            index.index(id, "케이스 " + id, "");
+        }
+
+        // when
+        ProductSearchIndex.SearchResult result = index.search("케이스", 10, 5);
+
+        // then
+        assertThat(result.getTotalCount()).isEqualTo(30);
+        assertThat(result.getProductIds()).containsExactly(20L, 21L, 22L, 23L, 24L);
+    }
+
+    private List<Long> search(String keyword) {
+        return index.search(keyword, 0, 100).getProductIds();
+    }
+}
@@ -0,0 +1,76 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SalesRankingTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long NOW = 1_000 * MINUTE;
+
+    @Test
+    @DisplayName("구간 안 버킷의 판매량을 합산하여 상위 상품을 판매량 순으로 반환한다")
+    void top_구간합산() {
+        // given
+        SalesRanking ranking = new SalesRanking(Duration.ofMinutes(1), Duration.ofMinutes(60));
+        ranking.record(1L, 10, NOW - 30 * MINUTE);
+        ranking.record(2L, 15, NOW - 20 * MINUTE);
+        ranking.record(1L, 10, NOW - 5 * MINUTE);
+        ranking.record(3L, 5, NOW);
+
+        // when
+        List<SalesEstimate> result = ranking.top(NOW - 40 * MINUTE, NOW, 2);
+
+        // then
+        assertThat(result).extracting(SalesEstimate::getProductId).containsExactly(1L, 2L);
+        assertThat(result).extracting(SalesEstimate::getCount).containsExactly(20L, 15L);
+    }
+
+    @Test
+    @DisplayName("시작 시각 이전 버킷의 판매량은 합산하지 않는다")
+    void top_시작시각이전제외() {
+        // given
+        SalesRanking ranking = new SalesRanking(Duration.ofMinutes(1), Duration.ofMinutes(60));
+        ranking.record(1L, 100, NOW - 30 * MINUTE);
+        ranking.record(2L, 1, NOW - 5 * MINUTE);
+
+        // when
+        List<SalesEstimate> result = ranking.top(NOW - 10 * MINUTE, NOW, 5);
+
+        // then
+        assertThat(result).extracting(SalesEstimate::getProductId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 버킷은 재사용되어 더 이상 집계되지 않는다")
+    void record_보관기간초과() {
+        // given: 10분 보관
+        SalesRanking ranking = new SalesRanking(Duration.ofMinutes(1), Duration.ofMinutes(10));
+        ranking.record(1L, 100, NOW);
+
+        // when: 같은 링 자리에 10분 뒤 판매 기록
+        ranking.record(2L, 1, NOW + 10 * MINUTE);
+        ranking.record(3L, 50, NOW - 20 * MINUTE);  // 보관 기간 밖 과거 판매는 무시
+
+        // then
+        assertThat(ranking.top(NOW - 60 * MINUTE, NOW + 10 * MINUTE, 5)).extracting(SalesEstimate::getProductId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("판매량이 같으면 상품ID 오름차순으로 정렬한다")
+    void top_동률() {
+        // given
+        SalesRanking ranking = new SalesRanking(Duration.ofMinutes(1), Duration.ofMinutes(60));
+        ranking.record(3L, 7, NOW);
+        ranking.record(1L, 7, NOW);
+        ranking.record(2L, 7, NOW);
+
+        // when & then
+        assertThat(ranking.top(NOW - MINUTE, NOW, 2)).extracting(SalesEstimate::getProductId).containsExactly(1L, 2L);
+    }
+}
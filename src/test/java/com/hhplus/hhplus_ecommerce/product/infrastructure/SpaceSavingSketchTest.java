@@ -0,0 +1,74 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SpaceSavingSketchTest {
+
+    @Test
+    @DisplayName("카운터 개수 안에서는 판매량을 정확히 센다")
+    void offer_정확() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(3);
+
+        // when
+        sketch.offer(1L, 5);
+        sketch.offer(2L, 3);
+        sketch.offer(1L, 2);
+
+        // then
+        List<SalesEstimate> estimates = sketch.estimates();
+        assertThat(estimates).extracting(SalesEstimate::getProductId).containsExactly(1L, 2L);
+        assertThat(estimates.get(0).getCount()).isEqualTo(7);
+        assertThat(estimates.get(0).getError()).isZero();
+        assertThat(sketch.untrackedBound()).isZero();
+    }
+
+    @Test
+    @DisplayName("카운터가 가득 차면 가장 작은 카운터를 넘겨받고 그 값을 오차로 기록한다")
+    void offer_교체() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(2);
+        sketch.offer(1L, 10);
+        sketch.offer(2L, 4);
+
+        // when
+        sketch.offer(3L, 1);
+
+        // then
+        List<SalesEstimate> estimates = sketch.estimates();
+        assertThat(estimates).extracting(SalesEstimate::getProductId).containsExactly(1L, 3L);
+        assertThat(estimates.get(1).getCount()).isEqualTo(5);
+        assertThat(estimates.get(1).getError()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("상품 수가 카운터보다 훨씬 많아도 많이 팔린 상품은 오차 범위 안에서 추적된다")
+    void offer_오차범위() {
+        // given: 카운터 100개, 상품 10,000개 중 상품 1~5가 전체의 절반
+        SpaceSavingSketch sketch = new SpaceSavingSketch(100);
+        Random random = new Random(42);
+        long[] exact = new long[10_001];
+        for (int i = 0; i < 200_000; i++) {
+            long productId = i % 2 == 0 ? 1 + random.nextInt(5) : 1 + random.nextInt(10_000);
+            sketch.offer(productId, 1);
+            exact[(int) productId]++;
+        }
+
+        // then: 추정치 - 오차 <= 실제 판매량 <= 추정치, 오차는 전체 판매량 / 카운터 개수 이하
+        List<SalesEstimate> top = sketch.estimates().subList(0, 5);
+        assertThat(top).extracting(SalesEstimate::getProductId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        for (SalesEstimate estimate : top) {
+            long actual = exact[estimate.getProductId().intValue()];
+            assertThat(estimate.getCount()).isGreaterThanOrEqualTo(actual);
+            assertThat(estimate.getCount() - estimate.getError()).isLessThanOrEqualTo(actual);
+            assertThat(estimate.getError()).isLessThanOrEqualTo(sketch.total() / 100);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.hhplus.hhplus_ecommerce.product.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StripedStockTest {
+
+    @Test
+    @DisplayName("초기 재고는 셀에 나눠 담기고 합계는 그대로 유지된다")
+    void create_재고분배() {
+        // when
+        StripedStock stock = new StripedStock(4, 10);
+
+        // then
+        assertThat(stock.available()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("한 셀의 재고보다 많은 수량도 셀을 모아서 차감할 수 있다")
+    void tryDecrease_재분배_성공() {
+        // given: 셀 4개에 3, 3, 2, 2
+        StripedStock stock = new StripedStock(4, 10);
+
+        // when
+        boolean result = stock.tryDecrease(9);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(stock.available()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 재고보다 많은 수량은 차감되지 않는다")
+    void tryDecrease_재고부족_실패() {
+        // given
+        StripedStock stock = new StripedStock(4, 10);
+
+        // when
+        boolean result = stock.tryDecrease(11);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(stock.available()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("재고를 증가시킬 수 있다")
+    void increase() {
+        // given
+        StripedStock stock = new StripedStock(4, 0);
+
+        // when & then
+        stock.increase(5);
+        assertThat(stock.available()).isEqualTo(5);
+        assertThat(stock.tryDecrease(5)).isTrue();
+        assertThat(stock.available()).isZero();
+    }
+}